@@ -15,9 +15,8 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import javax.inject.Provider;
 
@@ -33,19 +32,17 @@ import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 
 import elemental2.promise.Promise;
 
-import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toList;
-
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.HOSTS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
@@ -55,14 +52,18 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNNING;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SELECT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVICE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WHERE;
-import static org.jboss.hal.flow.Flow.sequential;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeList;
 
 public final class FindNonProgressingTask implements Task<FlowContext> {
 
+    private static final Logger logger = LoggerFactory.getLogger(FindNonProgressingTask.class);
+    /** Number of find-non-progressing-operation operations per composite */
+    private static final int BATCH_SIZE = 10;
+    /** Number of composites executed in parallel */
+    private static final int MAX_PARALLEL = 4;
     private static final String EQ = "=";
     private static final String WILDCARD = "*";
     private static final AddressTemplate MGMT_OPERATIONS_TEMPLATE = AddressTemplate
@@ -96,91 +97,151 @@ public final class FindNonProgressingTask implements Task<FlowContext> {
                         return Promise.resolve(context);
                     });
         } else {
-
-            // return running hosts, to later call a find-non-progressing-operation on each host
-            Task<FlowContext> hostsTask = c -> {
-                ResourceAddress address = new ResourceAddress();
-                Operation operation = new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
-                        .param(CHILD_TYPE, HOST)
-                        .build();
-                return dispatcher.execute(operation)
-                        .then(result -> {
-                            List<String> hosts = result.asList().stream()
-                                    .map(ModelNode::asString)
-                                    .collect(toList());
-                            return c.resolve(HOSTS, hosts);
-                        });
-            };
-
-            // return running servers, to later call a find-non-progressing-operation on each runtime server
-            Task<FlowContext> serversTask = c -> {
-                // /host=*/server=*:query(select=[host,name],where={server-state=running})
-                ResourceAddress address = new ResourceAddress()
-                        .add(HOST, WILDCARD)
-                        .add(SERVER, WILDCARD);
-                Operation operation = new Operation.Builder(address, QUERY)
-                        .param(SELECT, new ModelNode().add(HOST).add(NAME))
-                        .param(WHERE, new ModelNode().set(SERVER_STATE, RUNNING))
-                        .build();
-                return dispatcher.execute(operation)
-                        .then(result -> {
-                            List<String> servers = Collections.emptyList();
-                            if (result != null && result.isDefined()) {
-                                servers = result.asList().stream()
-                                        .map(r -> hostServerAddress(r.get(RESULT)))
-                                        .collect(Collectors.toList());
-                            }
-                            return c.resolve(SERVERS, servers);
-                        });
-            };
-
-            // call find-non-progressing-operation on each host and server
-            Task<FlowContext> findNonProgressingTask = c -> {
-
-                List<String> hosts = c.get(HOSTS);
-                List<String> servers = c.get(SERVERS);
-
-                Composite composite = new Composite();
-                for (String host : hosts) {
-                    ResourceAddress address = new ResourceAddress().add(HOST, host)
-                            .add(CORE_SERVICE, MANAGEMENT)
-                            .add(SERVICE, MANAGEMENT_OPERATIONS);
-                    Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
-                    composite.add(operation);
-                }
-                if (!servers.isEmpty()) {
-                    for (String server : servers) {
-                        ResourceAddress address = AddressTemplate.of(server)
-                                .append(MGMT_OPERATIONS_TEMPLATE)
-                                .resolve(statementContext);
-                        Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
-                        composite.add(operation);
-                    }
-                }
-                return dispatcher.execute(composite)
-                        .then(result -> {
-                            boolean nonProgressingOp = false;
-                            for (ModelNode r : result) {
-                                ModelNode findResult = r.get(RESULT);
-                                if (findResult != null && findResult.isDefined()) {
-                                    nonProgressingOp = true;
-                                    break;
-                                }
-                            }
-                            return c.resolve("nonProgressingOp", nonProgressingOp);
-                        });
-            };
-
-            return sequential(new FlowContext(progress.get()), asList(hostsTask, serversTask, findNonProgressingTask))
-                    .then(c -> {
-                        boolean nonProgressingOp = c.get("nonProgressingOp");
+            Progress p = progress.get();
+            long start = System.currentTimeMillis();
+            return targets()
+                    .then(targets -> {
+                        List<Composite> batches = batches(targets);
+                        // one tick for the targets, one per batch and one for the duration
+                        p.reset(batches.size() + 2);
+                        p.tick();
+                        return new FanOut(batches, p).run();
+                    })
+                    .then(nonProgressingOp -> {
+                        long duration = System.currentTimeMillis() - start;
+                        logger.debug("find-non-progressing-operation took {} ms, found: {}", duration, nonProgressingOp);
+                        p.tick(duration + " ms"); // NON-NLS
+                        p.finish();
                         eventBus.fireEvent(new NonProgressingOperationEvent(nonProgressingOp));
                         return Promise.resolve(context);
                     });
         }
     }
 
+    /**
+     * Reads the hosts and the running servers using one composite operation and returns the addresses of their management
+     * operations services. The hosts come first.
+     */
+    private Promise<List<ResourceAddress>> targets() {
+        Operation hostsOp = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, HOST)
+                .build();
+        // /host=*/server=*:query(select=[host,name],where={server-state=running})
+        ResourceAddress serversAddress = new ResourceAddress()
+                .add(HOST, WILDCARD)
+                .add(SERVER, WILDCARD);
+        Operation serversOp = new Operation.Builder(serversAddress, QUERY)
+                .param(SELECT, new ModelNode().add(HOST).add(NAME))
+                .param(WHERE, new ModelNode().set(SERVER_STATE, RUNNING))
+                .build();
+        return dispatcher.execute(new Composite(hostsOp, serversOp))
+                .then(result -> {
+                    List<ResourceAddress> targets = new ArrayList<>();
+                    for (ModelNode host : failSafeList(result.step(0), RESULT)) {
+                        targets.add(new ResourceAddress().add(HOST, host.asString())
+                                .add(CORE_SERVICE, MANAGEMENT)
+                                .add(SERVICE, MANAGEMENT_OPERATIONS));
+                    }
+                    for (ModelNode server : failSafeList(result.step(1), RESULT)) {
+                        if (!server.isFailure()) {
+                            targets.add(AddressTemplate.of(hostServerAddress(server.get(RESULT)))
+                                    .append(MGMT_OPERATIONS_TEMPLATE)
+                                    .resolve(statementContext));
+                        }
+                    }
+                    return Promise.resolve(targets);
+                });
+    }
+
+    private List<Composite> batches(List<ResourceAddress> targets) {
+        List<Composite> batches = new ArrayList<>();
+        Composite batch = null;
+        for (ResourceAddress address : targets) {
+            if (batch == null || batch.size() == BATCH_SIZE) {
+                batch = new Composite();
+                batches.add(batch);
+            }
+            batch.add(new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build());
+        }
+        return batches;
+    }
+
     private String hostServerAddress(ModelNode model) {
         return HOST + EQ + model.get(HOST).asString() + "/" + SERVER + EQ + model.get(NAME).asString();
     }
+
+    /**
+     * Executes the batches with at most {@value #MAX_PARALLEL} batches in flight. Resolves with {@code true} as soon as one
+     * batch reports a non-progressing operation. The remaining batches are not executed then. Failed batches are logged and
+     * treated as if they had no non-progressing operation.
+     */
+    private class FanOut {
+
+        private final List<Composite> batches;
+        private final Progress progress;
+        private int next;
+        private int running;
+        private boolean done;
+        private Promise.PromiseExecutorCallbackFn.ResolveCallbackFn<Boolean> resolve;
+
+        private FanOut(List<Composite> batches, Progress progress) {
+            this.batches = batches;
+            this.progress = progress;
+        }
+
+        Promise<Boolean> run() {
+            return new Promise<>((resolve, reject) -> {
+                this.resolve = resolve;
+                if (batches.isEmpty()) {
+                    finish(false);
+                } else {
+                    while (running < MAX_PARALLEL && next < batches.size()) {
+                        execute(batches.get(next++));
+                    }
+                }
+            });
+        }
+
+        private void execute(Composite batch) {
+            running++;
+            dispatcher.execute(batch)
+                    .then(result -> {
+                        boolean nonProgressingOp = false;
+                        for (ModelNode r : result) {
+                            ModelNode findResult = r.get(RESULT);
+                            if (findResult != null && findResult.isDefined()) {
+                                nonProgressingOp = true;
+                                break;
+                            }
+                        }
+                        completed(nonProgressingOp);
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.error("find-non-progressing-operation failed: {}", error);
+                        completed(false);
+                        return null;
+                    });
+        }
+
+        private void completed(boolean nonProgressingOp) {
+            running--;
+            if (done) {
+                return;
+            }
+            progress.tick();
+            if (nonProgressingOp) {
+                finish(true);
+            } else if (next < batches.size()) {
+                execute(batches.get(next++));
+            } else if (running == 0) {
+                finish(false);
+            }
+        }
+
+        private void finish(boolean nonProgressingOp) {
+            done = true;
+            resolve.onInvoke(nonProgressingOp);
+        }
+    }
 }
@@ -30,6 +30,9 @@ import elemental2.promise.Promise;
 
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
+import static org.jboss.hal.config.Settings.Key.METADATA_BATCH_SIZE;
+import static org.jboss.hal.config.Settings.Key.METADATA_CACHE_SIZE;
+import static org.jboss.hal.config.Settings.Key.METADATA_PARALLELISM;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
@@ -62,6 +65,9 @@ public final class LoadSettings implements Task<FlowContext> {
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
         settings.load(RUN_AS, null);
+        settings.load(METADATA_BATCH_SIZE, null);
+        settings.load(METADATA_PARALLELISM, null);
+        settings.load(METADATA_CACHE_SIZE, null);
         logger.debug("Load settings: {}", settings);
         return Promise.resolve(context);
     }
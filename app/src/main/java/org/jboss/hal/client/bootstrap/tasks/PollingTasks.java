@@ -20,6 +20,7 @@ import javax.inject.Provider;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
+import org.jboss.hal.core.runtime.PollScheduler;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
@@ -30,13 +31,10 @@ import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 
-import static java.util.Collections.singletonList;
-
-import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
-import static org.jboss.hal.flow.Flow.parallel;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 
 public class PollingTasks implements InitializedTask {
 
@@ -48,16 +46,18 @@ public class PollingTasks implements InitializedTask {
     private final Settings settings;
     private final Provider<Progress> progress;
     private final Environment environment;
+    private final PollScheduler pollScheduler;
 
     @Inject
     public PollingTasks(EventBus eventBus, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            @Footer Provider<Progress> progress, Environment environment) {
+            @Footer Provider<Progress> progress, Environment environment, PollScheduler pollScheduler) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.settings = settings;
         this.progress = progress;
         this.environment = environment;
+        this.pollScheduler = pollScheduler;
     }
 
     @Override
@@ -66,9 +66,10 @@ public class PollingTasks implements InitializedTask {
         int pollTime = settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME);
         logger.info("Polling mechanism is: {}", (pollEnabled ? "on" : "off"));
         if (pollEnabled) {
-            setTimeout(__ -> parallel(new FlowContext(Progress.NOOP), singletonList(
-                    new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext, progress))),
-                    pollTime * 1000);
+            FindNonProgressingTask task = new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext,
+                    progress);
+            pollScheduler.poll(FIND_NON_PROGRESSING_OPERATION, pollTime * 1000L,
+                    () -> task.apply(new FlowContext(Progress.NOOP)));
         }
     }
 }
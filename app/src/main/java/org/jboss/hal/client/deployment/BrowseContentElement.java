@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -60,11 +61,11 @@ import org.jboss.hal.resources.UIConstants;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
 
-import elemental2.core.JsArray;
 import elemental2.dom.File;
 import elemental2.dom.File.ConstructorContentsArrayUnionType;
 import elemental2.dom.HTMLButtonElement;
@@ -73,7 +74,7 @@ import elemental2.dom.HTMLImageElement;
 import elemental2.promise.Promise;
 
 import static java.lang.Math.max;
-import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 
 import static com.google.common.base.Strings.nullToEmpty;
 import static elemental2.dom.DomGlobal.window;
@@ -95,13 +96,14 @@ import static org.jboss.hal.ballroom.Skeleton.applicationHeight;
 import static org.jboss.hal.ballroom.Skeleton.applicationOffset;
 import static org.jboss.hal.client.deployment.ContentParser.NODE_ID;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD_CONTENT;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATHS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE_CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TARGET_PATH;
@@ -131,7 +133,7 @@ import static org.jboss.hal.resources.CSS.vh;
 @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
-    @SuppressWarnings("HardCodedStringLiteral") private static final Set<String> EDITOR_FILE_TYPES = Sets.newHashSet(
+    @SuppressWarnings("HardCodedStringLiteral") static final Set<String> EDITOR_FILE_TYPES = Sets.newHashSet(
             "bash",
             "css",
             "htm",
@@ -191,6 +193,8 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
     private final HTMLElement root;
     private final Search treeSearch;
     private Tree<ContentEntry> tree;
+    private ContentLoader contentLoader;
+    private final ContentBodyCache contentBodyCache;
     private final EmptyState pleaseSelect;
     private final EmptyState deploymentPreview;
     private final EmptyState explodedPreview;
@@ -223,6 +227,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         this.eventBus = eventBus;
         this.resources = resources;
         this.surroundingHeight = 0;
+        this.contentBodyCache = new ContentBodyCache();
 
         treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> tree.search(query))
                 .onClear(() -> tree.clearSearch())
@@ -291,7 +296,11 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                                                             }
                                                         })
                                                         .title(resources.constants().collapse())
-                                                        .add(i().css(fontAwesome("minus"))).element()))
+                                                        .add(i().css(fontAwesome("minus"))).element())
+                                                .add(button().css(btn, btnDefault)
+                                                        .on(click, event -> compareContent())
+                                                        .title(resources.constants().compareContent())
+                                                        .add(i().css(fontAwesome("columns")))))
                                         .add(crudContainer = div().css(btnGroup)
                                                 .add(downloadContentLink = a().css(btn, btnDefault)
                                                         .title(resources.constants().download())
@@ -430,17 +439,36 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void refresh() {
-        String selectedId = selectedId();
+        String selectedPath = selectedEntryPath();
         browseContent()
                 .then(__ -> awaitTreeReady())
                 .then(__ -> {
-                    if (selectedId != null) {
-                        tree.selectNode(selectedId);
+                    if (selectedPath != null) {
+                        select(selectedPath);
                     }
                     return null;
                 });
     }
 
+    private void compareContent() {
+        Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, DEPLOYMENT)
+                .build();
+        dispatcher.execute(operation).then(result -> {
+            List<String> others = result.asList().stream()
+                    .map(ModelNode::asString)
+                    .filter(name -> !name.equals(content.getName()))
+                    .sorted()
+                    .collect(toList());
+            if (others.isEmpty()) {
+                MessageEvent.fire(eventBus, Message.info(resources.messages().noContentToCompare()));
+            } else {
+                new CompareContentDialog(dispatcher, contentBodyCache, resources, content.getName(), others).show();
+            }
+            return null;
+        });
+    }
+
     // ------------------------------------------------------ CRUD content methods
 
     void setContent(Content content) {
@@ -479,7 +507,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        select(path);
                         return null;
                     });
         });
@@ -535,7 +563,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        select(path);
                         return null;
                     });
         });
@@ -553,37 +581,29 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
         form.edit(new ModelNode());
     }
 
-    @SuppressWarnings("unchecked")
+    /** (Re)creates the tree. Directory levels are loaded lazily by the {@link ContentLoader} when a directory is opened. */
     private Promise<Void> browseContent() {
-        ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
-        Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
-        return dispatcher.execute(operation)
-                .then(result -> {
-                    String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
-                    Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName,
-                            new ContentEntry())
-                            .root()
-                            .folder()
-                            .open()
-                            .build();
-                    JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
-
-                    if (tree != null) {
-                        tree.destroy();
-                        tree = null;
-                    }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
-                    Elements.removeChildrenFrom(treeContainer);
-                    treeContainer.appendChild(tree.element());
-                    tree.attach();
-                    tree.onSelectionChange((event, selectionContext) -> {
-                        if (!"ready".equals(selectionContext.action)) { // NON-NLS
-                            onNodeSelected(selectionContext);
-                        }
-                    });
-                    return Promise.resolve((Void) null);
-                });
+        String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
+        Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName, new ContentEntry())
+                .asyncFolder()
+                .open()
+                .build();
+        contentLoader = new ContentLoader(dispatcher, resources, content.getName());
+
+        if (tree != null) {
+            tree.destroy();
+            tree = null;
+        }
+        tree = new Tree<>(Ids.CONTENT_TREE, root, contentLoader);
+        Elements.removeChildrenFrom(treeContainer);
+        treeContainer.appendChild(tree.element());
+        tree.attach();
+        tree.onSelectionChange((event, selectionContext) -> {
+            if (!"ready".equals(selectionContext.action)) { // NON-NLS
+                onNodeSelected(selectionContext);
+            }
+        });
+        return Promise.resolve((Void) null);
     }
 
     private void loadContent(ContentEntry contentEntry, Consumer<String> successCallback) {
@@ -622,7 +642,7 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
                     .then(__ -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().saveContentSuccess(content.getName(), filename)));
-                        tree.selectNode(selection.id);
+                        select(selection.data.path);
                         return null;
                     });
         }
@@ -662,7 +682,12 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
             } else {
                 ContentEntry contentEntry = selection.node.data;
-                if (contentEntry.directory) {
+                if (contentEntry.more) {
+                    contentLoader.showMore(contentEntry.path);
+                    tree.refreshNode(selection.node.parent);
+                    noSelection();
+
+                } else if (contentEntry.directory) {
                     directory();
 
                 } else {
@@ -800,16 +825,36 @@ class BrowseContentElement implements IsElement<HTMLElement>, Attachable {
 
     // ------------------------------------------------------ helper methods
 
-    private String selectedId() {
+    private String selectedEntryPath() {
         if (tree != null) {
             Node<ContentEntry> selection = tree.getSelected();
-            if (selection != null) {
-                return selection.id;
+            if (selection != null && !selection.id.equals(Ids.CONTENT_TREE_ROOT) && !selection.data.more) {
+                return selection.data.path;
             }
         }
         return null;
     }
 
+    /** Opens the parent directories of the specified path one after another and selects the related node. */
+    private void select(String path) {
+        Promise<Void> promise = Promise.resolve((Void) null);
+        List<String> segments = Splitter.on('/').omitEmptyStrings().splitToList(path);
+        StringBuilder directory = new StringBuilder();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            directory.append(segments.get(i)).append('/');
+            String id = NODE_ID.apply(directory.toString());
+            promise = promise.then(__ -> openNode(id));
+        }
+        promise.then(__ -> {
+            tree.selectNode(NODE_ID.apply(path));
+            return null;
+        });
+    }
+
+    private Promise<Void> openNode(String id) {
+        return new Promise<>((resolve, reject) -> tree.openNode(id, () -> resolve.onInvoke((Void) null)));
+    }
+
     private String selectedPath() {
         String path = null;
         Node<ContentEntry> selection = tree.getSelected();
@@ -0,0 +1,277 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.List;
+
+import org.jboss.elemento.Elements;
+import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Resources;
+
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLSelectElement;
+import elemental2.promise.Promise;
+
+import static java.util.Collections.emptyList;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.elemento.Elements.a;
+import static org.jboss.elemento.Elements.li;
+import static org.jboss.elemento.Elements.option;
+import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.pre;
+import static org.jboss.elemento.Elements.select;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.elemento.Elements.ul;
+import static org.jboss.elemento.EventType.change;
+import static org.jboss.elemento.EventType.click;
+import static org.jboss.hal.ballroom.LayoutBuilder.column;
+import static org.jboss.hal.ballroom.LayoutBuilder.row;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.resources.CSS.active;
+import static org.jboss.hal.resources.CSS.clickable;
+import static org.jboss.hal.resources.CSS.fontAwesome;
+import static org.jboss.hal.resources.CSS.formControl;
+import static org.jboss.hal.resources.CSS.listGroup;
+import static org.jboss.hal.resources.CSS.listGroupItem;
+import static org.jboss.hal.resources.CSS.marginRight5;
+import static org.jboss.hal.resources.CSS.marginTopLarge;
+
+/**
+ * Dialog to compare the content of a deployment with the content of another deployment.
+ * <p>
+ * If both deployments have the same content hash, nothing else is read. Otherwise the entries of both deployments are read in
+ * one composite and compared by a {@link ContentDiff}. The diff runs in slices of {@link #DIFF_SLICE} entries per event loop
+ * tick, so large deployments don't block the browser. The content of an entry is only read when the user selects the entry and
+ * is cached in a {@link ContentBodyCache}.
+ */
+class CompareContentDialog {
+
+    static final int DIFF_SLICE = 500;
+    private static final String SCROLLABLE = "max-height: 50vh; overflow: auto"; // NON-NLS
+
+    private final Dispatcher dispatcher;
+    private final ContentBodyCache cache;
+    private final Resources resources;
+    private final String deployment;
+    private final HTMLSelectElement select;
+    private final HTMLElement summary;
+    private final HTMLElement changes;
+    private final HTMLElement leftBody;
+    private final HTMLElement rightBody;
+    private final Dialog dialog;
+    private HTMLElement selectedChange;
+    private int generation;
+
+    CompareContentDialog(Dispatcher dispatcher, ContentBodyCache cache, Resources resources, String deployment,
+            List<String> others) {
+        this.dispatcher = dispatcher;
+        this.cache = cache;
+        this.resources = resources;
+        this.deployment = deployment;
+        this.generation = 0;
+
+        select = select().css(formControl).on(change, event -> compare()).element();
+        for (String other : others) {
+            select.appendChild(option().apply(o -> {
+                o.value = other;
+                o.text = other;
+            }).element());
+        }
+
+        dialog = new Dialog.Builder(resources.constants().compareContent())
+                .add(p().innerHtml(resources.messages().compareContentDescription(deployment)).element())
+                .add(select)
+                .add(summary = p().css(marginTopLarge).element())
+                .add(row()
+                        .add(column(4)
+                                .add(changes = ul().css(listGroup).style(SCROLLABLE).element()))
+                        .add(column(4)
+                                .add(leftBody = pre().style(SCROLLABLE).element()))
+                        .add(column(4)
+                                .add(rightBody = pre().style(SCROLLABLE).element()))
+                        .element())
+                .size(Dialog.Size.MAX)
+                .closeOnly()
+                .closed(() -> generation++)
+                .build();
+    }
+
+    void show() {
+        dialog.show();
+        compare();
+    }
+
+    private void compare() {
+        String other = select.value;
+        int current = ++generation;
+        Elements.removeChildrenFrom(changes);
+        leftBody.textContent = "";
+        rightBody.textContent = "";
+        summary.textContent = "";
+        selectedChange = null;
+
+        Composite hashes = new Composite(contentHash(deployment), contentHash(other));
+        dispatcher.execute(hashes).then(result -> {
+            String leftHash = hex(result.step(0).get(RESULT));
+            String rightHash = hex(result.step(1).get(RESULT));
+            if (!leftHash.isEmpty() && leftHash.equals(rightHash)) {
+                summary.innerHTML = resources.messages().contentIdentical(deployment, other).asString();
+                return null;
+            }
+            Composite entries = new Composite(browseContent(deployment), browseContent(other));
+            return dispatcher.execute(entries).then(entriesResult -> {
+                ContentParser parser = new ContentParser();
+                List<ContentEntry> left = parser.parse("", list(entriesResult.step(0).get(RESULT)));
+                List<ContentEntry> right = parser.parse("", list(entriesResult.step(1).get(RESULT)));
+                ContentDiff diff = new ContentDiff(left, right);
+                nextSlice(current, diff, other, leftHash, rightHash);
+                return null;
+            });
+        });
+    }
+
+    private void nextSlice(int current, ContentDiff diff, String other, String leftHash, String rightHash) {
+        if (current != generation) {
+            return; // another deployment was selected or the dialog was closed
+        }
+        for (ContentDiff.Change change : diff.next(DIFF_SLICE)) {
+            changes.appendChild(changeElement(change, other, leftHash, rightHash));
+        }
+        summary.textContent = resources.messages().contentDiffSummary(diff.added(), diff.removed(), diff.modified(),
+                diff.sameSize());
+        if (!diff.done()) {
+            setTimeout(__ -> nextSlice(current, diff, other, leftHash, rightHash), 0);
+        }
+    }
+
+    private HTMLElement changeElement(ContentDiff.Change change, String other, String leftHash, String rightHash) {
+        String icon;
+        switch (change.status) {
+            case ADDED:
+                icon = "plus"; // NON-NLS
+                break;
+            case REMOVED:
+                icon = "minus"; // NON-NLS
+                break;
+            case SAME_SIZE:
+                icon = "question"; // NON-NLS
+                break;
+            default:
+                icon = "pencil"; // NON-NLS
+                break;
+        }
+        HTMLElement[] element = new HTMLElement[1];
+        element[0] = li().css(listGroupItem)
+                .add(a().css(clickable)
+                        .on(click, event -> {
+                            if (selectedChange != null) {
+                                selectedChange.classList.remove(active);
+                            }
+                            selectedChange = element[0];
+                            selectedChange.classList.add(active);
+                            showBody(element[0], leftBody, deployment, leftHash, change.left);
+                            showBody(element[0], rightBody, other, rightHash, change.right);
+                        })
+                        .add(span().css(fontAwesome(icon), marginRight5))
+                        .add(span().textContent(change.path)))
+                .element();
+        return element[0];
+    }
+
+    private void showBody(HTMLElement selection, HTMLElement body, String name, String hash, ContentEntry entry) {
+        if (entry == null) {
+            body.textContent = "";
+        } else if (!BrowseContentElement.EDITOR_FILE_TYPES.contains(extension(entry.name))) {
+            body.textContent = entry.path + " - " + Format.humanReadableFileSize(entry.fileSize);
+        } else {
+            body.textContent = resources.constants().loading();
+            // unmanaged content can change on disk, so it's not cached
+            Promise<String> promise = hash.isEmpty()
+                    ? readContent(name, entry.path)
+                    : cache.get(hash, entry.path, () -> readContent(name, entry.path));
+            // a slow body must not replace the body of a later selection
+            promise.then(text -> {
+                if (selection == selectedChange) {
+                    body.textContent = text;
+                }
+                return null;
+            }).catch_(error -> {
+                if (selection == selectedChange) {
+                    body.textContent = resources.messages().readContentError(entry.path, String.valueOf(error));
+                }
+                return null;
+            });
+        }
+    }
+
+    private Promise<String> readContent(String name, String path) {
+        Operation operation = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), READ_CONTENT)
+                .param(PATH, path)
+                .build();
+        return dispatcher.download(operation);
+    }
+
+    private Operation contentHash(String name) {
+        return new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, CONTENT)
+                .build();
+    }
+
+    private Operation browseContent(String name) {
+        return new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), BROWSE_CONTENT).build();
+    }
+
+    private List<ModelNode> list(ModelNode node) {
+        return node.isDefined() ? node.asList() : emptyList();
+    }
+
+    private String extension(String name) {
+        int index = name.lastIndexOf('.');
+        return index != -1 && index < name.length() - 1 ? name.substring(index + 1) : "";
+    }
+
+    /** Returns the content hash as hex string or the empty string for unmanaged deployments. */
+    private String hex(ModelNode content) {
+        // for compatibility reasons "content" is a list but there is only one element in it
+        if (!content.isDefined() || content.asList().isEmpty() || !content.get(0).hasDefined(HASH)) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (byte b : content.get(0).get(HASH).asBytes()) {
+            String hex = Integer.toHexString(b & 0xff);
+            if (hex.length() == 1) {
+                builder.append('0');
+            }
+            builder.append(hex);
+        }
+        return builder.toString();
+    }
+}
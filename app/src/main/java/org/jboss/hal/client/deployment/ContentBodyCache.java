@@ -0,0 +1,204 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.hal.db.Document;
+import org.jboss.hal.db.PouchDB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.core.JsArray;
+import elemental2.promise.Promise;
+import jsinterop.base.Js;
+
+/**
+ * Size bounded cache for the content of deployment entries which is kept in the IndexedDB of the browser (using PouchDB).
+ * Entries are keyed by the hash of the deployment content and the path of the entry, so cached entries never get stale.
+ * <p>
+ * The cache keeps an index of the entries and their sizes in memory. If the total size exceeds {@link #BUDGET}, the least
+ * recently used entries are removed from the database. The index is stored in the local document {@value #INDEX} in the order
+ * of access, so neither the bodies need to be read nor the order gets lost when the index is read on first use. Documents which
+ * are not part of the index (e.g. if the browser was closed before the index was written) are removed at that time.
+ */
+class ContentBodyCache {
+
+    /** Budget in characters */
+    static final long BUDGET = 16 * 1024 * 1024;
+    private static final String DATABASE = "hal-content-cache";
+    private static final String BODY = "body";
+    private static final String INDEX = "_local/index";
+    private static final String IDS = "ids";
+    private static final String SIZES = "sizes";
+    private static final String REV = "_rev";
+    private static final Logger logger = LoggerFactory.getLogger(ContentBodyCache.class);
+
+    private final LinkedHashMap<String, Integer> index;
+    private PouchDB database;
+    private Promise<Void> ready;
+    private Promise<Void> saving;
+    private boolean savePending;
+    private long weight;
+
+    ContentBodyCache() {
+        this.index = new LinkedHashMap<>(16, 0.75f, true);
+        this.saving = Promise.resolve((Void) null);
+        this.savePending = false;
+        this.weight = 0;
+    }
+
+    /**
+     * Returns the cached content or uses the loader to load, cache and return the content.
+     *
+     * @param hash the hash of the deployment content as hex string
+     * @param path the path of the entry
+     */
+    Promise<String> get(String hash, String path, Supplier<Promise<String>> loader) {
+        String id = hash + ":" + path;
+        return ready().then(__ -> {
+            if (index.get(id) != null) {
+                saveIndex(); // the access order has changed
+                return database().get(id)
+                        .then(document -> Promise.resolve(document.getAsAny(BODY).asString()))
+                        .catch_(error -> load(id, loader));
+            }
+            return load(id, loader);
+        });
+    }
+
+    private Promise<String> load(String id, Supplier<Promise<String>> loader) {
+        return loader.get().then(body -> {
+            store(id, body);
+            return Promise.resolve(body);
+        });
+    }
+
+    private void store(String id, String body) {
+        Document document = Document.of(id);
+        document.set(BODY, body);
+        database().put(document)
+                .then(__ -> {
+                    Integer previous = index.put(id, body.length());
+                    if (previous != null) {
+                        weight -= previous;
+                    }
+                    weight += body.length();
+                    evict();
+                    saveIndex();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.error("Unable to cache content {}: {}", id, error);
+                    return null;
+                });
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Integer>> iterator = index.entrySet().iterator();
+        // always keep the most recently added entry, even if it exceeds the budget on its own
+        while (weight > BUDGET && index.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Integer> eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.getValue();
+            remove(eldest.getKey());
+        }
+    }
+
+    private void remove(String id) {
+        database().get(id)
+                .then(document -> database().remove(document))
+                .catch_(error -> {
+                    logger.error("Unable to remove content {}: {}", id, error);
+                    return null;
+                });
+    }
+
+    private Promise<Void> ready() {
+        if (ready == null) {
+            ready = database().get(INDEX)
+                    .then(document -> {
+                        JsArray<String> ids = Js.cast(document.get(IDS));
+                        JsArray<Double> sizes = Js.cast(document.get(SIZES));
+                        for (int i = 0; i < ids.length; i++) {
+                            int size = sizes.getAt(i).intValue();
+                            index.put(ids.getAt(i), size);
+                            weight += size;
+                        }
+                        return Promise.resolve((Void) null);
+                    }, error -> Promise.resolve((Void) null)) // no index yet
+                    .then(__ -> database().getAllIds())
+                    .then(ids -> {
+                        for (String id : ids) {
+                            if (!index.containsKey(id)) {
+                                remove(id);
+                            }
+                        }
+                        evict();
+                        saveIndex();
+                        return Promise.resolve((Void) null);
+                    })
+                    .catch_(error -> {
+                        logger.error("Unable to read content cache index: {}", error);
+                        return Promise.resolve((Void) null);
+                    });
+        }
+        return ready;
+    }
+
+    /** Writes the index unless a write is already pending. Writes are serialized to avoid conflicts. */
+    private void saveIndex() {
+        if (!savePending) {
+            savePending = true;
+            saving = saving.then(__ -> {
+                savePending = false;
+                return writeIndex();
+            });
+        }
+    }
+
+    private Promise<Void> writeIndex() {
+        JsArray<String> ids = new JsArray<>();
+        JsArray<Double> sizes = new JsArray<>();
+        for (Map.Entry<String, Integer> entry : index.entrySet()) {
+            ids.push(entry.getKey());
+            sizes.push((double) entry.getValue());
+        }
+        Document document = Document.of(INDEX);
+        document.set(IDS, ids);
+        document.set(SIZES, sizes);
+        return database().get(INDEX)
+                .then(existing -> {
+                    document.set(REV, existing.get(REV));
+                    return database().put(document);
+                }, error -> database().put(document))
+                .then(__ -> Promise.resolve((Void) null))
+                .catch_(error -> {
+                    logger.error("Unable to write content cache index: {}", error);
+                    return Promise.resolve((Void) null);
+                });
+    }
+
+    private PouchDB database() {
+        if (database == null) {
+            database = new PouchDB(DATABASE);
+        }
+        return database;
+    }
+}
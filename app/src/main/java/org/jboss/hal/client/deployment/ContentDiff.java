@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Computes the differences between the files of two deployments. The entries are merged in path order, and the merge is done in
+ * steps of a given size, so that the caller can spread large deployments over several event loop ticks and show the changes
+ * found so far.
+ * <p>
+ * Directories are ignored: added or removed directories show up as added or removed files. The management model doesn't provide
+ * hashes for single entries, so files are compared by size. Files with the same size are reported as {@link Status#SAME_SIZE}:
+ * their content might still differ, and the user can compare the bodies.
+ */
+class ContentDiff {
+
+    enum Status {
+        ADDED, REMOVED, MODIFIED,
+
+        /** Same size, but the content has not been verified */
+        SAME_SIZE
+    }
+
+    static class Change {
+
+        final Status status;
+        final String path;
+        final ContentEntry left;
+        final ContentEntry right;
+
+        Change(Status status, String path, ContentEntry left, ContentEntry right) {
+            this.status = status;
+            this.path = path;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static final Comparator<ContentEntry> BY_PATH = Comparator.comparing(c -> c.path);
+
+    private final List<ContentEntry> left;
+    private final List<ContentEntry> right;
+    private int leftIndex;
+    private int rightIndex;
+    private int added;
+    private int removed;
+    private int modified;
+    private int sameSize;
+
+    ContentDiff(List<ContentEntry> left, List<ContentEntry> right) {
+        this.left = files(left);
+        this.right = files(right);
+    }
+
+    private List<ContentEntry> files(List<ContentEntry> entries) {
+        return entries.stream().filter(entry -> !entry.directory).sorted(BY_PATH).collect(toList());
+    }
+
+    /** Compares the next {@code max} entries and returns the changes found. */
+    List<Change> next(int max) {
+        List<Change> changes = new ArrayList<>();
+        for (int i = 0; i < max && !done(); i++) {
+            ContentEntry l = leftIndex < left.size() ? left.get(leftIndex) : null;
+            ContentEntry r = rightIndex < right.size() ? right.get(rightIndex) : null;
+            int compare = l == null ? 1 : r == null ? -1 : l.path.compareTo(r.path);
+            if (compare < 0) {
+                changes.add(new Change(Status.REMOVED, l.path, l, null));
+                removed++;
+                leftIndex++;
+            } else if (compare > 0) {
+                changes.add(new Change(Status.ADDED, r.path, null, r));
+                added++;
+                rightIndex++;
+            } else {
+                if (l.fileSize != r.fileSize) {
+                    changes.add(new Change(Status.MODIFIED, l.path, l, r));
+                    modified++;
+                } else {
+                    changes.add(new Change(Status.SAME_SIZE, l.path, l, r));
+                    sameSize++;
+                }
+                leftIndex++;
+                rightIndex++;
+            }
+        }
+        return changes;
+    }
+
+    boolean done() {
+        return leftIndex >= left.size() && rightIndex >= right.size();
+    }
+
+    int total() {
+        return left.size() + right.size();
+    }
+
+    int added() {
+        return added;
+    }
+
+    int removed() {
+        return removed;
+    }
+
+    int modified() {
+        return modified;
+    }
+
+    int sameSize() {
+        return sameSize;
+    }
+}
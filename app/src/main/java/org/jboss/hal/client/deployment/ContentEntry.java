@@ -28,4 +28,6 @@ public class ContentEntry {
     public boolean directory;
     public int depth;
     public long fileSize;
+    /** Marks the node which loads the next page of a large directory */
+    public boolean more;
 }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.tree.DataFunction;
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.emptyList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPTH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+
+/**
+ * Function which gets invoked when the user opens a directory in the browse content tree. Reads one directory level using
+ * {@code browse-content(path=<directory>, depth=1)} and caches the result, so that closing and reopening a directory or showing
+ * the next page doesn't hit the server again.
+ * <p>
+ * Large directories are paged: only the first {@link #PAGE_SIZE} entries are added to the tree, followed by a node which shows
+ * the next page when selected (see {@link #showMore(String)}).
+ */
+final class ContentLoader implements DataFunction<ContentEntry> {
+
+    static final int PAGE_SIZE = 250;
+    private static final Logger logger = LoggerFactory.getLogger(ContentLoader.class);
+
+    private final Dispatcher dispatcher;
+    private final Resources resources;
+    private final String deployment;
+    private final ContentParser parser;
+    private final Map<String, List<ContentEntry>> levels;
+    private final Map<String, Integer> limits;
+
+    ContentLoader(Dispatcher dispatcher, Resources resources, String deployment) {
+        this.dispatcher = dispatcher;
+        this.resources = resources;
+        this.deployment = deployment;
+        this.parser = new ContentParser();
+        this.levels = new HashMap<>();
+        this.limits = new HashMap<>();
+    }
+
+    @Override
+    public void load(Node<ContentEntry> node, ResultCallback<ContentEntry> callback) {
+        String path = path(node);
+        List<ContentEntry> entries = levels.get(path);
+        if (entries != null) {
+            callback.result(nodes(path, entries));
+
+        } else {
+            Operation.Builder builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, deployment),
+                    BROWSE_CONTENT).param(DEPTH, 1);
+            if (!path.isEmpty()) {
+                builder.param(PATH, path);
+            }
+            dispatcher.execute(builder.build(),
+                    result -> {
+                        List<ContentEntry> level = parser.parse(path, result.isDefined() ? result.asList() : emptyList());
+                        levels.put(path, level);
+                        callback.result(nodes(path, level));
+                    },
+                    (operation, error) -> {
+                        logger.error("Unable to browse content of {} at '{}': {}", deployment, path, error);
+                        callback.result(nodes(path, emptyList()));
+                    });
+        }
+    }
+
+    /** Increases the number of entries shown for the specified directory by one page. */
+    void showMore(String path) {
+        limits.put(path, limits.getOrDefault(path, PAGE_SIZE) + PAGE_SIZE);
+    }
+
+    private Node<ContentEntry>[] nodes(String path, List<ContentEntry> entries) {
+        int limit = limits.getOrDefault(path, PAGE_SIZE);
+        String moreText = resources.messages().moreContentEntries(entries.size() - limit);
+        return parser.nodes(path, entries, limit, moreText);
+    }
+
+    private String path(Node<ContentEntry> node) {
+        if (Ids.CONTENT_TREE_ROOT.equals(node.id) || node.data == null || node.data.path == null) {
+            return "";
+        }
+        return node.data.path;
+    }
+}
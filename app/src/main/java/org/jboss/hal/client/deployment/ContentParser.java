@@ -15,10 +15,9 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 
 import org.jboss.hal.ballroom.tree.Node;
@@ -28,56 +27,103 @@ import org.jboss.hal.resources.Ids;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
-import elemental2.core.JsArray;
-
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
+/** Turns the result of one directory level of the {@code browse-content} operation into tree nodes. */
 class ContentParser {
 
     private static final Comparator<ContentEntry> BY_NAME = Comparator.comparing(c -> c.name);
-    private static final Comparator<ContentEntry> BY_DEPTH = Comparator.comparingInt(c -> c.depth);
+    private static final Comparator<ContentEntry> DIRECTORIES_FIRST = Comparator.comparing(c -> !c.directory);
 
     private static final String DIRECTORY = "directory";
     private static final String FILE_SIZE = "file-size";
 
     static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
+    static final Function<String, String> MORE_NODE_ID = path -> Ids.build("bct", path, "more");
+
+    /**
+     * Parses the entries of one directory level.
+     *
+     * @param parentPath the path of the directory which was browsed (ending with '/'), empty for the root directory
+     * @param content the result of {@code browse-content(path=parentPath, depth=1)} or of {@code browse-content} for the root
+     *        directory
+     *
+     * @return the entries sorted by name, directories first
+     */
+    List<ContentEntry> parse(String parentPath, List<ModelNode> content) {
+        String prefix = relative(parentPath, content) ? parentPath : "";
+        List<ContentEntry> entries = new ArrayList<>();
+        for (ModelNode node : content) {
+            ContentEntry contentEntry = contentEntry(parentPath, prefix + node.get(PATH).asString(), node);
+            if (contentEntry != null) {
+                entries.add(contentEntry);
+            }
+        }
+        entries.sort(DIRECTORIES_FIRST.thenComparing(BY_NAME));
+        return entries;
+    }
 
+    /**
+     * Creates the nodes for the first {@code limit} entries. If there are more entries, a node is appended which shows the
+     * number of remaining entries.
+     */
     @SuppressWarnings("unchecked")
-    void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
-        nodes.push(root);
-
-        Map<String, Node<ContentEntry>> nodesByPath = new HashMap<>();
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> contentEntry.directory)
-                .sorted(BY_DEPTH.thenComparing(BY_NAME))
-                .forEach(directory -> {
-                    String parentPath = parentPath(directory);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
+    Node<ContentEntry>[] nodes(String parentPath, List<ContentEntry> entries, int limit, String moreText) {
+        int size = Math.min(limit, entries.size());
+        boolean more = entries.size() > limit;
+        Node<ContentEntry>[] nodes = new Node[more ? size + 1 : size];
+        for (int i = 0; i < size; i++) {
+            ContentEntry contentEntry = entries.get(i);
+            Node.Builder<ContentEntry> builder = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name,
+                    contentEntry);
+            if (contentEntry.directory) {
+                builder.asyncFolder();
+            } else {
+                builder.icon(fontAwesome("file-text-o"));
+            }
+            nodes[i] = builder.build();
+        }
+        if (more) {
+            ContentEntry contentEntry = new ContentEntry();
+            contentEntry.path = parentPath;
+            contentEntry.more = true;
+            nodes[size] = new Node.Builder<>(MORE_NODE_ID.apply(parentPath), moreText, contentEntry)
+                    .icon(fontAwesome("ellipsis-h"))
+                    .build();
+        }
+        return nodes;
+    }
 
-                    if (parent != null) {
-                        Node<ContentEntry> node = pushFolder(nodes, parent, directory);
-                        nodesByPath.put(directory.path, node);
-                    }
-                });
+    /**
+     * {@code browse-content} returns the paths relative to the browsed directory. The decision is made once for the whole
+     * response, so that nested directories with the same name as their parent (like {@code lib/lib/}) are not mistaken for
+     * absolute paths: As the directory is browsed with {@code depth=1}, relative paths consist of one segment. Only if all
+     * paths start with the parent path and are exactly one level below it, they are treated as absolute paths.
+     */
+    private boolean relative(String parentPath, List<ModelNode> content) {
+        if (parentPath.isEmpty()) {
+            return false;
+        }
+        int depth = segments(parentPath) + 1;
+        for (ModelNode node : content) {
+            String path = node.get(PATH).asString();
+            if (!path.startsWith(parentPath) || segments(path) != depth) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> !contentEntry.directory)
-                .sorted(BY_NAME)
-                .forEach(file -> {
-                    String parentPath = parentPath(file);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-                    if (parent != null) {
-                        pushEntry(nodes, parent, file);
-                    }
-                });
+    private int segments(String path) {
+        return Iterables.size(Splitter.on('/').omitEmptyStrings().split(path));
     }
 
-    private ContentEntry contentEntry(ModelNode node) {
-        String path = node.get(PATH).asString();
+    private ContentEntry contentEntry(String parentPath, String path, ModelNode node) {
         Iterable<String> segments = Splitter.on('/').omitEmptyStrings().split(path);
+        if (Iterables.isEmpty(segments) || path.equals(parentPath)) {
+            return null;
+        }
 
         ContentEntry contentEntry = new ContentEntry();
         contentEntry.name = Iterables.getLast(segments);
@@ -87,37 +133,4 @@ class ContentParser {
         contentEntry.fileSize = node.hasDefined(FILE_SIZE) ? node.get(FILE_SIZE).asLong() : 0;
         return contentEntry;
     }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushFolder(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushEntry(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    private String parentPath(ContentEntry contentEntry) {
-        String path = contentEntry.path.endsWith("/")
-                ? contentEntry.path.substring(0, contentEntry.path.length() - 1)
-                : contentEntry.path;
-        int index = path.lastIndexOf('/');
-        if (index != -1) {
-            return path.substring(0, index + 1);
-        }
-        return null;
-    }
 }
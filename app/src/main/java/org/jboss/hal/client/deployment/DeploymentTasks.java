@@ -18,8 +18,11 @@ package org.jboss.hal.client.deployment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 
 import javax.inject.Provider;
@@ -85,11 +88,17 @@ class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
+    private static final String EXISTING_DEPLOYMENTS = "deploymentsFunctions.existingDeployments";
+    private static final String SKIPPED_DEPLOYMENTS = "deploymentsFunctions.skippedDeployments";
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
     /**
      * Uploads or updates one or multiple deployment in standalone mode resp. content in domain mode. If available deploys it to
      * a server group.
+     * <p>
+     * The upload is pipelined: The existing deployments are read once, all replacements are confirmed before the first byte is
+     * sent, the files are uploaded with at most {@link UploadFiles#MAX_PARALLEL_UPLOADS} concurrent requests and the new
+     * deployments are assigned to the server group using one composite operation.
      */
     static <T> void upload(FinderColumn<T> column, Environment environment, Dispatcher dispatcher,
             EventBus eventBus, Provider<Progress> progress, FileList files,
@@ -98,22 +107,28 @@ class DeploymentTasks {
             boolean hasServerGroup = serverGroup != null;
 
             StringBuilder builder = new StringBuilder();
-            List<Task<FlowContext>> tasks = new ArrayList<>();
-
+            List<File> fileList = new ArrayList<>();
             for (int i = 0; i < files.getLength(); i++) {
-                String filename = files.item(i).name;
-                builder.append(filename).append(" ");
-                tasks.add(new CheckDeployment(dispatcher, filename));
-                tasks.add(new ConfirmReplacement(resources.constants().replaceDeployment(), resources.constants().replace(),
-                        resources.messages().deploymentReplaceConfirmation(filename)));
-                tasks.add(new UploadOrReplace(environment, dispatcher, filename, filename, files.item(i), !hasServerGroup));
-                if (hasServerGroup) {
-                    tasks.add(new AddServerGroupDeployment(environment, dispatcher, filename, filename, serverGroup));
-                }
+                fileList.add(files.item(i));
+                builder.append(files.item(i).name).append(" ");
+            }
+
+            // a single upload owns the progress indicator and reports the hashed chunks and the transfer. Concurrent uploads
+            // would fight over it, so in that case it reflects the tasks of the flow.
+            boolean single = fileList.size() == 1;
+            Progress flowProgress = single ? Progress.NOOP : progress.get();
+            Progress uploadProgress = single ? progress.get() : Progress.NOOP;
+
+            List<Task<FlowContext>> tasks = new ArrayList<>();
+            tasks.add(new CheckDeployments(dispatcher));
+            tasks.add(new ConfirmReplacements(resources, fileList));
+            tasks.add(new UploadFiles(environment, dispatcher, fileList, !hasServerGroup, uploadProgress));
+            if (hasServerGroup) {
+                tasks.add(new AddServerGroupDeployments(environment, dispatcher, serverGroup));
             }
 
             logger.debug("About to upload / update {} file(s): {}", files.getLength(), builder);
-            sequential(new FlowContext(progress.get()), tasks)
+            sequential(new FlowContext(flowProgress), tasks)
                     .then(context -> {
                         UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
                         if (statistics != null) {
@@ -132,6 +147,32 @@ class DeploymentTasks {
         }
     }
 
+    private static UploadStatistics uploadStatistics(FlowContext context, Environment environment) {
+        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
+        if (statistics == null) {
+            statistics = new UploadStatistics(environment);
+            context.set(UPLOAD_STATISTICS, statistics);
+        }
+        return statistics;
+    }
+
+    private static Operation uploadOperation(String name, String runtimeName, boolean replace, boolean enabled) {
+        Operation.Builder builder;
+        if (replace) {
+            builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) // NON-NLS
+                    .param(NAME, name)
+                    .param(RUNTIME_NAME, runtimeName);
+            // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
+        } else {
+            builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
+                    .param(RUNTIME_NAME, runtimeName)
+                    .param(ENABLED, enabled);
+        }
+        Operation operation = builder.build();
+        operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
+        return operation;
+    }
+
     private DeploymentTasks() {
     }
 
@@ -444,7 +485,6 @@ class DeploymentTasks {
         public Promise<FlowContext> apply(final FlowContext context) {
             boolean skip = false;
             boolean replace;
-            Operation.Builder builder;
 
             if (context.emptyStack()) {
                 replace = false;
@@ -455,35 +495,14 @@ class DeploymentTasks {
             }
 
             if (skip) {
-                UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                if (statistics == null) {
-                    statistics = new UploadStatistics(environment);
-                    context.set(UPLOAD_STATISTICS, statistics);
-                }
+                uploadStatistics(context, environment);
                 return Promise.resolve(context);
             }
 
-            if (replace) {
-                builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) // NON-NLS
-                        .param(NAME, name)
-                        .param(RUNTIME_NAME, runtimeName);
-                // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
-            } else {
-                builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
-                        .param(RUNTIME_NAME, runtimeName)
-                        .param(ENABLED, enabled);
-
-            }
-            Operation operation = builder.build();
-            operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
-
+            Operation operation = uploadOperation(name, runtimeName, replace, enabled);
             return dispatcher.upload(file, operation)
                     .then(result -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics == null) {
-                            statistics = new UploadStatistics(environment);
-                            context.set(UPLOAD_STATISTICS, statistics);
-                        }
+                        UploadStatistics statistics = uploadStatistics(context, environment);
                         if (ADD.equals(operation.getName())) {
                             statistics.recordAdded(name);
                         } else {
@@ -492,17 +511,224 @@ class DeploymentTasks {
                         return Promise.resolve(context);
                     })
                     .catch_(error -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics == null) {
-                            statistics = new UploadStatistics(environment);
-                            context.set(UPLOAD_STATISTICS, statistics);
+                        uploadStatistics(context, environment).recordFailed(name);
+                        return Promise.reject(error);
+                    });
+        }
+    }
+
+    /**
+     * Reads the names of all deployments using one {@code read-children-names} operation and puts them as {@code Set<String>}
+     * under the key {@link #EXISTING_DEPLOYMENTS} into the context.
+     */
+    static final class CheckDeployments implements Task<FlowContext> {
+
+        private final Dispatcher dispatcher;
+
+        CheckDeployments(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, DEPLOYMENT)
+                    .build();
+            return dispatcher.execute(operation)
+                    .then(result -> {
+                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
+                        return context.resolve(EXISTING_DEPLOYMENTS, names);
+                    });
+        }
+    }
+
+    /**
+     * Asks the user one after another to confirm the replacement of each file which already exists as deployment. Expects the
+     * existing deployments under the key {@link #EXISTING_DEPLOYMENTS} and puts the names of the rejected replacements as
+     * {@code Set<String>} under the key {@link #SKIPPED_DEPLOYMENTS} into the context.
+     */
+    static final class ConfirmReplacements implements Task<FlowContext> {
+
+        private final Resources resources;
+        private final List<File> files;
+
+        ConfirmReplacements(Resources resources, List<File> files) {
+            this.resources = resources;
+            this.files = files;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            Set<String> existing = context.get(EXISTING_DEPLOYMENTS, Collections.emptySet());
+            Set<String> skipped = new HashSet<>();
+            context.set(SKIPPED_DEPLOYMENTS, skipped);
+
+            Promise<FlowContext> promise = Promise.resolve(context);
+            for (File file : files) {
+                String name = file.name;
+                if (existing.contains(name)) {
+                    promise = promise.then(c -> confirm(c, name, skipped));
+                }
+            }
+            return promise;
+        }
+
+        private Promise<FlowContext> confirm(FlowContext context, String name, Set<String> skipped) {
+            return new Promise<>((resolve, reject) -> {
+                Dialog confirmDialog = new Dialog.Builder(resources.constants().replaceDeployment())
+                        .primary(resources.constants().replace(), () -> {
+                            resolve.onInvoke(context);
+                            return true;
+                        })
+                        .secondary(() -> {
+                            skipped.add(name);
+                            resolve.onInvoke(context);
+                            return true;
+                        })
+                        .size(Dialog.Size.MEDIUM)
+                        .add(p().innerHtml(resources.messages().deploymentReplaceConfirmation(name)).element())
+                        .build();
+                confirmDialog.show();
+            });
+        }
+    }
+
+    /**
+     * Uploads the files using at most {@link #MAX_PARALLEL_UPLOADS} concurrent requests. Files which exist under the key
+     * {@link #EXISTING_DEPLOYMENTS} are replaced, files under the key {@link #SKIPPED_DEPLOYMENTS} are left out. A failed
+     * upload does not cancel the remaining uploads.
+     * <p>
+     * The function puts an {@link UploadStatistics} under the key {@link DeploymentTasks#UPLOAD_STATISTICS} into the context
+     * which contains the outcome and the transfer rate of each file which has been sent.
+     * <p>
+     * The progress indicator is owned by this task and should only be used for a single file.
+     */
+    static final class UploadFiles implements Task<FlowContext> {
+
+        static final int MAX_PARALLEL_UPLOADS = 3;
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final List<File> files;
+        private final boolean enabled;
+        private final Progress progress;
+
+        UploadFiles(Environment environment, Dispatcher dispatcher, List<File> files, boolean enabled, Progress progress) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.files = files;
+            this.enabled = enabled;
+            this.progress = progress;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            Set<String> existing = context.get(EXISTING_DEPLOYMENTS, Collections.emptySet());
+            Set<String> skipped = context.get(SKIPPED_DEPLOYMENTS, Collections.emptySet());
+            UploadStatistics statistics = uploadStatistics(context, environment);
+
+            Queue<File> pending = new LinkedList<>();
+            for (File file : files) {
+                if (!skipped.contains(file.name)) {
+                    pending.add(file);
+                }
+            }
+            if (pending.isEmpty()) {
+                return Promise.resolve(context);
+            }
+            int steps = 0;
+            for (File file : pending) {
+                steps += Dispatcher.uploadSteps(file);
+            }
+            progress.reset(steps);
+
+            return new Promise<>((resolve, reject) -> {
+                int[] running = new int[] { 0 };
+                Runnable done = () -> {
+                    progress.finish();
+                    resolve.onInvoke(context);
+                };
+                for (int i = 0; i < MAX_PARALLEL_UPLOADS && !pending.isEmpty(); i++) {
+                    uploadNext(pending, running, existing, statistics, done);
+                }
+            });
+        }
+
+        private void uploadNext(Queue<File> pending, int[] running, Set<String> existing, UploadStatistics statistics,
+                Runnable done) {
+            File file = pending.poll();
+            String name = file.name;
+            boolean replace = existing.contains(name);
+            running[0]++;
+
+            dispatcher.upload(file, uploadOperation(name, name, replace, enabled), progress)
+                    .then(upload -> {
+                        if (upload.isTransferred()) {
+                            statistics.recordTransfer(name, (long) file.size, upload.getStart(), upload.getEnd());
+                            logger.debug("Uploaded {} with {} bytes/s", name, statistics.throughput(name));
+                        }
+                        if (replace) {
+                            statistics.recordReplaced(name);
+                        } else {
+                            statistics.recordAdded(name);
                         }
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.error("Unable to upload {}: {}", name, error);
                         statistics.recordFailed(name);
-                        return Promise.reject(error);
+                        return null;
+                    })
+                    .then(__ -> {
+                        running[0]--;
+                        if (!pending.isEmpty()) {
+                            uploadNext(pending, running, existing, statistics, done);
+                        } else if (running[0] == 0) {
+                            done.run();
+                        }
+                        return null;
                     });
         }
     }
 
+    /**
+     * Deploys all added contents found in the {@link UploadStatistics} to the specified server group using one composite
+     * operation. Replaced contents keep their server group assignments. The deployments are enabled on the server group.
+     */
+    static final class AddServerGroupDeployments implements Task<FlowContext> {
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final String serverGroup;
+
+        AddServerGroupDeployments(Environment environment, Dispatcher dispatcher, String serverGroup) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.serverGroup = serverGroup;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
+            if (environment.isStandalone() || statistics == null || statistics.added().isEmpty()) {
+                return Promise.resolve(context);
+            }
+
+            List<Operation> operations = statistics.added().stream()
+                    .map(name -> {
+                        ResourceAddress address = new ResourceAddress()
+                                .add(SERVER_GROUP, serverGroup)
+                                .add(DEPLOYMENT, name);
+                        return new Operation.Builder(address, ADD)
+                                .param(RUNTIME_NAME, name)
+                                .param(ENABLED, true)
+                                .build();
+                    })
+                    .collect(toList());
+            return dispatcher.execute(new Composite(operations)).then(__ -> Promise.resolve(context));
+        }
+    }
+
     /** Adds an unmanaged deployment. */
     static final class AddUnmanagedDeployment implements Task<FlowContext> {
 
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.jboss.hal.ballroom.Format;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.resources.Messages;
 import org.jboss.hal.spi.Message;
@@ -31,7 +32,7 @@ import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 
 /**
  * Holds information about added, replaced and failed uploads and provides a message which summarizes the upload of one or
- * several files.
+ * several files. If transfers have been recorded, the message also contains the overall throughput.
  */
 class UploadStatistics {
 
@@ -43,10 +44,12 @@ class UploadStatistics {
 
     private final Environment environment;
     private final Map<String, UploadStatus> status;
+    private final Map<String, Transfer> transfers;
 
     UploadStatistics(Environment environment) {
         this.environment = environment;
         this.status = new HashMap<>();
+        this.transfers = new HashMap<>();
     }
 
     void recordAdded(String name) {
@@ -61,6 +64,27 @@ class UploadStatistics {
         status.put(name, UploadStatus.FAILED);
     }
 
+    /** Records the size in bytes and the start and end time in milliseconds of a successful upload. */
+    void recordTransfer(String name, long size, long start, long end) {
+        transfers.put(name, new Transfer(size, start, end));
+    }
+
+    /** @return the throughput in bytes per second of the specified upload or {@code 0} if no transfer was recorded */
+    long throughput(String name) {
+        Transfer transfer = transfers.get(name);
+        return transfer != null ? rate(transfer.size, transfer.end - transfer.start) : 0;
+    }
+
+    SortedSet<String> added() {
+        SortedSet<String> added = new TreeSet<>();
+        for (Map.Entry<String, UploadStatus> entry : status.entrySet()) {
+            if (entry.getValue() == UploadStatus.ADDED) {
+                added.add(entry.getKey());
+            }
+        }
+        return added;
+    }
+
     public Message getMessage() {
         SortedSet<String> added = new TreeSet<>();
         SortedSet<String> replaced = new TreeSet<>();
@@ -150,6 +174,38 @@ class UploadStatistics {
                 builder.append(MESSAGES.contentOpFailed(failed.size()));
             }
         }
+        if (!transfers.isEmpty()) {
+            // uploads run in parallel: use the wall clock time from the first start to the last end
+            long size = 0;
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            for (Transfer transfer : transfers.values()) {
+                size += transfer.size;
+                start = Math.min(start, transfer.start);
+                end = Math.max(end, transfer.end);
+            }
+            builder.appendHtmlConstant("<br/>"); // NON-NLS
+            builder.append(MESSAGES.uploadThroughput(Format.humanReadableFileSize(size),
+                    Format.humanReadableDuration(end - start),
+                    Format.humanReadableFileSize(rate(size, end - start))));
+        }
         return builder.toSafeHtml();
     }
+
+    private long rate(long size, long duration) {
+        return duration > 0 ? size * 1000 / duration : size;
+    }
+
+    private static class Transfer {
+
+        final long size;
+        final long start;
+        final long end;
+
+        Transfer(long size, long start, long end) {
+            this.size = size;
+            this.start = start;
+            this.end = end;
+        }
+    }
 }
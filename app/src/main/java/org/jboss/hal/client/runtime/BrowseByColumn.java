@@ -31,6 +31,7 @@ import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.finder.StaticItemColumn;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.PollScheduler;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -91,6 +92,7 @@ public class BrowseByColumn extends StaticItemColumn {
             HostActions hostActions,
             ServerGroupActions serverGroupActions,
             ServerActions serverActions,
+            PollScheduler pollScheduler,
             Resources resources) {
         super(finder, Ids.DOMAIN_BROWSE_BY, resources.constants().browseBy(),
                 Arrays.asList(
@@ -99,6 +101,10 @@ public class BrowseByColumn extends StaticItemColumn {
                                         progress, eventBus, places, finderPathFactory, hostActions,
                                         serverGroupActions, serverActions, resources))
                                 .build(),
+                        new StaticItem.Builder(Names.METRICS)
+                                .id(Ids.FLEET_METRICS)
+                                .onPreview(new FleetMetricsPreview(pollScheduler, resources))
+                                .build(),
                         new StaticItem.Builder(Names.HOSTS)
                                 .nextColumn(Ids.HOST)
                                 .onPreview(new PreviewContent<>(Names.HOSTS, resources.previews().runtimeHosts()))
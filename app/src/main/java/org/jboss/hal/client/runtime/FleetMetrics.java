@@ -0,0 +1,252 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingDouble;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DATASOURCES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DATA_SOURCE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PLATFORM_MBEAN;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SELECT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATISTICS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+
+/**
+ * Metrics of all running servers in a domain. The metrics are read using wildcard {@code query} operations like
+ * {@code /host=*&#47;server=*&#47;core-service=platform-mbean/type=memory:query(select=[...])}, so the number of operations
+ * doesn't depend on the number of servers.
+ * <p>
+ * The memory query defines the set of servers: Servers which are no longer part of its result are removed.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+class FleetMetrics {
+
+    private static final String WILDCARD = "*";
+    private static final String HEAP_MEMORY_USAGE = "heap-memory-usage";
+    private static final String NON_HEAP_MEMORY_USAGE = "non-heap-memory-usage";
+    private static final String THREAD_COUNT = "thread-count";
+    private static final String ACTIVE_COUNT = "ActiveCount";
+    private static final String AVAILABLE_COUNT = "AvailableCount";
+    private static final long MB = 1024 * 1024;
+
+    static Operation memoryOperation() {
+        return new Operation.Builder(platformMBean("memory"), QUERY)
+                .param(SELECT, new ModelNode().add(HEAP_MEMORY_USAGE).add(NON_HEAP_MEMORY_USAGE))
+                .build();
+    }
+
+    static Operation threadsOperation() {
+        return new Operation.Builder(platformMBean("threading"), QUERY)
+                .param(SELECT, new ModelNode().add(THREAD_COUNT))
+                .build();
+    }
+
+    static Operation poolsOperation() {
+        ResourceAddress address = new ResourceAddress()
+                .add(HOST, WILDCARD)
+                .add(SERVER, WILDCARD)
+                .add(SUBSYSTEM, DATASOURCES)
+                .add(DATA_SOURCE, WILDCARD)
+                .add(STATISTICS, "pool");
+        return new Operation.Builder(address, QUERY)
+                .param(SELECT, new ModelNode().add(ACTIVE_COUNT).add(AVAILABLE_COUNT))
+                .build();
+    }
+
+    private static ResourceAddress platformMBean(String type) {
+        return new ResourceAddress()
+                .add(HOST, WILDCARD)
+                .add(SERVER, WILDCARD)
+                .add(CORE_SERVICE, PLATFORM_MBEAN)
+                .add(TYPE, type);
+    }
+
+    private final Map<String, ServerMetrics> servers;
+
+    FleetMetrics() {
+        this.servers = new LinkedHashMap<>();
+    }
+
+    /** Updates the memory metrics and adds or removes servers. */
+    void updateMemory(ModelNode result) {
+        Set<String> running = new HashSet<>();
+        for (ModelNode node : successful(result)) {
+            ServerMetrics metrics = server(node);
+            ModelNode heap = node.get(RESULT).get(HEAP_MEMORY_USAGE);
+            ModelNode nonHeap = node.get(RESULT).get(NON_HEAP_MEMORY_USAGE);
+            metrics.heapUsed = heap.get("used").asLong(0) / MB;
+            metrics.heapMax = heap.get("max").asLong(-1) / MB;
+            metrics.nonHeapUsed = nonHeap.get("used").asLong(0) / MB;
+            running.add(metrics.id);
+        }
+        servers.keySet().retainAll(running);
+    }
+
+    void updateThreads(ModelNode result) {
+        for (ModelNode node : successful(result)) {
+            ServerMetrics metrics = servers.get(id(node));
+            if (metrics != null) {
+                metrics.threads = node.get(RESULT).get(THREAD_COUNT).asLong(0);
+            }
+        }
+    }
+
+    /** Sums up the pool statistics of all data sources of a server. */
+    void updatePools(ModelNode result) {
+        Map<String, long[]> pools = new HashMap<>();
+        for (ModelNode node : successful(result)) {
+            long[] pool = pools.computeIfAbsent(id(node), id -> new long[2]);
+            pool[0] += node.get(RESULT).get(ACTIVE_COUNT).asLong(0);
+            pool[1] += node.get(RESULT).get(AVAILABLE_COUNT).asLong(0);
+        }
+        for (ServerMetrics metrics : servers.values()) {
+            long[] pool = pools.get(metrics.id);
+            metrics.poolActive = pool != null ? pool[0] : 0;
+            metrics.poolAvailable = pool != null ? pool[1] : 0;
+        }
+    }
+
+    List<ServerMetrics> sorted(Column column, boolean ascending) {
+        List<ServerMetrics> sorted = new ArrayList<>(servers.values());
+        Comparator<ServerMetrics> comparator = ascending ? column.comparator : column.comparator.reversed();
+        sorted.sort(comparator.thenComparing(m -> m.id));
+        return sorted;
+    }
+
+    /** @return the biggest value of the column across all servers, used to scale relative metrics */
+    double max(Column column) {
+        return servers.values().stream().mapToDouble(column::value).max().orElse(0);
+    }
+
+    int size() {
+        return servers.size();
+    }
+
+    private ServerMetrics server(ModelNode node) {
+        String id = id(node);
+        return servers.computeIfAbsent(id, key -> {
+            ServerMetrics metrics = new ServerMetrics(id);
+            for (ModelNode segment : node.get(ADDRESS).asList()) {
+                Property property = segment.asProperty();
+                if (HOST.equals(property.getName())) {
+                    metrics.host = property.getValue().asString();
+                } else if (SERVER.equals(property.getName())) {
+                    metrics.server = property.getValue().asString();
+                }
+            }
+            return metrics;
+        });
+    }
+
+    private static String id(ModelNode node) {
+        List<ModelNode> address = node.get(ADDRESS).asList();
+        return address.get(0).asProperty().getValue().asString() + "/" + address.get(1).asProperty().getValue().asString();
+    }
+
+    private static List<ModelNode> successful(ModelNode result) {
+        List<ModelNode> nodes = new ArrayList<>();
+        if (result != null && result.isDefined()) {
+            for (ModelNode node : result.asList()) {
+                if (!node.isFailure() && node.hasDefined(ADDRESS) && node.get(ADDRESS).asList().size() > 1) {
+                    nodes.add(node);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    enum Column {
+        SERVER(comparing((ServerMetrics m) -> m.server).thenComparing(m -> m.host)),
+
+        HEAP(comparingDouble(ServerMetrics::heapPercent)),
+
+        NON_HEAP(comparingDouble(m -> m.nonHeapUsed)),
+
+        THREADS(comparingDouble(m -> m.threads)),
+
+        POOL(comparingDouble(ServerMetrics::poolPercent));
+
+        private final Comparator<ServerMetrics> comparator;
+
+        Column(Comparator<ServerMetrics> comparator) {
+            this.comparator = comparator;
+        }
+
+        double value(ServerMetrics metrics) {
+            switch (this) {
+                case HEAP:
+                    return metrics.heapPercent();
+                case NON_HEAP:
+                    return metrics.nonHeapUsed;
+                case THREADS:
+                    return metrics.threads;
+                case POOL:
+                    return metrics.poolPercent();
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    static class ServerMetrics {
+
+        final String id;
+        String host;
+        String server;
+        long heapUsed;
+        long heapMax;
+        long nonHeapUsed;
+        long threads;
+        long poolActive;
+        long poolAvailable;
+
+        ServerMetrics(String id) {
+            this.id = id;
+        }
+
+        /** @return the used heap in percent or -1 if the maximum heap is not defined */
+        double heapPercent() {
+            return heapMax > 0 ? heapUsed * 100.0 / heapMax : -1;
+        }
+
+        /** @return the active connections of all pools in percent or -1 if there are no pools */
+        double poolPercent() {
+            return poolAvailable > 0 ? poolActive * 100.0 / poolAvailable : -1;
+        }
+    }
+}
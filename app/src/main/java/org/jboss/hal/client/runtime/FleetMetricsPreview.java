@@ -0,0 +1,284 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.hal.client.runtime.FleetMetrics.Column;
+import org.jboss.hal.client.runtime.FleetMetrics.ServerMetrics;
+import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.finder.StaticItem;
+import org.jboss.hal.core.runtime.PollScheduler;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Names;
+import org.jboss.hal.resources.Resources;
+
+import com.google.web.bindery.event.shared.HandlerRegistration;
+
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
+
+import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.setVisible;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.elemento.Elements.table;
+import static org.jboss.elemento.Elements.tbody;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.th;
+import static org.jboss.elemento.Elements.thead;
+import static org.jboss.elemento.Elements.tr;
+import static org.jboss.elemento.EventType.click;
+import static org.jboss.hal.core.runtime.MetricsStore.SAMPLE_INTERVAL;
+import static org.jboss.hal.resources.CSS.clickable;
+import static org.jboss.hal.resources.CSS.fleetMetrics;
+import static org.jboss.hal.resources.CSS.fontAwesome;
+import static org.jboss.hal.resources.CSS.heatCritical;
+import static org.jboss.hal.resources.CSS.heatHigh;
+import static org.jboss.hal.resources.CSS.heatLow;
+import static org.jboss.hal.resources.CSS.heatMedium;
+import static org.jboss.hal.resources.CSS.marginLeft5;
+import static org.jboss.hal.resources.CSS.table;
+import static org.jboss.hal.resources.CSS.tableBordered;
+
+/**
+ * Shows the {@linkplain FleetMetrics metrics of all running servers} as a sortable heat map. The metrics are polled while the
+ * preview is attached. The three queries use the same interval, so the {@link PollScheduler} merges them into one request per
+ * tick.
+ * <p>
+ * The table is updated in place: Existing rows are reused, only changed cells are touched and rows are only moved if the sort
+ * order has changed.
+ */
+class FleetMetricsPreview extends PreviewContent<StaticItem> {
+
+    private static final String[] HEAT = { heatLow, heatMedium, heatHigh, heatCritical };
+
+    private final PollScheduler pollScheduler;
+    private final FleetMetrics metrics;
+    private final Map<String, Row> rows;
+    private final Map<Column, HTMLElement> sortIcons;
+    private final List<HandlerRegistration> polls;
+    private final HTMLElement noServers;
+    private final HTMLElement tableElement;
+    private final HTMLElement tbody;
+    private Column sortColumn;
+    private boolean ascending;
+
+    FleetMetricsPreview(PollScheduler pollScheduler, Resources resources) {
+        super(Names.METRICS, resources.previews().runtimeMetrics());
+        this.pollScheduler = pollScheduler;
+        this.metrics = new FleetMetrics();
+        this.rows = new HashMap<>();
+        this.sortIcons = new EnumMap<>(Column.class);
+        this.polls = new ArrayList<>();
+        this.sortColumn = Column.HEAP;
+        this.ascending = false;
+
+        HTMLElement headerRow = tr().element();
+        header(headerRow, Column.SERVER, Names.SERVER);
+        header(headerRow, Column.HEAP, Names.HEAP);
+        header(headerRow, Column.NON_HEAP, Names.NON_HEAP);
+        header(headerRow, Column.THREADS, Names.THREADS);
+        header(headerRow, Column.POOL, Names.CONNECTION_POOL);
+        updateSortIcons();
+
+        previewBuilder()
+                .add(noServers = p().textContent(resources.constants().noRunningServers()).element())
+                .add(tableElement = table().css(table, tableBordered, fleetMetrics)
+                        .add(thead().add(headerRow))
+                        .add(tbody = tbody().element()).element());
+        setVisible(noServers, false);
+    }
+
+    private void header(HTMLElement headerRow, Column column, String title) {
+        HTMLElement icon = span().css(marginLeft5).element();
+        sortIcons.put(column, icon);
+        headerRow.appendChild(th().css(clickable)
+                .on(click, event -> sort(column))
+                .add(span().textContent(title))
+                .add(icon).element());
+    }
+
+    @Override
+    public void attach() {
+        super.attach();
+        polls.add(pollScheduler.poll(Ids.build(Ids.FLEET_METRICS, "memory"), SAMPLE_INTERVAL,
+                FleetMetrics::memoryOperation, result -> {
+                    metrics.updateMemory(result);
+                    render();
+                }, null));
+        polls.add(pollScheduler.poll(Ids.build(Ids.FLEET_METRICS, "threads"), SAMPLE_INTERVAL,
+                FleetMetrics::threadsOperation, result -> {
+                    metrics.updateThreads(result);
+                    render();
+                }, null));
+        // fails if there's no server with a datasources subsystem
+        polls.add(pollScheduler.poll(Ids.build(Ids.FLEET_METRICS, "pools"), SAMPLE_INTERVAL,
+                FleetMetrics::poolsOperation, result -> {
+                    metrics.updatePools(result);
+                    render();
+                }, failure -> {
+                    metrics.updatePools(new ModelNode());
+                    render();
+                }));
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        polls.forEach(HandlerRegistration::removeHandler);
+        polls.clear();
+    }
+
+    private void sort(Column column) {
+        if (column == sortColumn) {
+            ascending = !ascending;
+        } else {
+            sortColumn = column;
+            ascending = column == Column.SERVER;
+        }
+        updateSortIcons();
+        render();
+    }
+
+    private void updateSortIcons() {
+        sortIcons.forEach((column, icon) -> {
+            String name = column != sortColumn ? "sort" : ascending ? "sort-asc" : "sort-desc";
+            icon.className = fontAwesome(name) + " " + marginLeft5;
+        });
+    }
+
+    private void render() {
+        setVisible(noServers, metrics.size() == 0);
+        setVisible(tableElement, metrics.size() != 0);
+
+        List<ServerMetrics> sorted = metrics.sorted(sortColumn, ascending);
+        Set<String> ids = new HashSet<>();
+        for (ServerMetrics serverMetrics : sorted) {
+            ids.add(serverMetrics.id);
+        }
+        for (Iterator<Map.Entry<String, Row>> iterator = rows.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<String, Row> entry = iterator.next();
+            if (!ids.contains(entry.getKey())) {
+                tbody.removeChild(entry.getValue().element);
+                iterator.remove();
+            }
+        }
+
+        double maxNonHeap = metrics.max(Column.NON_HEAP);
+        double maxThreads = metrics.max(Column.THREADS);
+        for (int i = 0; i < sorted.size(); i++) {
+            ServerMetrics serverMetrics = sorted.get(i);
+            Row row = rows.computeIfAbsent(serverMetrics.id, id -> new Row());
+            row.update(serverMetrics, maxNonHeap, maxThreads);
+
+            // move the row only if it's not at the expected position
+            Node current = i < tbody.childNodes.length ? tbody.childNodes.item(i) : null;
+            if (current != row.element) {
+                tbody.insertBefore(row.element, current);
+            }
+        }
+    }
+
+    private static String heat(double percent) {
+        if (percent < 0) {
+            return null;
+        } else if (percent < 60) {
+            return HEAT[0];
+        } else if (percent < 75) {
+            return HEAT[1];
+        } else if (percent < 90) {
+            return HEAT[2];
+        }
+        return HEAT[3];
+    }
+
+    private static String relative(double value, double max) {
+        return max > 0 ? heat(value * 100 / max) : null;
+    }
+
+    private static class Row {
+
+        private final HTMLElement element;
+        private final Cell server;
+        private final Cell heap;
+        private final Cell nonHeap;
+        private final Cell threads;
+        private final Cell pool;
+
+        Row() {
+            element = tr().element();
+            server = new Cell(element);
+            heap = new Cell(element);
+            nonHeap = new Cell(element);
+            threads = new Cell(element);
+            pool = new Cell(element);
+        }
+
+        @SuppressWarnings("HardCodedStringLiteral")
+        void update(ServerMetrics metrics, double maxNonHeap, double maxThreads) {
+            server.update(metrics.server + " @ " + metrics.host, null);
+
+            double heapPercent = metrics.heapPercent();
+            heap.update(heapPercent >= 0
+                    ? Math.round(heapPercent) + "% (" + metrics.heapUsed + " " + Names.MB + ")"
+                    : metrics.heapUsed + " " + Names.MB, heat(heapPercent));
+            nonHeap.update(metrics.nonHeapUsed + " " + Names.MB, relative(metrics.nonHeapUsed, maxNonHeap));
+            threads.update(String.valueOf(metrics.threads), relative(metrics.threads, maxThreads));
+
+            double poolPercent = metrics.poolPercent();
+            pool.update(poolPercent >= 0
+                    ? Math.round(poolPercent) + "% (" + metrics.poolActive + " / " + metrics.poolAvailable + ")"
+                    : Names.NOT_AVAILABLE, heat(poolPercent));
+        }
+    }
+
+    private static class Cell {
+
+        private final HTMLElement element;
+        private String text;
+        private String heat;
+
+        Cell(HTMLElement row) {
+            element = td().element();
+            row.appendChild(element);
+        }
+
+        void update(String text, String heat) {
+            if (!Objects.equals(this.text, text)) {
+                this.text = text;
+                element.textContent = text;
+            }
+            if (!Objects.equals(this.heat, heat)) {
+                if (this.heat != null) {
+                    element.classList.remove(this.heat);
+                }
+                if (heat != null) {
+                    element.classList.add(heat);
+                }
+                this.heat = heat;
+            }
+        }
+    }
+}
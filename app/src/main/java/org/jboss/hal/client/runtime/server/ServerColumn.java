@@ -61,6 +61,7 @@ import org.jboss.hal.dmr.ModelNodeHelper;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
@@ -160,6 +161,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
     @Inject
     public ServerColumn(Finder finder,
             Dispatcher dispatcher,
+            OperationBatcher batcher,
             Environment environment,
             EventBus eventBus,
             @Footer Provider<Progress> progress,
@@ -223,7 +225,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                 .showCount()
                 .withFilter()
                 .filterDescription(resources.messages().serverFilterDescription())
-                .onPreview(item -> new ServerPreview(serverActions, item, dispatcher, progress,
+                .onPreview(item -> new ServerPreview(serverActions, item, batcher, progress,
                         statementContext, placeManager, places, finderPathFactory, resources)));
         this.finder = finder;
         this.dispatcher = dispatcher;
@@ -35,7 +35,7 @@ import org.jboss.hal.core.runtime.server.ServerPreviewAttributes;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
@@ -105,7 +105,7 @@ class ServerPreview extends RuntimePreview<Server> {
     private static final String ID_HEADER_OPEN_PORTS = "h2-open-ports";
 
     private final ServerActions serverActions;
-    private final Dispatcher dispatcher;
+    private final OperationBatcher batcher;
     private final Provider<Progress> progress;
     private final StatementContext statementContext;
     private final HTMLElement startLink;
@@ -122,7 +122,7 @@ class ServerPreview extends RuntimePreview<Server> {
 
     ServerPreview(ServerActions serverActions,
             Server server,
-            Dispatcher dispatcher,
+            OperationBatcher batcher,
             Provider<Progress> progress,
             StatementContext statementContext,
             PlaceManager placeManager,
@@ -131,7 +131,7 @@ class ServerPreview extends RuntimePreview<Server> {
             Resources resources) {
         super(server.getName(), null, resources);
         this.serverActions = serverActions;
-        this.dispatcher = dispatcher;
+        this.batcher = batcher;
         this.progress = progress;
         this.statementContext = statementContext;
 
@@ -324,7 +324,7 @@ class ServerPreview extends RuntimePreview<Server> {
                 Operation operation = new Operation.Builder(address, READ_CHILDREN_NAMES_OPERATION)
                         .param(CHILD_TYPE, SOCKET_BINDING_GROUP)
                         .build();
-                return dispatcher.execute(operation)
+                return batcher.execute(operation)
                         .then(result -> flowContext.resolve(result.get(0).asString()));
             });
 
@@ -341,7 +341,7 @@ class ServerPreview extends RuntimePreview<Server> {
                         .param(SELECT, select)
                         .param(WHERE, where)
                         .build();
-                return dispatcher.execute(operation)
+                return batcher.execute(operation)
                         .then(result -> {
                             ModelNode openPortsModel = new ModelNode();
                             result.asList().forEach(m -> {
@@ -18,6 +18,7 @@ package org.jboss.hal.client.runtime.server;
 import org.jboss.hal.ballroom.Format;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.runtime.MetricsStore;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
@@ -30,6 +31,8 @@ import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
 
+import com.google.web.bindery.event.shared.HandlerRegistration;
+
 import elemental2.dom.HTMLElement;
 
 import static org.jboss.elemento.Elements.br;
@@ -43,8 +46,12 @@ import static org.jboss.hal.resources.CSS.lead;
 
 public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
 
+    private static final AddressTemplate MBEAN_TEMPLATE = AddressTemplate.of(SELECTED_HOST, SELECTED_SERVER,
+            "core-service=platform-mbean");
+
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final MetricsStore metricsStore;
     private final Resources resources;
     private final HTMLElement osName;
     private final HTMLElement osVersion;
@@ -58,11 +65,14 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
     private final Utilization committedHeap;
     private final Utilization committedNonHeap;
     private final Utilization threads;
+    private HandlerRegistration sampler;
 
-    public ServerRuntimePreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public ServerRuntimePreview(Dispatcher dispatcher, StatementContext statementContext, MetricsStore metricsStore,
+            Resources resources) {
         super(resources.constants().status());
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.metricsStore = metricsStore;
         this.resources = resources;
 
         this.usedHeap = new Utilization(resources.constants().used(), Names.MB, false, true);
@@ -97,14 +107,27 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
                 .add(threads);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        sampler = metricsStore.sample(Ids.SERVER_RUNTIME_STATUS, this::metricsOperation,
+                result -> updateMetrics(new CompositeResult(result)));
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (sampler != null) {
+            sampler.removeHandler();
+            sampler = null;
+        }
+    }
+
     @Override
     @SuppressWarnings("HardCodedStringLiteral")
     public void update(SubsystemMetadata item) {
-        AddressTemplate mbean = AddressTemplate.of(SELECTED_HOST, SELECTED_SERVER, "core-service=platform-mbean");
-        AddressTemplate osTmpl = mbean.append("type=operating-system");
-        AddressTemplate runtimeTmpl = mbean.append("type=runtime");
-        AddressTemplate memoryTmpl = mbean.append("type=memory");
-        AddressTemplate threadingTmpl = mbean.append("type=threading");
+        AddressTemplate osTmpl = MBEAN_TEMPLATE.append("type=operating-system");
+        AddressTemplate runtimeTmpl = MBEAN_TEMPLATE.append("type=runtime");
 
         Operation osOp = new Operation.Builder(osTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
@@ -114,15 +137,7 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
                 .param(ATTRIBUTES_ONLY, true)
                 .param(INCLUDE_RUNTIME, true)
                 .build();
-        Operation memoryOp = new Operation.Builder(memoryTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
-                .param(ATTRIBUTES_ONLY, true)
-                .param(INCLUDE_RUNTIME, true)
-                .build();
-        Operation threadingOp = new Operation.Builder(threadingTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
-                .param(ATTRIBUTES_ONLY, true)
-                .param(INCLUDE_RUNTIME, true)
-                .build();
-        dispatcher.execute(new Composite(osOp, runtimeOp, memoryOp, threadingOp), (CompositeResult result) -> {
+        dispatcher.execute(new Composite(osOp, runtimeOp, metricsOperation()), (CompositeResult result) -> {
             // os
             ModelNode osNode = result.step(0).get(RESULT);
             osName.textContent = osNode.get(NAME).asString();
@@ -137,31 +152,59 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
             uptime.textContent = resources.messages().uptime(
                     Format.humanReadableDuration(runtimeNode.get("uptime").asLong()));
 
-            // memory
-            ModelNode heapMemoryNode = result.step(2).get(RESULT).get("heap-memory-usage");
-            long used = heapMemoryNode.get("used").asLong() / 1024 / 1024;
-            long committed = heapMemoryNode.get("committed").asLong() / 1024 / 1024;
-            long max = heapMemoryNode.get("max").asLong() / 1024 / 1024;
-            usedHeap.update(used, max);
-            committedHeap.update(committed, max);
-
-            ModelNode nonHeapMemoryNode = result.step(2).get(RESULT).get("non-heap-memory-usage");
-            used = nonHeapMemoryNode.get("used").asLong() / 1024 / 1024;
-            committed = nonHeapMemoryNode.get("committed").asLong() / 1024 / 1024;
-            long nonHeapMax = nonHeapMemoryNode.get("max").asLong() / 1024 / 1024;
-            nonHeapTitle.textContent = Names.NON_HEAP;
-            if (nonHeapMax == 0) {
-                nonHeapMax = committed * 2;
-                nonHeapTitle.textContent += " (unlimited)";
-            }
-            usedNonHeap.update(used, nonHeapMax);
-            committedNonHeap.update(committed, nonHeapMax);
-
-            // threads
-            ModelNode threadsNode = result.step(3).get(RESULT);
-            long threadCount = threadsNode.get("thread-count").asLong();
-            long daemonCount = threadsNode.get("daemon-thread-count").asLong();
-            threads.update(daemonCount, threadCount);
+            updateMetrics(new CompositeResult(result.step(2).get(RESULT)));
         });
     }
+
+    /** Reads memory and threads. Used by the sampler, which merges it with other samples. */
+    @SuppressWarnings("HardCodedStringLiteral")
+    private Operation metricsOperation() {
+        Operation memoryOp = new Operation.Builder(MBEAN_TEMPLATE.append("type=memory").resolve(statementContext),
+                READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        Operation threadingOp = new Operation.Builder(
+                MBEAN_TEMPLATE.append("type=threading").resolve(statementContext), READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        return new Composite(memoryOp, threadingOp);
+    }
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void updateMetrics(CompositeResult result) {
+        String prefix = MBEAN_TEMPLATE.resolve(statementContext).toString();
+
+        // memory
+        ModelNode heapMemoryNode = result.step(0).get(RESULT).get("heap-memory-usage");
+        long used = heapMemoryNode.get("used").asLong() / 1024 / 1024;
+        long committed = heapMemoryNode.get("committed").asLong() / 1024 / 1024;
+        long max = heapMemoryNode.get("max").asLong() / 1024 / 1024;
+        usedHeap.update(used, max);
+        usedHeap.trend(metricsStore.record(prefix + "/heap-used", used));
+        committedHeap.update(committed, max);
+        committedHeap.trend(metricsStore.record(prefix + "/heap-committed", committed));
+
+        ModelNode nonHeapMemoryNode = result.step(0).get(RESULT).get("non-heap-memory-usage");
+        used = nonHeapMemoryNode.get("used").asLong() / 1024 / 1024;
+        committed = nonHeapMemoryNode.get("committed").asLong() / 1024 / 1024;
+        long nonHeapMax = nonHeapMemoryNode.get("max").asLong() / 1024 / 1024;
+        nonHeapTitle.textContent = Names.NON_HEAP;
+        if (nonHeapMax == 0) {
+            nonHeapMax = committed * 2;
+            nonHeapTitle.textContent += " (unlimited)";
+        }
+        usedNonHeap.update(used, nonHeapMax);
+        usedNonHeap.trend(metricsStore.record(prefix + "/non-heap-used", used));
+        committedNonHeap.update(committed, nonHeapMax);
+        committedNonHeap.trend(metricsStore.record(prefix + "/non-heap-committed", committed));
+
+        // threads
+        ModelNode threadsNode = result.step(1).get(RESULT);
+        long threadCount = threadsNode.get("thread-count").asLong();
+        long daemonCount = threadsNode.get("daemon-thread-count").asLong();
+        threads.update(daemonCount, threadCount);
+        threads.trend(metricsStore.record(prefix + "/daemon-threads", daemonCount));
+    }
 }
@@ -41,6 +41,7 @@ import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.ManagementModel;
@@ -95,7 +96,7 @@ public class StandaloneServerColumn extends FinderColumn<Server> implements Serv
     private FinderPath refreshPath;
 
     @Inject
-    public StandaloneServerColumn(Finder finder, EventBus eventBus, Dispatcher dispatcher,
+    public StandaloneServerColumn(Finder finder, EventBus eventBus, Dispatcher dispatcher, OperationBatcher batcher,
             FinderPathFactory finderPathFactory, ItemActionFactory itemActionFactory,
             ServerActions serverActions, PlaceManager placeManager, Places places, @Footer Provider<Progress> progress,
             Resources resources, StatementContext statementContext, MetadataRegistry metadataRegistry) {
@@ -120,7 +121,7 @@ public class StandaloneServerColumn extends FinderColumn<Server> implements Serv
                 })
 
                 .onItemSelect(server -> eventBus.fireEvent(new ServerSelectionEvent(server.getName())))
-                .onPreview(item -> new ServerPreview(serverActions, item, dispatcher, progress,
+                .onPreview(item -> new ServerPreview(serverActions, item, batcher, progress,
                         statementContext, placeManager, places, finderPathFactory, resources)));
 
         this.finder = finder;
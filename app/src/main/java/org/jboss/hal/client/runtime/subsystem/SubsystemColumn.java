@@ -39,6 +39,7 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsStore;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.core.subsystem.Subsystems;
 import org.jboss.hal.dmr.Composite;
@@ -95,13 +96,14 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
             ItemActionFactory itemActionFactory,
             Subsystems subsystems,
             Environment environment,
+            MetricsStore metricsStore,
             Resources resources) {
         super(new Builder<SubsystemMetadata>(finder, Ids.RUNTIME_SUBSYSTEM, resources.constants().monitor())
                 .useFirstActionAsBreadcrumbHandler());
 
         customPreviews = new HashMap<>();
         customPreviews.put(Ids.SERVER_RUNTIME_STATUS,
-                new ServerRuntimePreview(dispatcher, statementContext, resources));
+                new ServerRuntimePreview(dispatcher, statementContext, metricsStore, resources));
         customPreviews.put(BATCH_JBERET, new BatchPreview(dispatcher, statementContext, resources));
         customPreviews.put(EJB3, new ThreadPoolPreview(dispatcher, statementContext, resources));
         customPreviews.put(TRANSACTIONS, new TransactionsPreview(dispatcher, statementContext, resources));
@@ -39,6 +39,7 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.PollScheduler;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -56,6 +57,7 @@ import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
 import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.HTMLElement;
@@ -63,8 +65,6 @@ import elemental2.promise.Promise;
 
 import static java.util.Arrays.asList;
 
-import static elemental2.dom.DomGlobal.clearInterval;
-import static elemental2.dom.DomGlobal.setInterval;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_TEMPLATE;
 import static org.jboss.hal.core.finder.FinderColumn.RefreshMode.RESTORE_SELECTION;
@@ -92,8 +92,9 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
+    private final PollScheduler pollScheduler;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final Map<String, HandlerRegistration> polls;
 
     @Inject
     public JobColumn(Finder finder,
@@ -105,6 +106,7 @@ public class JobColumn extends FinderColumn<JobNode> {
             EventBus eventBus,
             Dispatcher dispatcher,
             MetadataRegistry metadataRegistry,
+            PollScheduler pollScheduler,
             Resources resources) {
 
         super(new Builder<JobNode>(finder, Ids.JOB, Names.JOB)
@@ -117,17 +119,18 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
+        this.pollScheduler = pollScheduler;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.polls = new HashMap<>();
 
         setItemsProvider(context -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new).then(jobs -> {
             // turn progress animation on/off
-            clearIntervals();
+            stopPolling();
             for (JobNode job : jobs) {
                 String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
                 if (job.getRunningExecutions() > 0) {
                     ItemMonitor.startProgress(jobId);
-                    intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                    polls.put(jobId, pollJob(jobId, job));
                 } else {
                     ItemMonitor.stopProgress(jobId);
                 }
@@ -211,22 +214,21 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
+    private HandlerRegistration pollJob(String jobId, JobNode job) {
         Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, RUNNING_EXECUTIONS)
                 .build();
-        String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
+        return pollScheduler.poll(jobId, (long) POLLING_INTERVAL, () -> operation,
                 result -> {
                     if (result.asInt() == 0) {
                         ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
+                        HandlerRegistration poll = polls.remove(jobId);
+                        if (poll != null) {
+                            poll.removeHandler();
                         }
                         JobColumn.this.refresh(RESTORE_SELECTION);
                     }
-                }, (o, failure) -> ItemMonitor.stopProgress(jobId));
+                }, failure -> ItemMonitor.stopProgress(jobId));
     }
 
     private void startJob(JobNode job) {
@@ -283,13 +285,13 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
+        stopPolling();
     }
 
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
+    private void stopPolling() {
+        for (HandlerRegistration poll : polls.values()) {
+            poll.removeHandler();
         }
-        intervalHandles.clear();
+        polls.clear();
     }
 }
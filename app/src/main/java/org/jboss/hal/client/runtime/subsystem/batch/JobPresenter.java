@@ -23,6 +23,8 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.runtime.PollScheduler;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -36,6 +38,7 @@ import org.jboss.hal.spi.Requires;
 
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
@@ -55,16 +58,19 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART_JOB;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP_JOB;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBDEPLOYMENT;
 import static org.jboss.hal.meta.token.NameTokens.JOB;
+import static org.jboss.hal.resources.UIConstants.POLLING_INTERVAL;
 
 public class JobPresenter extends ApplicationFinderPresenter<JobPresenter.MyView, JobPresenter.MyProxy> {
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final PollScheduler pollScheduler;
     private final Resources resources;
     private String deployment;
     private String subdeployment;
     private String job;
+    private HandlerRegistration poll;
 
     @Inject
     public JobPresenter(EventBus eventBus,
@@ -74,11 +80,13 @@ public class JobPresenter extends ApplicationFinderPresenter<JobPresenter.MyView
             FinderPathFactory finderPathFactory,
             Dispatcher dispatcher,
             StatementContext statementContext,
+            PollScheduler pollScheduler,
             Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.pollScheduler = pollScheduler;
         this.resources = resources;
     }
 
@@ -88,6 +96,12 @@ public class JobPresenter extends ApplicationFinderPresenter<JobPresenter.MyView
         getView().setPresenter(this);
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        stopPolling();
+    }
+
     @Override
     public void prepareFromRequest(PlaceRequest request) {
         super.prepareFromRequest(request);
@@ -105,12 +119,36 @@ public class JobPresenter extends ApplicationFinderPresenter<JobPresenter.MyView
 
     @Override
     protected void reload() {
+        stopPolling();
         ResourceAddress address = jobAddress();
-        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+        dispatcher.execute(readJob(address), result -> update(address, result));
+    }
+
+    private void update(ResourceAddress address, ModelNode result) {
+        JobNode jobNode = new JobNode(address, result);
+        getView().update(jobNode);
+        if (jobNode.getRunningExecutions() > 0) {
+            if (poll == null) {
+                poll = pollScheduler.poll(Ids.build(Ids.JOB_LIST, Ids.job(deployment, subdeployment, job)),
+                        (long) POLLING_INTERVAL, () -> readJob(address), r -> update(address, r), null);
+            }
+        } else {
+            stopPolling();
+        }
+    }
+
+    private void stopPolling() {
+        if (poll != null) {
+            poll.removeHandler();
+            poll = null;
+        }
+    }
+
+    private Operation readJob(ResourceAddress address) {
+        return new Operation.Builder(address, READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
                 .param(RECURSIVE, true)
                 .build();
-        dispatcher.execute(operation, result -> getView().update(new JobNode(address, result)));
     }
 
     void restartExecution(ExecutionNode execution) {
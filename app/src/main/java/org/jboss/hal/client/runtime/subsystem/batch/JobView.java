@@ -31,10 +31,9 @@ import org.jboss.hal.resources.Resources;
 
 import static java.util.Comparator.comparing;
 
-import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.ballroom.dataprovider.Filter.substring;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.EXECUTION_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
-import static org.jboss.hal.resources.UIConstants.POLLING_INTERVAL;
 
 public class JobView extends HalViewImpl implements JobPresenter.MyView {
 
@@ -55,7 +54,8 @@ public class JobView extends HalViewImpl implements JobPresenter.MyView {
                         (node, filter) -> String.valueOf(node.getInstanceId()).equals(filter),
                         comparing(ExecutionNode::getInstanceId)))
                 .toolbarAttribute(new Attribute<>(BATCH_STATUS, Names.BATCH_STATUS,
-                        (node, filter) -> node.getBatchStatus().name().toLowerCase().contains(filter.toLowerCase()),
+                        substring((node, filter) -> node.getBatchStatus().name().toLowerCase()
+                                .contains(filter.toLowerCase())),
                         comparing(ExecutionNode::getBatchStatus)))
                 .toolbarAttribute(new Attribute<>(START_TIME, resources.constants().start(), null,
                         comparing(ExecutionNode::getStartTime)))
@@ -81,9 +81,6 @@ public class JobView extends HalViewImpl implements JobPresenter.MyView {
     @Override
     public void update(JobNode job) {
         dataProvider.update(job.getExecutions());
-        if (job.getRunningExecutions() > 0) {
-            setTimeout(o -> presenter.reload(), POLLING_INTERVAL);
-        }
     }
 
     private void refresh() {
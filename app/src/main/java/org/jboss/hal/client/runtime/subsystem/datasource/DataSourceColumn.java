@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsStore;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -125,7 +126,8 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
             Finder finder,
             FinderPathFactory finderPathFactory,
             ItemActionFactory itemActionFactory,
-            Places places) {
+            Places places,
+            MetricsStore metricsStore) {
 
         super(new Builder<DataSource>(finder, Ids.DATA_SOURCE_RUNTIME, Names.DATASOURCE)
                 .withFilter()
@@ -344,7 +346,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
         });
 
         setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, statementContext,
-                serverActions, finderPathFactory, places, resources));
+                serverActions, metricsStore, finderPathFactory, places, resources));
     }
 
     private void testConnection(DataSource dataSource) {
@@ -28,6 +28,7 @@ import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsStore;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -47,6 +48,7 @@ import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
 
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.HTMLElement;
@@ -82,6 +84,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     private final Environment environment;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final MetricsStore metricsStore;
     private final ResourceAddress dataSourceAddress;
 
     private final EmptyState fromDeployment;
@@ -96,6 +99,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     private final HTMLElement cacheHeader;
     private final Utilization hitCount;
     private final Utilization missCount;
+    private HandlerRegistration sampler;
 
     DataSourcePreview(DataSourceColumn column,
             Server server,
@@ -104,6 +108,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
             Dispatcher dispatcher,
             StatementContext statementContext,
             ServerActions serverActions,
+            MetricsStore metricsStore,
             FinderPathFactory finderPathFactory,
             Places places,
             Resources resources) {
@@ -114,6 +119,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.metricsStore = metricsStore;
         this.dataSourceAddress = column.dataSourceAddress(dataSource);
 
         if (dataSource.fromDeployment()) {
@@ -203,7 +209,33 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     }
 
     @Override
-    @SuppressWarnings("HardCodedStringLiteral")
+    public void attach() {
+        super.attach();
+        if (!dataSource.fromDeployment()) {
+            sampler = metricsStore.sample(Ids.build(Ids.DATA_SOURCE_RUNTIME, dataSource.getName()),
+                    () -> new Operation.Builder(dataSourceAddress, READ_RESOURCE_OPERATION)
+                            .param(INCLUDE_RUNTIME, true)
+                            .param(RECURSIVE, true)
+                            .build(),
+                    result -> {
+                        dataSource.update(result);
+                        if (dataSource.isEnabled() && dataSource.isStatisticsEnabled()) {
+                            updateStatistics();
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (sampler != null) {
+            sampler.removeHandler();
+            sampler = null;
+        }
+    }
+
+    @Override
     public void update(DataSource ds) {
 
         // if the data source is from a deployment we don't need to refresh
@@ -272,33 +304,43 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                         Elements.toggle(needsRestartWarning.element(), hidden, !server.needsRestart());
                     }
 
-                    // pool statistics
-                    ModelNode pool = ModelNodeHelper.failSafeGet(dataSource, "statistics/pool");
-                    if (pool.isDefined()) {
-                        int available = pool.get("AvailableCount").asInt(0);
-                        int active = pool.get("ActiveCount").asInt(0);
-                        int maxUsed = pool.get("MaxUsedCount").asInt(0);
-                        activeConnections.update(active, available);
-                        maxUsedConnections.update(maxUsed, available);
-                    } else {
-                        activeConnections.update(0, 0);
-                        maxUsedConnections.update(0, 0);
-                    }
-
-                    // jdbc statistics
-                    ModelNode jdbc = ModelNodeHelper.failSafeGet(dataSource, "statistics/jdbc");
-                    if (jdbc.isDefined()) {
-                        long accessed = jdbc.get("PreparedStatementCacheAccessCount").asLong(0);
-                        long hit = jdbc.get("PreparedStatementCacheHitCount").asLong(0);
-                        long missed = jdbc.get("PreparedStatementCacheMissCount").asLong(0);
-                        hitCount.update(hit, accessed);
-                        missCount.update(missed, accessed);
-                    } else {
-                        hitCount.update(0, 0);
-                        missCount.update(0, 0);
-                    }
+                    updateStatistics();
                 }
             });
         }
     }
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void updateStatistics() {
+        String prefix = dataSourceAddress.toString();
+
+        // pool statistics
+        ModelNode pool = ModelNodeHelper.failSafeGet(dataSource, "statistics/pool");
+        if (pool.isDefined()) {
+            int available = pool.get("AvailableCount").asInt(0);
+            int active = pool.get("ActiveCount").asInt(0);
+            int maxUsed = pool.get("MaxUsedCount").asInt(0);
+            activeConnections.update(active, available);
+            activeConnections.trend(metricsStore.record(prefix + "/active-count", active));
+            maxUsedConnections.update(maxUsed, available);
+        } else {
+            activeConnections.update(0, 0);
+            maxUsedConnections.update(0, 0);
+        }
+
+        // jdbc statistics
+        ModelNode jdbc = ModelNodeHelper.failSafeGet(dataSource, "statistics/jdbc");
+        if (jdbc.isDefined()) {
+            long accessed = jdbc.get("PreparedStatementCacheAccessCount").asLong(0);
+            long hit = jdbc.get("PreparedStatementCacheHitCount").asLong(0);
+            long missed = jdbc.get("PreparedStatementCacheMissCount").asLong(0);
+            hitCount.update(hit, accessed);
+            hitCount.trend(metricsStore.record(prefix + "/hit-ratio", accessed == 0 ? 0 : hit * 100.0 / accessed),
+                    100);
+            missCount.update(missed, accessed);
+        } else {
+            hitCount.update(0, 0);
+            missCount.update(0, 0);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring buffer for the lines shown in the log file viewer. Used in tail mode to find the lines which were added since the last
+ * read and to cap the number of retained lines.
+ */
+class LogBuffer {
+
+    /** Number of lines which must match to detect the overlap between the buffer and newly read lines. */
+    static final int ANCHOR = 3;
+
+    private final String[] lines;
+    private int start;
+    private int size;
+
+    LogBuffer(int capacity) {
+        this.lines = new String[capacity];
+        this.start = 0;
+        this.size = 0;
+    }
+
+    /** Replaces the content of this buffer. If there are more lines than the capacity, only the last lines are kept. */
+    void reset(List<String> lines) {
+        start = 0;
+        size = 0;
+        append(lines);
+    }
+
+    /**
+     * Appends the lines to this buffer.
+     *
+     * @return the number of lines which have been evicted from the head of the buffer
+     */
+    int append(List<String> lines) {
+        int evicted = 0;
+        for (String line : lines) {
+            if (size == this.lines.length) {
+                start = (start + 1) % this.lines.length;
+                size--;
+                evicted++;
+            }
+            this.lines[(start + size) % this.lines.length] = line;
+            size++;
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the lines of the specified tail which come after the last lines of this buffer.
+     * <p>
+     * The tail overlaps with this buffer if the lines up to some position in the tail equal the last lines of this buffer. The
+     * overlap has to cover at least {@value #ANCHOR} lines (or the whole buffer if it contains fewer lines). If more than one
+     * position matches, e.g. because the log file contains repeated blocks, the overlap is ambiguous and {@code null} is
+     * returned, so that the caller reloads the tail.
+     *
+     * @param tail the last lines of the log file
+     *
+     * @return the new lines (might be empty) or {@code null} if the tail doesn't overlap with this buffer (i.e. if more lines
+     *         than the tail contains have been added or the log file has been rotated) or if the overlap is ambiguous.
+     */
+    List<String> newLines(List<String> tail) {
+        if (size == 0) {
+            return null;
+        }
+        int anchor = Math.min(ANCHOR, size);
+        int end = -1;
+        for (int i = tail.size(); i >= anchor; i--) {
+            if (overlaps(tail, i)) {
+                if (end != -1) {
+                    return null;
+                }
+                end = i;
+            }
+        }
+        return end == -1 ? null : new ArrayList<>(tail.subList(end, tail.size()));
+    }
+
+    /** Whether the lines of the tail before {@code end} equal the last lines of this buffer. */
+    private boolean overlaps(List<String> tail, int end) {
+        int length = Math.min(size, end);
+        for (int j = 0; j < length; j++) {
+            if (!tail.get(end - length + j).equals(get(size - length + j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String get(int index) {
+        return lines[(start + index) % lines.length];
+    }
+
+    int size() {
+        return size;
+    }
+}
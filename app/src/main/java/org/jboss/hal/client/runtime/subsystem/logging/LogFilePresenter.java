@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.runtime.subsystem.logging;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -25,6 +27,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.runtime.PollScheduler;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -40,16 +43,15 @@ import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
 import com.google.web.bindery.event.shared.EventBus;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_TEMPLATE;
@@ -59,6 +61,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LOGGING_PROFILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
@@ -68,15 +71,29 @@ import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
     private static final int REFRESH_INTERVAL = 1000;
+    /** Number of lines read in tail mode when the log file has grown. */
+    private static final int DELTA_LINES = 250;
+    /** Maximum number of pages shown in the editor when paging through the log file. */
+    private static final int WINDOW_PAGES = 8;
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final PollScheduler pollScheduler;
     private final Resources resources;
+    private final LogBuffer buffer;
+    private final LogPager pager;
+    private final Deque<Integer> pageLines;
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
-    private double intervalHandle;
+    private HandlerRegistration tailMode;
+    private long fileSize;
+    private boolean reading;
+    private int newestPage;
+    private int oldestPage;
+    private boolean paging;
+    private boolean paged;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -86,17 +103,26 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
             FinderPathFactory finderPathFactory,
             Dispatcher dispatcher,
             StatementContext statementContext,
+            PollScheduler pollScheduler,
             Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.pollScheduler = pollScheduler;
         this.resources = resources;
 
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.tailMode = null;
+        this.buffer = new LogBuffer(LogFiles.LINES);
+        this.fileSize = -1;
+        this.reading = false;
+        this.pager = new LogPager(dispatcher, this::logFileAddress);
+        this.pageLines = new ArrayDeque<>();
+        this.paging = false;
+        this.paged = false;
     }
 
     @Override
@@ -105,6 +131,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         getView().setPresenter(this);
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        stopTailMode();
+    }
+
     @Override
     public void prepareFromRequest(PlaceRequest request) {
         super.prepareFromRequest(request);
@@ -124,12 +156,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     protected void reload() {
         if (logFileName != null) {
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
+            ResourceAddress address = logFileAddress();
             Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
                     .param(INCLUDE_RUNTIME, true)
                     .build();
@@ -146,10 +173,9 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
                         } else {
                             logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
                         }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
+                        List<String> lines = lines(result.step(1).get(RESULT));
+                        reset(logFile.getSize(), lines);
+                        getView().show(logFile, lines.size(), String.join("\n", lines));
                     },
                     (operation, failure) -> {
                         clearTimeout(handle);
@@ -163,28 +189,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
-            // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
+            dispatcher.execute(new Composite(readFileSize(), readLogFile(LogFiles.LINES)), (CompositeResult result) -> {
                 clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
+                refresh(result.step(0).get(RESULT).asLong(), result.step(1).get(RESULT));
             }, (op, failure) -> {
                 clearTimeout(handle);
-                MessageEvent.fire(getEventBus(),
-                        Message.error(resources.messages().logFileError(logFileName), failure));
+                logFileError(failure);
             });
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
@@ -195,11 +206,16 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         if (logFile != null) {
             if (on) {
                 if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                    if (paged) {
+                        // jump back to the end of the log file
+                        reloadFile();
+                    }
+                    // poll the file size and read only the lines which have been added since then
+                    tailMode = pollScheduler.poll(Ids.build(Ids.LOG_FILE, Ids.asId(logFileName)), REFRESH_INTERVAL,
+                            this::readFileSize, result -> tail(result.asLong()), this::logFileError);
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                stopTailMode();
                 reloadFile();
             }
         } else {
@@ -207,8 +223,193 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
+    private void stopTailMode() {
+        if (tailMode != null) {
+            tailMode.removeHandler();
+            tailMode = null;
+        }
+    }
+
     private boolean inTailMode() {
-        return intervalHandle != -1;
+        return tailMode != null;
+    }
+
+    private void tail(long size) {
+        if (size != fileSize && !reading) {
+            // a smaller file means the log file has been rotated
+            readTail(size, size < fileSize);
+        }
+    }
+
+    private void readTail(long size, boolean full) {
+        reading = true;
+        dispatcher.execute(readLogFile(full ? LogFiles.LINES : DELTA_LINES), result -> {
+            reading = false;
+            if (inTailMode()) {
+                List<String> newLines = full ? null : buffer.newLines(lines(result));
+                if (newLines != null) {
+                    fileSize = size;
+                    if (!newLines.isEmpty()) {
+                        int evicted = buffer.append(newLines);
+                        getView().append(newLines, evicted, buffer.size());
+                    }
+                } else if (full) {
+                    refresh(size, result);
+                } else {
+                    // more than DELTA_LINES lines have been added
+                    readTail(size, true);
+                }
+            }
+        }, (op, failure) -> {
+            reading = false;
+            logFileError(failure);
+        });
+    }
+
+    private Operation readFileSize() {
+        return new Operation.Builder(logFileAddress(), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, LogFile.FILE_SIZE)
+                .build();
+    }
+
+    private Operation readLogFile(int lines) {
+        return new Operation.Builder(logFileAddress(), READ_LOG_FILE)
+                .param(LINES, lines)
+                .param(TAIL, true)
+                .build();
+    }
+
+    private ResourceAddress logFileAddress() {
+        if (loggingProfile == null) {
+            return LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            return PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+    }
+
+    private void refresh(long size, ModelNode result) {
+        List<String> lines = lines(result);
+        reset(size, lines);
+        getView().refresh(lines.size(), String.join("\n", lines));
+    }
+
+    private void reset(long size, List<String> lines) {
+        fileSize = size;
+        buffer.reset(lines);
+        int pages = pager.reset(size, lines);
+        newestPage = 0;
+        oldestPage = pages - 1;
+        pageLines.clear();
+        for (int page = pages - 1; page >= 0; page--) {
+            pageLines.addLast(Math.min(LogPager.PAGE_SIZE, lines.size() - page * LogPager.PAGE_SIZE));
+        }
+        paged = false;
+    }
+
+    // ------------------------------------------------------ paging
+
+    /** Loads the page before the oldest page shown in the editor. */
+    void loadOlder() {
+        if (!paging && !inTailMode() && pager.hasPage(oldestPage + 1)) {
+            int page = oldestPage + 1;
+            paging = true;
+            pager.page(page).then(lines -> {
+                paging = false;
+                if (!lines.isEmpty()) {
+                    oldestPage = page;
+                    pageLines.addFirst(lines.size());
+                    int removed = 0;
+                    if (pageLines.size() > WINDOW_PAGES) {
+                        removed = pageLines.removeLast();
+                        newestPage++;
+                    }
+                    paged = true;
+                    getView().prepend(lines, removed, windowLines(), newestPage * LogPager.PAGE_SIZE);
+                }
+                return null;
+            }).catch_(error -> {
+                pagingError(error);
+                return null;
+            });
+        }
+    }
+
+    /** Loads the page after the newest page shown in the editor. */
+    void loadNewer() {
+        if (!paging && !inTailMode() && newestPage > 0) {
+            int page = newestPage - 1;
+            paging = true;
+            pager.page(page).then(lines -> {
+                paging = false;
+                newestPage = page;
+                pageLines.addLast(lines.size());
+                int removed = 0;
+                if (pageLines.size() > WINDOW_PAGES) {
+                    removed = pageLines.removeFirst();
+                    oldestPage--;
+                }
+                getView().appendPage(lines, removed, windowLines(), newestPage * LogPager.PAGE_SIZE);
+                return null;
+            }).catch_(error -> {
+                pagingError(error);
+                return null;
+            });
+        }
+    }
+
+    /** Searches the pages older than the ones shown in the editor and shows the page with the next match. */
+    void searchOlder(String query) {
+        if (!inTailMode() && pager.hasPage(oldestPage + 1)) {
+            getView().loading();
+            pager.search(query, oldestPage + 1).then(match -> {
+                if (match != null) {
+                    return pager.page(match.page).then(lines -> {
+                        newestPage = match.page;
+                        oldestPage = match.page;
+                        pageLines.clear();
+                        pageLines.add(lines.size());
+                        paged = true;
+                        getView().showMatch(lines, match.line, query, match.page * LogPager.PAGE_SIZE);
+                        return null;
+                    });
+                } else {
+                    getView().loaded();
+                    MessageEvent.fire(getEventBus(), Message.info(resources.messages().logFileSearchNoMatch(query)));
+                    return null;
+                }
+            }).catch_(error -> {
+                pagingError(error);
+                return null;
+            });
+        } else {
+            MessageEvent.fire(getEventBus(), Message.info(resources.messages().logFileSearchNoMatch(query)));
+        }
+    }
+
+    private int windowLines() {
+        int lines = 0;
+        for (Integer count : pageLines) {
+            lines += count;
+        }
+        return lines;
+    }
+
+    private void pagingError(Object error) {
+        paging = false;
+        getView().loaded();
+        if (LogPager.FILE_CHANGED.equals(error)) {
+            reloadFile();
+        } else {
+            logFileError(String.valueOf(error));
+        }
+    }
+
+    private List<String> lines(ModelNode result) {
+        return result.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+
+    private void logFileError(String failure) {
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
     }
 
     // @formatter:off
@@ -225,7 +426,15 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
         void refresh(int lines, String content);
 
-        int visibleLines();
+        void append(List<String> lines, int evicted, int total);
+
+        void prepend(List<String> lines, int removed, int total, int offset);
+
+        void appendPage(List<String> lines, int removed, int total, int offset);
+
+        void showMatch(List<String> lines, int line, String query, int offset);
+
+        void loaded();
     }
     // @formatter:on
 }
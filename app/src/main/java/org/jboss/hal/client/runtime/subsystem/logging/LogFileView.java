@@ -16,6 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.logging;
 
 import java.util.Date;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -25,7 +26,9 @@ import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
+import org.jboss.hal.ballroom.editor.Document;
 import org.jboss.hal.ballroom.editor.Options;
+import org.jboss.hal.ballroom.editor.SearchOptions;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.mvp.HalViewImpl;
@@ -42,7 +45,6 @@ import elemental2.dom.HTMLInputElement;
 
 import static java.lang.Math.max;
 
-import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.a;
@@ -80,7 +82,6 @@ import static org.jboss.hal.resources.CSS.spinner;
 import static org.jboss.hal.resources.CSS.spinnerLg;
 import static org.jboss.hal.resources.UIConstants.BODY;
 import static org.jboss.hal.resources.UIConstants.CONTAINER;
-import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.PLACEMENT;
 import static org.jboss.hal.resources.UIConstants.TOGGLE;
 import static org.jboss.hal.resources.UIConstants.TOOLTIP;
@@ -118,8 +119,9 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         this.logFiles = logFiles;
         this.resources = resources;
 
-        search = new Search.Builder(Ids.LOG_FILE_SEARCH, query -> editor.getEditor().find(query))
-                .onPrevious(query -> editor.getEditor().findPrevious())
+        // search backwards from the end and continue in the older parts of the log file if there's no match
+        search = new Search.Builder(Ids.LOG_FILE_SEARCH, query -> findOlder(query, false))
+                .onPrevious(query -> findOlder(query, true))
                 .onNext(query -> editor.getEditor().findNext())
                 .build();
 
@@ -180,6 +182,13 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         super.attach();
 
         SwitchBridge.Api.element(tailMode).onChange((event, state) -> presenter.toggleTailMode(state));
+        editor.getEditor().getSession().on("changeScrollTop", scrollTop -> { // NON-NLS
+            if (editor.getEditor().getFirstVisibleRow() == 0) {
+                presenter.loadOlder();
+            } else if (editor.getEditor().getLastVisibleRow() >= editor.getEditor().getSession().getLength() - 1) {
+                presenter.loadNewer();
+            }
+        });
 
         editor.getEditor().$blockScrolling = 1;
         editor.getEditor().setTheme("ace/theme/logfile"); // NON-NLS
@@ -213,6 +222,7 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         window.onresize = null;
 
         SwitchBridge.Api.element(tailMode).destroy();
+        tailMode.checked = false; // the presenter stops the tail mode when it's hidden
     }
 
     private void adjustEditorHeight() {
@@ -277,23 +287,79 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     }
 
     @Override
-    public int visibleLines() {
-        int lineHeight = 15;
-        HTMLElement lineElement = (HTMLElement) document.querySelector(
-                HASH + Ids.LOG_FILE_EDITOR + " .ace_text-layer .ace_line"); // NON-NLS
-        if (lineElement != null) {
-            lineHeight = lineElement.offsetHeight;
+    public void append(List<String> lines, int evicted, int total) {
+        Document document = editor.getEditor().getSession().getDocument();
+        if (evicted > 0) {
+            document.removeFullLines(0, evicted - 1);
+        }
+        document.insertFullLines(document.getLength(), lines.toArray(new String[0]));
+        statusUpdate(total);
+        editor.getEditor().gotoLine(total, 0, false);
+    }
+
+    @Override
+    public void prepend(List<String> lines, int removed, int total, int offset) {
+        Document document = editor.getEditor().getSession().getDocument();
+        int firstRow = editor.getEditor().getFirstVisibleRow();
+        if (removed > 0) {
+            document.removeFullLines(document.getLength() - removed, document.getLength() - 1);
+        }
+        document.insertFullLines(0, lines.toArray(new String[0]));
+        editor.getEditor().scrollToRow(firstRow + lines.size());
+        statusUpdate(total, offset);
+    }
+
+    @Override
+    public void appendPage(List<String> lines, int removed, int total, int offset) {
+        Document document = editor.getEditor().getSession().getDocument();
+        int firstRow = editor.getEditor().getFirstVisibleRow();
+        if (removed > 0) {
+            document.removeFullLines(0, removed - 1);
+        }
+        document.insertFullLines(document.getLength(), lines.toArray(new String[0]));
+        editor.getEditor().scrollToRow(Math.max(0, firstRow - removed));
+        statusUpdate(total, offset);
+    }
+
+    @Override
+    public void showMatch(List<String> lines, int line, String query, int offset) {
+        editor.getEditor().getSession().setValue(String.join("\n", lines));
+        editor.getEditor().gotoLine(line + 2, 0, false);
+        findOlder(query, false);
+        statusUpdate(lines.size(), offset);
+    }
+
+    @Override
+    public void loaded() {
+        editorContainer.classList.remove(logFileLoading);
+    }
+
+    private void findOlder(String query, boolean skipCurrent) {
+        SearchOptions options = new SearchOptions();
+        options.backwards = true;
+        options.skipCurrent = skipCurrent;
+        options.wrap = false;
+        if (editor.getEditor().find(query, options) == null) {
+            presenter.searchOlder(query);
         }
-        return editor.element().offsetHeight / lineHeight;
     }
 
     private void statusUpdate(int lines) {
-        String statusText = lines < LogFiles.LINES
-                ? resources.messages().logFileFullStatus(lines, Format.time(new Date()))
-                : resources.messages().logFilePartStatus(lines, Format.time(new Date()));
+        statusUpdate(lines, 0);
+        search.clear();
+    }
+
+    private void statusUpdate(int lines, int offset) {
+        String statusText;
+        if (offset > 0) {
+            statusText = resources.messages().logFilePageStatus(lines, offset, Format.time(new Date()));
+        } else if (lines < LogFiles.LINES) {
+            statusText = resources.messages().logFileFullStatus(lines, Format.time(new Date()));
+        } else {
+            statusText = resources.messages().logFilePartStatus(lines, Format.time(new Date()));
+        }
         status.textContent = statusText;
         status.title = statusText;
         editorContainer.classList.remove(logFileLoading);
-        search.clear();
     }
 }
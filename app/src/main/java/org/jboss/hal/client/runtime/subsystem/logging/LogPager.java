@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+
+import elemental2.promise.Promise;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LINES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SKIP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
+
+/**
+ * Reads a log file in pages using {@code read-log-file(lines, skip, tail=true)}. Page 0 holds the last {@link #PAGE_SIZE}
+ * lines, page 1 the lines before and so on. Fetched pages are kept in a small LRU cache.
+ * <p>
+ * Since pages are counted from the end of the file, they become invalid as soon as the log file grows. That's why each page is
+ * read together with the file size. If the size has changed, the cache is cleared and the promise is rejected with
+ * {@link #FILE_CHANGED}.
+ */
+class LogPager {
+
+    static final int PAGE_SIZE = 500;
+    static final String FILE_CHANGED = "log file changed";
+    /** Number of pages which are cached. */
+    private static final int CACHE_SIZE = 40;
+    /** Number of pages which are read at once when searching. */
+    private static final int SEARCH_CHUNK = 20;
+
+    private final Dispatcher dispatcher;
+    private final Supplier<ResourceAddress> address;
+    private final Map<Integer, List<String>> cache;
+    private long fileSize;
+    private int lastPage;
+    private int searchGeneration;
+
+    LogPager(Dispatcher dispatcher, Supplier<ResourceAddress> address) {
+        this.dispatcher = dispatcher;
+        this.address = address;
+        this.cache = new LinkedHashMap<Integer, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<String>> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.fileSize = -1;
+        this.lastPage = -1;
+        this.searchGeneration = 0;
+    }
+
+    /**
+     * Resets the pager using the last lines of the log file.
+     *
+     * @param fileSize the current file size
+     * @param tail the last lines of the log file, the number of lines must be a multiple of {@link #PAGE_SIZE} or all lines of
+     *        the log file
+     *
+     * @return the number of pages in {@code tail}
+     */
+    int reset(long fileSize, List<String> tail) {
+        this.fileSize = fileSize;
+        this.lastPage = -1;
+        cache.clear();
+        cancelSearch();
+
+        int pages = 0;
+        for (int end = tail.size(); end > 0; end -= PAGE_SIZE) {
+            cache.put(pages++, new ArrayList<>(tail.subList(Math.max(0, end - PAGE_SIZE), end)));
+        }
+        if (tail.size() % PAGE_SIZE != 0 || tail.isEmpty()) {
+            lastPage = Math.max(0, pages - 1);
+        }
+        return pages;
+    }
+
+    /** @return whether the specified page might exist. Returns {@code true} if the start of the file is not yet known. */
+    boolean hasPage(int page) {
+        return page >= 0 && (lastPage == -1 || page <= lastPage);
+    }
+
+    Promise<List<String>> page(int page) {
+        List<String> lines = cache.get(page);
+        if (lines != null) {
+            return Promise.resolve(lines);
+        }
+        return read(page, 1).then(chunk -> {
+            cache.put(page, chunk);
+            return Promise.resolve(chunk);
+        });
+    }
+
+    /**
+     * Searches the pages older than the specified page for the query. The pages are read in chunks of {@value #SEARCH_CHUNK}
+     * pages. Only the page which contains the match is cached.
+     *
+     * @return a promise with the match or {@code null} if the query was not found or the search was cancelled.
+     */
+    Promise<Match> search(String query, int fromPage) {
+        return search(query, fromPage, ++searchGeneration);
+    }
+
+    private Promise<Match> search(String query, int fromPage, int generation) {
+        if (!hasPage(fromPage) || generation != searchGeneration) {
+            return Promise.resolve((Match) null);
+        }
+        return read(fromPage, SEARCH_CHUNK).then(chunk -> {
+            if (generation != searchGeneration) {
+                return Promise.resolve((Match) null);
+            }
+            // search from the newest to the oldest line
+            for (int i = chunk.size() - 1; i >= 0; i--) {
+                if (chunk.get(i).contains(query)) {
+                    int distance = chunk.size() - 1 - i;
+                    int page = fromPage + distance / PAGE_SIZE;
+                    int end = chunk.size() - (page - fromPage) * PAGE_SIZE;
+                    int start = Math.max(0, end - PAGE_SIZE);
+                    cache.put(page, new ArrayList<>(chunk.subList(start, end)));
+                    return Promise.resolve(new Match(page, i - start));
+                }
+            }
+            return search(query, fromPage + SEARCH_CHUNK, generation);
+        });
+    }
+
+    void cancelSearch() {
+        searchGeneration++;
+    }
+
+    private Promise<List<String>> read(int page, int pages) {
+        ResourceAddress resourceAddress = address.get();
+        Operation sizeOp = new Operation.Builder(resourceAddress, READ_ATTRIBUTE_OPERATION)
+                .param(NAME, LogFile.FILE_SIZE)
+                .build();
+        Operation linesOp = new Operation.Builder(resourceAddress, READ_LOG_FILE)
+                .param(LINES, pages * PAGE_SIZE)
+                .param(SKIP, page * PAGE_SIZE)
+                .param(TAIL, true)
+                .build();
+        return dispatcher.execute(new Composite(sizeOp, linesOp)).then(result -> {
+            long size = result.step(0).get(RESULT).asLong();
+            if (size != fileSize) {
+                fileSize = size;
+                cache.clear();
+                return Promise.reject(FILE_CHANGED);
+            }
+            List<String> lines = result.step(1).get(RESULT).asList().stream()
+                    .map(ModelNode::asString)
+                    .collect(toList());
+            if (lines.isEmpty()) {
+                lastPage = Math.max(0, page - 1);
+            } else if (lines.size() < pages * PAGE_SIZE) {
+                lastPage = page + (lines.size() - 1) / PAGE_SIZE;
+            }
+            return Promise.resolve(lines);
+        });
+    }
+
+    /** A search match: the page and the line index within the page. */
+    static class Match {
+
+        final int page;
+        final int line;
+
+        Match(int page, int line) {
+            this.page = page;
+            this.line = line;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.jboss.hal.resources.Resources;
 
 import static java.util.Comparator.comparing;
 
+import static org.jboss.hal.ballroom.dataprovider.Filter.substring;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
@@ -62,7 +63,7 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                 item -> new JmsMessageDisplay(item, presenter, resources))
 
                 .toolbarAttribute(new Attribute<>(JMS_MESSAGE_ID, JMS_MESSAGE_ID,
-                        (model, filter) -> model.getMessageId().contains(filter),
+                        substring((model, filter) -> model.getMessageId().contains(filter)),
                         comparing(JmsMessage::getMessageId)))
                 .toolbarAttribute(new Attribute<>(JMS_TIMESTAMP, JMS_TIMESTAMP,
                         comparing(JmsMessage::getTimestamp)))
@@ -73,8 +74,8 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                                 model.get(JMS_PRIORITY).asString().equals(filter),
                         comparing(JmsMessage::getPriority)))
                 .toolbarAttribute(new Attribute<>(JMS_DELIVERY_MODE, JMS_DELIVERY_MODE,
-                        (model, filter) -> model.hasDefined(JMS_DELIVERY_MODE) &&
-                                model.get(JMS_DELIVERY_MODE).asString().contains(filter),
+                        substring((model, filter) -> model.hasDefined(JMS_DELIVERY_MODE) &&
+                                model.get(JMS_DELIVERY_MODE).asString().contains(filter)),
                         comparing(JmsMessage::getDeliveryMode)))
 
                 .toolbarAction(new Toolbar.Action(Ids.JMS_MESSAGE_LIST_REFRESH, resources.constants().refresh(),
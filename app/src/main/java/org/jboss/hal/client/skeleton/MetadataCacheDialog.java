@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.skeleton;
+
+import java.util.Map;
+
+import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.meta.MetadataCache;
+import org.jboss.hal.meta.MetadataCache.Stats;
+import org.jboss.hal.meta.MetadataCache.TypeStats;
+import org.jboss.hal.resources.Resources;
+
+import elemental2.dom.HTMLElement;
+
+import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.table;
+import static org.jboss.elemento.Elements.tbody;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.th;
+import static org.jboss.elemento.Elements.thead;
+import static org.jboss.elemento.Elements.tr;
+import static org.jboss.hal.resources.CSS.table;
+import static org.jboss.hal.resources.CSS.tableStriped;
+
+/** Shows a snapshot of the statistics of the {@link MetadataCache}. */
+class MetadataCacheDialog {
+
+    private final Dialog dialog;
+
+    MetadataCacheDialog(MetadataCache metadataCache, Resources resources) {
+        Stats stats = metadataCache.stats();
+        HTMLElement body;
+        HTMLElement summary = p().textContent(resources.constants().size() + ": "
+                + Format.humanReadableFileSize(stats.weight) + " / " + Format.humanReadableFileSize(stats.budget))
+                .element();
+        HTMLElement tableElement = table().css(table, tableStriped)
+                .add(thead()
+                        .add(tr()
+                                .add(th().textContent(resources.constants().type()))
+                                .add(th().textContent(resources.constants().entries()))
+                                .add(th().textContent(resources.constants().size()))
+                                .add(th().textContent(resources.constants().hitCount()))
+                                .add(th().textContent(resources.constants().missCount()))
+                                .add(th().textContent(resources.constants().evictionCount()))
+                                .add(th().textContent(resources.constants().hitRate()))))
+                .add(body = tbody().element())
+                .element();
+        for (Map.Entry<String, TypeStats> entry : stats.types.entrySet()) {
+            TypeStats typeStats = entry.getValue();
+            body.appendChild(tr()
+                    .add(td().textContent(entry.getKey()))
+                    .add(td().textContent(String.valueOf(typeStats.entries)))
+                    .add(td().textContent(Format.humanReadableFileSize(typeStats.weight)))
+                    .add(td().textContent(String.valueOf(typeStats.hits)))
+                    .add(td().textContent(String.valueOf(typeStats.misses)))
+                    .add(td().textContent(String.valueOf(typeStats.evictions)))
+                    .add(td().textContent(Math.round(typeStats.hitRate() * 100) + " %"))
+                    .element());
+        }
+
+        dialog = new Dialog.Builder(resources.constants().metadataCache())
+                .closeOnly()
+                .closeOnEsc(true)
+                .add(summary, tableElement)
+                .build();
+    }
+
+    void show() {
+        dialog.show();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.client.deployment.ContentDiff.Change;
+import org.jboss.hal.client.deployment.ContentDiff.Status;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ContentDiffTest {
+
+    @Test
+    public void empty() {
+        ContentDiff diff = new ContentDiff(emptyList(), emptyList());
+        assertTrue(diff.done());
+        assertTrue(diff.next(10).isEmpty());
+    }
+
+    @Test
+    public void changes() {
+        ContentDiff diff = new ContentDiff(
+                asList(file("a.txt", 1), file("b.txt", 2), file("c.txt", 3)),
+                asList(file("b.txt", 2), file("c.txt", 4), file("d.txt", 5)));
+        List<Change> changes = diff.next(10);
+
+        assertEquals(asList("a.txt", "b.txt", "c.txt", "d.txt"), changes.stream().map(c -> c.path).collect(toList()));
+        assertEquals(asList(Status.REMOVED, Status.SAME_SIZE, Status.MODIFIED, Status.ADDED),
+                changes.stream().map(c -> c.status).collect(toList()));
+        assertEquals(1, diff.added());
+        assertEquals(1, diff.removed());
+        assertEquals(1, diff.modified());
+        assertEquals(1, diff.sameSize());
+        assertTrue(diff.done());
+    }
+
+    @Test
+    public void sameSizeIsReported() {
+        ContentEntry left = file("index.html", 10);
+        ContentEntry right = file("index.html", 10);
+        List<Change> changes = new ContentDiff(asList(left), asList(right)).next(10);
+
+        // files with the same size might still differ: the user can compare the bodies
+        assertEquals(1, changes.size());
+        assertEquals(Status.SAME_SIZE, changes.get(0).status);
+        assertEquals(left, changes.get(0).left);
+        assertEquals(right, changes.get(0).right);
+    }
+
+    @Test
+    public void directoriesAreIgnored() {
+        ContentDiff diff = new ContentDiff(asList(directory("META-INF/"), file("META-INF/a", 1)),
+                asList(directory("WEB-INF/"), file("META-INF/a", 2)));
+        List<Change> changes = diff.next(10);
+        assertEquals(1, changes.size());
+        assertEquals(Status.MODIFIED, changes.get(0).status);
+        assertEquals(2, diff.total());
+    }
+
+    @Test
+    public void slices() {
+        List<ContentEntry> left = new ArrayList<>();
+        List<ContentEntry> right = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            left.add(file("file-" + i, i));
+            right.add(file("file-" + i, i + 1));
+        }
+        ContentDiff diff = new ContentDiff(left, right);
+        assertEquals(4, diff.next(4).size());
+        assertFalse(diff.done());
+        assertEquals(4, diff.next(4).size());
+        assertEquals(2, diff.next(4).size());
+        assertTrue(diff.done());
+        assertEquals(10, diff.modified());
+    }
+
+    @Test
+    public void unsorted() {
+        ContentDiff diff = new ContentDiff(asList(file("b", 1), file("a", 1)), asList(file("a", 1), file("b", 1)));
+        List<Change> changes = diff.next(10);
+        assertEquals(2, changes.size());
+        assertEquals(2, diff.sameSize());
+        assertEquals(0, diff.added() + diff.removed());
+    }
+
+    private ContentEntry file(String path, long size) {
+        ContentEntry entry = new ContentEntry();
+        entry.path = path;
+        entry.name = path.substring(path.lastIndexOf('/') + 1);
+        entry.fileSize = size;
+        return entry;
+    }
+
+    private ContentEntry directory(String path) {
+        ContentEntry entry = new ContentEntry();
+        entry.path = path;
+        entry.directory = true;
+        return entry;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ContentParserTest {
+
+    private ContentParser parser;
+
+    @Before
+    public void setUp() {
+        parser = new ContentParser();
+    }
+
+    @Test
+    public void root() {
+        List<ContentEntry> entries = parser.parse("", content("index.html", "META-INF/", "WEB-INF/"));
+        assertEquals(asList("META-INF/", "WEB-INF/", "index.html"), paths(entries));
+        assertTrue(entries.get(0).directory);
+        assertFalse(entries.get(2).directory);
+        assertEquals("index.html", entries.get(2).name);
+        assertEquals(1, entries.get(2).depth);
+        assertEquals(42, entries.get(2).fileSize);
+    }
+
+    @Test
+    public void relative() {
+        List<ContentEntry> entries = parser.parse("WEB-INF/", content("web.xml", "classes/"));
+        assertEquals(asList("WEB-INF/classes/", "WEB-INF/web.xml"), paths(entries));
+        assertEquals("web.xml", entries.get(1).name);
+        assertEquals(2, entries.get(1).depth);
+    }
+
+    @Test
+    public void absolute() {
+        List<ContentEntry> entries = parser.parse("WEB-INF/", content("WEB-INF/web.xml", "WEB-INF/classes/"));
+        assertEquals(asList("WEB-INF/classes/", "WEB-INF/web.xml"), paths(entries));
+    }
+
+    @Test
+    public void nestedDirectoryWithSameName() {
+        List<ContentEntry> entries = parser.parse("lib/", content("lib/", "a.jar"));
+        assertEquals(asList("lib/lib/", "lib/a.jar"), paths(entries));
+
+        // only the nested directory: still relative
+        entries = parser.parse("lib/", content("lib/"));
+        assertEquals(asList("lib/lib/"), paths(entries));
+        assertEquals(2, entries.get(0).depth);
+
+        entries = parser.parse("lib/lib/", content("lib/"));
+        assertEquals(asList("lib/lib/lib/"), paths(entries));
+    }
+
+    @Test
+    public void fullTree() {
+        // browse-content w/o path and depth as used to compare deployments
+        List<ContentEntry> entries = parser.parse("", content("WEB-INF/", "WEB-INF/lib/", "WEB-INF/lib/a.jar"));
+        assertEquals(asList("WEB-INF/", "WEB-INF/lib/", "WEB-INF/lib/a.jar"), paths(entries));
+        assertEquals(3, entries.get(2).depth);
+    }
+
+    private List<ModelNode> content(String... paths) {
+        List<ModelNode> content = new ArrayList<>();
+        for (String path : paths) {
+            ModelNode node = new ModelNode();
+            node.get(PATH).set(path);
+            if (path.endsWith("/")) {
+                node.get("directory").set(true);
+            } else {
+                node.get("directory").set(false);
+                node.get("file-size").set(42);
+            }
+            content.add(node);
+        }
+        return content;
+    }
+
+    private List<String> paths(List<ContentEntry> entries) {
+        return entries.stream().map(entry -> entry.path).collect(toList());
+    }
+}
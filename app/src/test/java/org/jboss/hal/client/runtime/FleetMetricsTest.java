@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime;
+
+import java.util.List;
+
+import org.jboss.hal.client.runtime.FleetMetrics.Column;
+import org.jboss.hal.client.runtime.FleetMetrics.ServerMetrics;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FleetMetricsTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private FleetMetrics metrics;
+
+    @Before
+    public void setUp() {
+        metrics = new FleetMetrics();
+    }
+
+    @Test
+    public void memory() {
+        metrics.updateMemory(list(memory("primary", "server-one", 256, 1024), memory("secondary", "server-two", 512, 1024)));
+        assertEquals(2, metrics.size());
+
+        ServerMetrics serverOne = metrics.sorted(Column.SERVER, true).get(0);
+        assertEquals("primary", serverOne.host);
+        assertEquals("server-one", serverOne.server);
+        assertEquals(256, serverOne.heapUsed);
+        assertEquals(25.0, serverOne.heapPercent(), 0.01);
+    }
+
+    @Test
+    public void stoppedServersAreRemoved() {
+        metrics.updateMemory(list(memory("primary", "server-one", 256, 1024), memory("primary", "server-two", 512, 1024)));
+        metrics.updateMemory(list(memory("primary", "server-two", 512, 1024)));
+        assertEquals(1, metrics.size());
+        assertEquals("server-two", metrics.sorted(Column.SERVER, true).get(0).server);
+    }
+
+    @Test
+    public void failuresAreIgnored() {
+        ModelNode failed = memory("primary", "server-one", 256, 1024);
+        failed.get(OUTCOME).set(FAILED);
+        metrics.updateMemory(list(failed, memory("primary", "server-two", 512, 1024)));
+        assertEquals(1, metrics.size());
+    }
+
+    @Test
+    public void threadsOfUnknownServers() {
+        metrics.updateMemory(list(memory("primary", "server-one", 256, 1024)));
+        metrics.updateThreads(list(threads("primary", "server-one", 42), threads("primary", "server-two", 23)));
+        assertEquals(1, metrics.size());
+        assertEquals(42, metrics.sorted(Column.SERVER, true).get(0).threads);
+    }
+
+    @Test
+    public void poolsAreSummedUp() {
+        metrics.updateMemory(list(memory("primary", "server-one", 256, 1024), memory("primary", "server-two", 512, 1024)));
+        metrics.updatePools(list(pool("primary", "server-one", "ExampleDS", 5, 20),
+                pool("primary", "server-one", "OtherDS", 5, 20)));
+
+        List<ServerMetrics> sorted = metrics.sorted(Column.SERVER, true);
+        assertEquals(10, sorted.get(0).poolActive);
+        assertEquals(40, sorted.get(0).poolAvailable);
+        assertEquals(25.0, sorted.get(0).poolPercent(), 0.01);
+        assertEquals(-1, sorted.get(1).poolPercent(), 0.01);
+
+        // undefined result resets the pools
+        metrics.updatePools(new ModelNode());
+        assertEquals(-1, metrics.sorted(Column.SERVER, true).get(0).poolPercent(), 0.01);
+    }
+
+    @Test
+    public void sort() {
+        metrics.updateMemory(list(memory("primary", "a", 100, 1000), memory("primary", "b", 900, 1000),
+                memory("primary", "c", 500, 1000)));
+
+        assertEquals(asList("b", "c", "a"), servers(metrics.sorted(Column.HEAP, false)));
+        assertEquals(asList("a", "c", "b"), servers(metrics.sorted(Column.HEAP, true)));
+        assertEquals(asList("c", "b", "a"), servers(metrics.sorted(Column.SERVER, false)));
+        assertEquals(900, metrics.max(Column.NON_HEAP), 0.01);
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private List<String> servers(List<ServerMetrics> metrics) {
+        return metrics.stream().map(m -> m.server).collect(toList());
+    }
+
+    private ModelNode list(ModelNode... nodes) {
+        ModelNode list = new ModelNode();
+        for (ModelNode node : nodes) {
+            list.add(node);
+        }
+        return list;
+    }
+
+    private ModelNode memory(String host, String server, long used, long max) {
+        ModelNode result = new ModelNode();
+        result.get("heap-memory-usage").get("used").set(used * MB);
+        result.get("heap-memory-usage").get("max").set(max * MB);
+        result.get("non-heap-memory-usage").get("used").set(used * MB);
+        result.get("non-heap-memory-usage").get("max").set(-1L);
+        return entry(address(host, server).add("core-service", "platform-mbean").add("type", "memory"), result);
+    }
+
+    private ModelNode threads(String host, String server, long threads) {
+        ModelNode result = new ModelNode();
+        result.get("thread-count").set(threads);
+        return entry(address(host, server).add("core-service", "platform-mbean").add("type", "threading"), result);
+    }
+
+    private ModelNode pool(String host, String server, String dataSource, int active, int available) {
+        ModelNode result = new ModelNode();
+        result.get("ActiveCount").set(active);
+        result.get("AvailableCount").set(available);
+        return entry(address(host, server).add("subsystem", "datasources").add("data-source", dataSource)
+                .add("statistics", "pool"), result);
+    }
+
+    private ResourceAddress address(String host, String server) {
+        return new ResourceAddress().add("host", host).add("server", server);
+    }
+
+    private ModelNode entry(ResourceAddress address, ModelNode result) {
+        ModelNode entry = new ModelNode();
+        entry.get(ADDRESS).set(address);
+        entry.get(OUTCOME).set(SUCCESS);
+        entry.get(RESULT).set(result);
+        return entry;
+    }
+}
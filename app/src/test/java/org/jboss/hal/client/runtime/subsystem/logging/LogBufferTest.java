@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LogBufferTest {
+
+    private LogBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new LogBuffer(5);
+    }
+
+    @Test
+    public void reset() {
+        buffer.reset(asList("a", "b", "c", "d", "e", "f", "g"));
+        assertEquals(5, buffer.size());
+        assertEquals("c", buffer.get(0));
+        assertEquals("g", buffer.get(4));
+    }
+
+    @Test
+    public void append() {
+        buffer.reset(asList("a", "b", "c"));
+        int evicted = buffer.append(asList("d", "e", "f", "g"));
+        assertEquals(2, evicted);
+        assertEquals(5, buffer.size());
+        assertEquals("c", buffer.get(0));
+        assertEquals("g", buffer.get(4));
+    }
+
+    @Test
+    public void newLines() {
+        buffer.reset(asList("a", "b", "c", "d"));
+        List<String> newLines = buffer.newLines(asList("b", "c", "d", "e", "f"));
+        assertEquals(asList("e", "f"), newLines);
+    }
+
+    @Test
+    public void noNewLines() {
+        buffer.reset(asList("a", "b", "c", "d"));
+        assertEquals(emptyList(), buffer.newLines(asList("a", "b", "c", "d")));
+    }
+
+    @Test
+    public void noOverlap() {
+        buffer.reset(asList("a", "b", "c", "d"));
+        assertNull(buffer.newLines(asList("x", "y", "z")));
+    }
+
+    @Test
+    public void partialAnchor() {
+        buffer.reset(asList("a", "b", "c", "d"));
+        assertNull(buffer.newLines(asList("c", "x", "d", "e")));
+    }
+
+    @Test
+    public void repeatedBlock() {
+        buffer.reset(asList("x", "a", "b", "a", "b"));
+        // "a", "b" has been appended once more
+        assertEquals(asList("a", "b"), buffer.newLines(asList("b", "a", "b", "a", "b")));
+    }
+
+    @Test
+    public void ambiguous() {
+        buffer.reset(asList("a", "a", "a", "a"));
+        assertNull(buffer.newLines(asList("a", "a", "a", "a", "a")));
+    }
+
+    @Test
+    public void tailLongerThanBuffer() {
+        buffer.reset(asList("c", "d", "e", "f", "g"));
+        assertEquals(asList("h"), buffer.newLines(asList("a", "b", "c", "d", "e", "f", "g", "h")));
+    }
+
+    @Test
+    public void empty() {
+        assertNull(buffer.newLines(asList("a", "b")));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+// Executes DMR operations and decodes the base64 encoded response while it arrives.
+// The decoded bytes are transferred back to the main thread without copying them.
+
+const ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+const WHITESPACE = -2;
+const PADDING = -3;
+const DECODE = new Int8Array(256).fill(-1);
+for (let i = 0; i < ALPHABET.length; i++) {
+    DECODE[ALPHABET.charCodeAt(i)] = i;
+}
+DECODE[" ".charCodeAt(0)] = WHITESPACE;
+DECODE["\t".charCodeAt(0)] = WHITESPACE;
+DECODE["\n".charCodeAt(0)] = WHITESPACE;
+DECODE["\r".charCodeAt(0)] = WHITESPACE;
+DECODE["=".charCodeAt(0)] = PADDING;
+
+self.addEventListener("message", function (e) {
+    let request = e.data;
+    fetch(request.url, {
+        method: "POST",
+        headers: request.headers,
+        body: request.body,
+        mode: "cors",
+        credentials: "include"
+    })
+        .then(function (response) {
+            let contentType = response.headers.get("Content-Type") || "";
+            if ((!response.ok && response.status !== 500) || !contentType.startsWith("application/dmr-encoded")) {
+                self.postMessage({id: request.id, status: response.status, contentType: contentType});
+                return;
+            }
+            let contentLength = parseInt(response.headers.get("Content-Length"), 10);
+            return decode(response.body.getReader(), isNaN(contentLength) ? 0 : contentLength)
+                .then(function (bytes) {
+                    self.postMessage({
+                        id: request.id,
+                        status: response.status,
+                        contentType: contentType,
+                        bytes: bytes.buffer,
+                        length: bytes.length
+                    }, [bytes.buffer]);
+                });
+        })
+        .catch(function (err) {
+            error("Unable to execute DMR operation " + request.id + ": " + err);
+            self.postMessage({id: request.id, status: 0, error: String(err)});
+        });
+}, false);
+
+// Reads the stream chunk by chunk and decodes the base64 characters as they arrive. The state of the
+// decoder (pending bits and their count) is kept across chunks, so chunk boundaries don't matter.
+self.decode = function (reader, contentLength) {
+    let out = new Uint8Array(Math.max(1024, Math.ceil(contentLength * 3 / 4)));
+    let n = 0;
+    let bits = 0;
+    let count = 0;
+    let done = false;
+
+    function ensureCapacity(required) {
+        if (required > out.length) {
+            let grown = new Uint8Array(Math.max(required, out.length * 2));
+            grown.set(out.subarray(0, n));
+            out = grown;
+        }
+    }
+
+    function consume(chunk) {
+        ensureCapacity(n + Math.ceil(chunk.length * 3 / 4) + 3);
+        for (let i = 0; i < chunk.length && !done; i++) {
+            let value = DECODE[chunk[i]];
+            if (value >= 0) {
+                bits = (bits << 6) | value;
+                count++;
+                if (count === 4) {
+                    out[n++] = (bits >>> 16) & 0xff;
+                    out[n++] = (bits >>> 8) & 0xff;
+                    out[n++] = bits & 0xff;
+                    bits = 0;
+                    count = 0;
+                }
+            } else if (value === PADDING) {
+                done = true;
+            } else if (value !== WHITESPACE) {
+                throw new Error("Invalid base64 character " + chunk[i]);
+            }
+        }
+    }
+
+    function finish() {
+        if (count === 1) {
+            throw new Error("Truncated base64 input");
+        } else if (count === 2) {
+            out[n++] = (bits >>> 4) & 0xff;
+        } else if (count === 3) {
+            out[n++] = (bits >>> 10) & 0xff;
+            out[n++] = (bits >>> 2) & 0xff;
+        }
+        return out.subarray(0, n);
+    }
+
+    function pump() {
+        return reader.read().then(function (result) {
+            if (result.done) {
+                return finish();
+            }
+            consume(result.value);
+            return pump();
+        });
+    }
+
+    return pump();
+};
+
+self.error = function (message) {
+    // use the same log format as HAL
+    console.error(timestamp() + " ERROR dmr-worker.js                            " + message);
+};
+
+self.timestamp = function () {
+    let d = new Date();
+    return d.getHours().toString().padStart(2, "0") + ":" +
+        d.getMinutes().toString().padStart(2, "0") + ":" +
+        d.getSeconds().toString().padStart(2, "0") + "." +
+        d.getMilliseconds().toString().padStart(3, "0");
+}
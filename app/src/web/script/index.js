@@ -72,3 +72,4 @@ window.ClipboardJS = require("clipboard");
 
 // TODO Web worker
 window.metadataChannel = new Worker(new URL("./worker.js", import.meta.url), {type: "module"});
+window.dmrChannel = new Worker(new URL("./dmr-worker.js", import.meta.url), {type: "module"});
@@ -15,31 +15,110 @@
  */
 self.importScripts("pouchdb.min.js");
 
+// Writes to the same database are chained, so that concurrent batches never conflict with each other.
+const queues = {};
+
 self.addEventListener("message", function (e) {
-    let db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+    let database = e.data.database;
+    let queue = queues[database] || Promise.resolve();
+    if (e.data.legacy) {
+        queues[database] = queue.then(function () {
+            return migrate(e.data.legacy, database, e.data.attachment, e.data.contentType);
+        });
+    } else {
+        let documents = e.data.documents;
+        queues[database] = queue.then(function () {
+            return bulkWrite(database, documents);
+        });
+    }
+}, false);
+
+self.bulkWrite = function (database, documents) {
+    let db = new PouchDB(database);
+    let keys = documents.map(function (document) {
+        return document._id;
+    });
+    // one read and one write transaction for all documents
+    return db.allDocs({keys: keys})
+        .then(function (result) {
+            result.rows.forEach(function (row, index) {
+                if (row.value && !row.value.deleted) {
+                    documents[index]._rev = row.value.rev;
+                }
+            });
+            return db.bulkDocs(documents);
         })
-        .catch(function () {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
+        .then(function (responses) {
+            let failed = responses.filter(function (response) {
+                return response.error;
+            });
+            failed.forEach(function (response) {
+                error("Unable to put " + database + response.id + ": " + response.message);
+            });
+            info("Wrote " + (documents.length - failed.length) + " documents to " + database);
+            ack(database, documents.length - failed.length, failed.length);
+        })
+        .catch(function (err) {
+            error("Unable to write " + documents.length + " documents to " + database + ": " + err);
+            ack(database, 0, documents.length);
+        });
+};
+
+// Copies the documents of a database with base64 encoded payloads to a database with binary attachments.
+// Documents which already exist in the target database are not overwritten. The legacy database is removed afterwards.
+self.migrate = function (legacy, database, attachment, contentType) {
+    let source = new PouchDB(legacy);
+    return source.allDocs({include_docs: true})
+        .then(function (result) {
+            let documents = result.rows
+                .filter(function (row) {
+                    return row.doc && typeof row.doc[attachment] === "string";
                 })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
+                .map(function (row) {
+                    let binary = atob(row.doc[attachment]);
+                    let bytes = new Uint8Array(binary.length);
+                    for (let i = 0; i < binary.length; i++) {
+                        bytes[i] = binary.charCodeAt(i);
+                    }
+                    let document = {_id: row.doc._id, _attachments: {}};
+                    document._attachments[attachment] = {
+                        content_type: contentType,
+                        data: new Blob([bytes], {type: contentType})
+                    };
+                    return document;
+                });
+            if (documents.length === 0) {
+                return 0;
+            }
+            let target = new PouchDB(database);
+            let keys = documents.map(function (document) {
+                return document._id;
+            });
+            return target.allDocs({keys: keys})
+                .then(function (existing) {
+                    let missing = documents.filter(function (document, index) {
+                        let row = existing.rows[index];
+                        return !row.value || row.value.deleted;
+                    });
+                    return target.bulkDocs(missing).then(function () {
+                        return missing.length;
+                    });
                 });
+        })
+        .then(function (count) {
+            if (count > 0) {
+                info("Migrated " + count + " documents from " + legacy + " to " + database);
+            }
+            return source.destroy();
+        })
+        .catch(function (err) {
+            error("Unable to migrate " + legacy + " to " + database + ": " + err);
         });
-}, false);
+};
+
+self.ack = function (database, written, failed) {
+    self.postMessage({database: database, written: written, failed: failed});
+};
 
 self.info = function (message) {
     // use the same log format as HAL
@@ -407,7 +407,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
 
     private void sort(Attribute<T> attribute) {
         setSelectedSort(attribute);
-        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.comparator.reversed());
+        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.reversed);
     }
 
     private void setSelectedSort(Attribute<T> attribute) {
@@ -430,7 +430,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
         } else {
             sortOrderIcon.className = fontAwesome("sort-alpha-desc");
         }
-        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.comparator.reversed());
+        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.reversed);
     }
 
     private void selectDropdownItem(HTMLElement ul, String data, Attribute<T> attribute) {
@@ -449,6 +449,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
         private final String title;
         private final Filter<T> filter;
         private final Comparator<T> comparator;
+        private final Comparator<T> reversed;
 
         public Attribute(String name, Filter<T> filter) {
             this(name, new LabelBuilder().label(name), filter, null);
@@ -475,6 +476,8 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
             this.title = title;
             this.filter = filter;
             this.comparator = comparator;
+            // keep the same instance, the data provider caches the sort order per comparator
+            this.reversed = comparator != null ? comparator.reversed() : null;
         }
 
         @Override
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import org.jboss.elemento.IsElement;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.hal.resources.CSS.sparkline;
+
+/**
+ * Small line chart without axes and labels which shows the trend of a {@link TimeSeries}. Rendered as inline SVG, so it's much
+ * cheaper than a C3 chart.
+ */
+public class Sparkline implements IsElement<HTMLElement> {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg"; // NON-NLS
+    private static final int WIDTH = 100;
+    private static final int HEIGHT = 20;
+
+    private final HTMLElement root;
+    private final Element line;
+
+    public Sparkline() {
+        Element svg = document.createElementNS(SVG_NS, "svg"); // NON-NLS
+        svg.setAttribute("viewBox", "0 0 " + WIDTH + " " + HEIGHT); // NON-NLS
+        svg.setAttribute("preserveAspectRatio", "none"); // NON-NLS
+        line = document.createElementNS(SVG_NS, "polyline"); // NON-NLS
+        svg.appendChild(line);
+        root = div().css(sparkline).add(svg).element();
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    /** Scales the values between the smallest and the biggest value. */
+    public void update(TimeSeries series) {
+        double[] values = series.values();
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        update(values, min, max);
+    }
+
+    /** Scales the values between 0 and {@code max}. */
+    public void update(TimeSeries series, double max) {
+        update(series.values(), 0, max);
+    }
+
+    private void update(double[] values, double min, double max) {
+        StringBuilder points = new StringBuilder();
+        if (values.length > 1) {
+            double range = max > min ? max - min : 1;
+            double step = (double) WIDTH / (values.length - 1);
+            for (int i = 0; i < values.length; i++) {
+                double y = HEIGHT - Math.max(0, Math.min(1, (values[i] - min) / range)) * HEIGHT;
+                points.append(Math.round(i * step * 10) / 10.0)
+                        .append(',')
+                        .append(Math.round(y * 10) / 10.0)
+                        .append(' ');
+            }
+        }
+        line.setAttribute("points", points.toString().trim()); // NON-NLS
+    }
+}
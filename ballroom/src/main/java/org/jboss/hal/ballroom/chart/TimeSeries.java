@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+/**
+ * Bounded time series backed by two ring buffers of primitive values. The most recent points are kept as they are. Points which
+ * are evicted from the recent buffer are down-sampled: The average of {@code factor} consecutive points is kept in an archive
+ * buffer. So the memory used by a time series is fixed, while it still covers a period {@code factor} times longer than the
+ * recent buffer alone.
+ */
+public class TimeSeries {
+
+    private final Ring recent;
+    private final Ring archive;
+    private final int factor;
+    private double bucketTime;
+    private double bucketValue;
+    private int bucketSize;
+
+    /**
+     * @param capacity the number of recent and the number of archived points
+     * @param factor the number of recent points which are merged into one archived point
+     */
+    public TimeSeries(int capacity, int factor) {
+        this.recent = new Ring(capacity);
+        this.archive = new Ring(capacity);
+        this.factor = factor;
+    }
+
+    public void add(double time, double value) {
+        if (recent.isFull()) {
+            // the oldest recent point is going to be evicted
+            bucketTime += recent.time(0);
+            bucketValue += recent.value(0);
+            bucketSize++;
+            if (bucketSize == factor) {
+                archive.add(bucketTime / factor, bucketValue / factor);
+                bucketTime = 0;
+                bucketValue = 0;
+                bucketSize = 0;
+            }
+        }
+        recent.add(time, value);
+    }
+
+    /** @return the archived and recent values, oldest first */
+    public double[] values() {
+        double[] values = new double[size()];
+        int i = 0;
+        for (int j = 0; j < archive.size(); j++) {
+            values[i++] = archive.value(j);
+        }
+        for (int j = 0; j < recent.size(); j++) {
+            values[i++] = recent.value(j);
+        }
+        return values;
+    }
+
+    /** @return the times of the archived and recent values, oldest first */
+    public double[] times() {
+        double[] times = new double[size()];
+        int i = 0;
+        for (int j = 0; j < archive.size(); j++) {
+            times[i++] = archive.time(j);
+        }
+        for (int j = 0; j < recent.size(); j++) {
+            times[i++] = recent.time(j);
+        }
+        return times;
+    }
+
+    /** @return the most recent value or {@link Double#NaN} if this series is empty */
+    public double last() {
+        return recent.isEmpty() ? Double.NaN : recent.value(recent.size() - 1);
+    }
+
+    public int size() {
+        return archive.size() + recent.size();
+    }
+
+    public boolean isEmpty() {
+        return recent.isEmpty();
+    }
+
+    private static class Ring {
+
+        private final double[] times;
+        private final double[] values;
+        private int start;
+        private int size;
+
+        Ring(int capacity) {
+            this.times = new double[capacity];
+            this.values = new double[capacity];
+        }
+
+        void add(double time, double value) {
+            int index;
+            if (size == values.length) {
+                index = start;
+                start = (start + 1) % values.length;
+            } else {
+                index = (start + size) % values.length;
+                size++;
+            }
+            times[index] = time;
+            values[index] = value;
+        }
+
+        double time(int index) {
+            return times[(start + index) % times.length];
+        }
+
+        double value(int index) {
+            return values[(start + index) % values.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean isFull() {
+            return size == values.length;
+        }
+    }
+}
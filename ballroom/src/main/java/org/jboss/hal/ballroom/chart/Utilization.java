@@ -59,6 +59,7 @@ public class Utilization implements IsElement {
     private final HTMLElement remainingBar;
     private final HTMLElement remainingElement;
     private final HTMLElement root;
+    private Sparkline trendLine;
     private long total;
 
     public Utilization(String label, String unit, boolean inline, boolean thresholds) {
@@ -148,6 +149,20 @@ public class Utilization implements IsElement {
         }
     }
 
+    /** Shows the trend of the series below the bar. The values are scaled between 0 and the total. */
+    public void trend(TimeSeries series) {
+        trend(series, total);
+    }
+
+    /** Shows the trend of the series below the bar. The values are scaled between 0 and the given maximum. */
+    public void trend(TimeSeries series, double max) {
+        if (trendLine == null) {
+            trendLine = new Sparkline();
+            root.appendChild(trendLine.element());
+        }
+        trendLine.update(series, max);
+    }
+
     private String aria(String name) {
         return "aria-" + name; // NON-NLS
     }
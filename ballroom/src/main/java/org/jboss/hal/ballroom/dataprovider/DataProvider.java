@@ -16,31 +16,32 @@
 package org.jboss.hal.ballroom.dataprovider;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import org.jboss.hal.ballroom.listview.ListView;
 import org.jboss.hal.config.Settings;
 
-import com.google.common.collect.Lists;
-
 import static java.lang.Math.min;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
 import static org.jboss.hal.config.Settings.DEFAULT_PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 
 /**
  * Holds items and state for displays like {@link ListView}. Changes to the state is reflected in the connected displays.
+ * <p>
+ * Filtering, sorting and paging are applied incrementally:
+ * <ul>
+ * <li>The sorted order of all items is cached per comparator until the items are updated.</li>
+ * <li>If a filter is added or its value is changed so that it {@linkplain Filter#narrows(String, String) narrows} the previous
+ * value, only the items which matched before are tested again.</li>
+ * <li>Paging only picks a new window from the filtered items.</li>
+ * </ul>
  */
 public class DataProvider<T> {
 
@@ -49,11 +50,14 @@ public class DataProvider<T> {
     private final SelectionInfo<T> selectionInfo;
     private final Map<String, T> allItems;
     private final Map<String, FilterValue<T>> filterValues;
+    private final Map<String, FilterValue<T>> appliedFilterValues;
+    private final Map<Comparator<T>, List<T>> sortedItems;
     private final List<Display<T>> displays;
     private List<SelectHandler<T>> selectHandler;
-    private Map<String, T> filteredItems;
+    private List<T> filteredItems;
     private Map<String, T> visibleItems;
     private Comparator<T> comparator;
+    private boolean resort;
 
     public DataProvider(Function<T, String> identifier, boolean multiSelect) {
         this(identifier, multiSelect, Settings.INSTANCE.get(PAGE_SIZE).asInt(DEFAULT_PAGE_SIZE));
@@ -64,9 +68,11 @@ public class DataProvider<T> {
         this.pageInfo = new PageInfo(pageSize);
         this.selectionInfo = new SelectionInfo<>(identifier, multiSelect);
         this.allItems = new LinkedHashMap<>();
-        this.filteredItems = new LinkedHashMap<>();
+        this.filteredItems = new ArrayList<>();
         this.visibleItems = new LinkedHashMap<>();
         this.filterValues = new HashMap<>();
+        this.appliedFilterValues = new HashMap<>();
+        this.sortedItems = new HashMap<>();
         this.selectHandler = new ArrayList<>();
         this.displays = new ArrayList<>();
 
@@ -103,7 +109,7 @@ public class DataProvider<T> {
     }
 
     public Iterable<T> getFilteredItems() {
-        return filteredItems.values();
+        return filteredItems;
     }
 
     public Iterable<T> getVisibleItems() {
@@ -112,45 +118,99 @@ public class DataProvider<T> {
 
     private void reset() {
         allItems.clear();
+        sortedItems.clear();
+        resort = true;
         pageInfo.reset();
         selectionInfo.reset();
     }
 
     private void applyFilterSortAndPaging() {
-        Stream<T> stream = allItems.values().stream();
-        if (!filterValues.isEmpty()) {
-            Predicate<T> predicate = null;
-            for (FilterValue<T> filterValue : filterValues.values()) {
-                if (predicate == null) {
-                    predicate = i -> filterValue.getFilter().test(i, filterValue.getValue());
-                } else {
-                    predicate = predicate.and(i -> filterValue.getFilter().test(i, filterValue.getValue()));
+        applyFilterAndSort();
+        applyPaging();
+    }
+
+    private void applyFilterAndSort() {
+        Collection<FilterValue<T>> filters;
+        List<T> candidates;
+        if (!resort && narrowed()) {
+            // only test the previous matches against the new or changed filters
+            filters = new ArrayList<>();
+            for (Map.Entry<String, FilterValue<T>> entry : filterValues.entrySet()) {
+                if (appliedFilterValues.get(entry.getKey()) != entry.getValue()) {
+                    filters.add(entry.getValue());
                 }
             }
-            stream = stream.filter(predicate);
-        }
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
+            candidates = filteredItems;
+        } else {
+            filters = filterValues.values();
+            candidates = sorted();
         }
-        List<T> values = stream.collect(toList());
-        if (values.size() > pageInfo.getPageSize()) {
-            filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
-            values = paged(values);
-            visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+
+        if (filters.isEmpty()) {
+            filteredItems = candidates;
         } else {
-            filteredItems = visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+            filteredItems = new ArrayList<>();
+            for (T item : candidates) {
+                if (matches(item, filters)) {
+                    filteredItems.add(item);
+                }
+            }
         }
-        pageInfo.setTotal(filteredItems.size()); // total first!
-        pageInfo.setVisible(visibleItems.size());
+        appliedFilterValues.clear();
+        appliedFilterValues.putAll(filterValues);
+        resort = false;
+    }
+
+    /** @return whether the current filters match a subset of the items matched by the applied filters */
+    private boolean narrowed() {
+        for (Map.Entry<String, FilterValue<T>> entry : appliedFilterValues.entrySet()) {
+            FilterValue<T> applied = entry.getValue();
+            FilterValue<T> current = filterValues.get(entry.getKey());
+            if (current == null) {
+                return false;
+            }
+            if (current != applied && (current.getFilter() != applied.getFilter()
+                    || !current.getFilter().narrows(applied.getValue(), current.getValue()))) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private Collector<T, ?, Map<String, T>> toLinkedMap(Function<? super T, ? extends String> keyMapper,
-            Function<? super T, ? extends T> valueMapper) {
-        return toMap(keyMapper, valueMapper,
-                (u, v) -> {
-                    throw new IllegalStateException("Duplicate key " + u); // NON-NLS
-                },
-                LinkedHashMap::new);
+    private boolean matches(T item, Collection<FilterValue<T>> filters) {
+        for (FilterValue<T> filterValue : filters) {
+            if (!filterValue.getFilter().test(item, filterValue.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<T> sorted() {
+        return sortedItems.computeIfAbsent(comparator, c -> {
+            List<T> sorted = new ArrayList<>(allItems.values());
+            if (c != null) {
+                sorted.sort(c);
+            }
+            return sorted;
+        });
+    }
+
+    private void applyPaging() {
+        int size = filteredItems.size();
+        int from = 0;
+        int to = size;
+        if (size > pageInfo.getPageSize()) {
+            int pages = (size + pageInfo.getPageSize() - 1) / pageInfo.getPageSize();
+            from = min(pageInfo.getPage(), pages - 1) * pageInfo.getPageSize();
+            to = min(size, from + pageInfo.getPageSize());
+        }
+        visibleItems = new LinkedHashMap<>();
+        for (T item : filteredItems.subList(from, to)) {
+            visibleItems.put(identifier.apply(item), item);
+        }
+        pageInfo.setTotal(size); // total first!
+        pageInfo.setVisible(visibleItems.size());
     }
 
     // ------------------------------------------------------ selection
@@ -162,7 +222,7 @@ public class DataProvider<T> {
     /** Selects all items if {@ocde multiSelect == true}. Does not fire selection events */
     public void selectAll() {
         if (selectionInfo.isMultiSelect()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, true));
+            filteredItems.forEach(item -> selectInternal(getId(item), item, true));
             updateSelection();
         }
     }
@@ -178,7 +238,7 @@ public class DataProvider<T> {
     /** Clears the selection for all items */
     public void clearAllSelection() {
         if (selectionInfo.hasSelection()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, false));
+            filteredItems.forEach(item -> selectInternal(getId(item), item, false));
             updateSelection();
         }
     }
@@ -258,6 +318,7 @@ public class DataProvider<T> {
 
     public void setComparator(Comparator<T> comparator) {
         this.comparator = comparator;
+        this.resort = true;
         applyFilterSortAndPaging();
         showItems();
         updateSelection();
@@ -273,7 +334,7 @@ public class DataProvider<T> {
         int oldPageSize = pageInfo.getPageSize();
         pageInfo.setPageSize(pageSize);
         if (oldPageSize != pageInfo.getPageSize()) {
-            applyFilterSortAndPaging();
+            applyPaging();
             showItems();
             updateSelection();
         }
@@ -299,7 +360,7 @@ public class DataProvider<T> {
         int oldPage = pageInfo.getPage();
         pageInfo.setPage(page);
         if (oldPage != pageInfo.getPage()) {
-            applyFilterSortAndPaging();
+            applyPaging();
             showItems();
             updateSelection();
         }
@@ -309,11 +370,6 @@ public class DataProvider<T> {
         return pageInfo;
     }
 
-    private List<T> paged(List<T> values) {
-        List<List<T>> pages = Lists.partition(values, pageInfo.getPageSize());
-        return pages.get(min(pageInfo.getPage(), pages.size() - 1));
-    }
-
     // ------------------------------------------------------ displays
 
     public void addDisplay(Display<T> display) {
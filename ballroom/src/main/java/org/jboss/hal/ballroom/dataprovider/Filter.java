@@ -19,5 +19,33 @@ package org.jboss.hal.ballroom.dataprovider;
 @FunctionalInterface
 public interface Filter<T> {
 
+    /**
+     * Decorates a filter which tests whether some text of the model contains the filter value. Such a filter narrows the
+     * previous filter value if the next value contains the previous one.
+     */
+    static <T> Filter<T> substring(Filter<T> filter) {
+        return new Filter<T>() {
+            @Override
+            public boolean test(T model, String value) {
+                return filter.test(model, value);
+            }
+
+            @Override
+            public boolean narrows(String previous, String next) {
+                return previous != null && next != null && next.contains(previous);
+            }
+        };
+    }
+
     boolean test(T model, String filter);
+
+    /**
+     * Whether all models matching {@code next} also match {@code previous}. In that case the {@link DataProvider} tests only
+     * the models which matched the previous value.
+     *
+     * @return {@code true} if both values are equal, {@code false} otherwise
+     */
+    default boolean narrows(String previous, String next) {
+        return previous == null ? next == null : previous.equals(next);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.ballroom.editor;
 
+import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 
@@ -29,6 +30,12 @@ public class Editor {
 
     public native void gotoLine(int line, int column, boolean animate);
 
+    public native int getFirstVisibleRow();
+
+    public native int getLastVisibleRow();
+
+    public native void scrollToRow(int row);
+
     public native void selectAll();
 
     public native Session getSession();
@@ -41,6 +48,10 @@ public class Editor {
 
     public native void find(String query);
 
+    /** @return the range of the match or {@code null} if there's no match */
+    @JsMethod(name = "find")
+    public native Object find(String query, SearchOptions options);
+
     public native void findNext();
 
     public native void findPrevious();
@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.editor;
+
+import jsinterop.annotations.JsType;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Search options for the ACE editor.
+ *
+ * @see <a href="https://ace.c9.io/#nav=howto">https://ace.c9.io/#nav=howto</a>
+ */
+@JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+public class SearchOptions {
+
+    public boolean backwards;
+    public boolean skipCurrent;
+    public boolean wrap;
+}
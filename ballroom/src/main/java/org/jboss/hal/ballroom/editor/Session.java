@@ -29,6 +29,8 @@ public class Session {
 
     public native int getLength();
 
+    public native Document getDocument();
+
     public native void on(String event, OnChange onChange);
 
     @JsFunction
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimeSeriesTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void empty() {
+        TimeSeries series = new TimeSeries(3, 2);
+        assertTrue(series.isEmpty());
+        assertEquals(0, series.size());
+        assertTrue(Double.isNaN(series.last()));
+    }
+
+    @Test
+    public void recent() {
+        TimeSeries series = new TimeSeries(3, 2);
+        series.add(1, 10);
+        series.add(2, 20);
+        assertEquals(2, series.size());
+        assertEquals(20, series.last(), DELTA);
+        assertArrayEquals(new double[] { 10, 20 }, series.values(), DELTA);
+        assertArrayEquals(new double[] { 1, 2 }, series.times(), DELTA);
+    }
+
+    @Test
+    public void downSample() {
+        TimeSeries series = new TimeSeries(3, 2);
+        for (int i = 1; i <= 5; i++) {
+            series.add(i, i * 10);
+        }
+        // 10 and 20 have been merged into one archived point
+        assertArrayEquals(new double[] { 15, 30, 40, 50 }, series.values(), DELTA);
+        assertArrayEquals(new double[] { 1.5, 3, 4, 5 }, series.times(), DELTA);
+    }
+
+    @Test
+    public void bounded() {
+        TimeSeries series = new TimeSeries(3, 2);
+        for (int i = 1; i <= 100; i++) {
+            series.add(i, i);
+        }
+        // 97 waits in the pending bucket
+        assertEquals(6, series.size());
+        assertArrayEquals(new double[] { 91.5, 93.5, 95.5, 98, 99, 100 }, series.values(), DELTA);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs filter, sort and paging operations on 50k items, the size of large list views like the JMS message list. Instead of
+ * measuring time, which is not reliable in a unit test, the benchmark counts filter and comparator invocations.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class DataProviderBenchmarkTest {
+
+    private static final int ITEMS = 50_000;
+    private static final int PAGE_SIZE = 20;
+
+    private int tests;
+    private int comparisons;
+    private Filter<Integer> digits;
+    private Filter<Integer> divisible;
+    private Comparator<Integer> ascending;
+    private Comparator<Integer> descending;
+    private List<Integer> items;
+    private DataProvider<Integer> dataProvider;
+
+    @Before
+    public void setUp() {
+        digits = Filter.substring((number, filter) -> {
+            tests++;
+            return String.valueOf(number).contains(filter);
+        });
+        divisible = (number, filter) -> {
+            tests++;
+            return number % Integer.parseInt(filter) == 0;
+        };
+        ascending = (n1, n2) -> {
+            comparisons++;
+            return Integer.compare(n1, n2);
+        };
+        descending = ascending.reversed();
+        items = range(0, ITEMS).map(i -> (i * 7919) % ITEMS).boxed().collect(toList());
+
+        dataProvider = new DataProvider<>(String::valueOf, true, PAGE_SIZE);
+        dataProvider.update(items);
+        resetCounters();
+    }
+
+    @Test
+    public void filterAll() {
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "1"));
+        assertEquals(ITEMS, tests);
+        assertFiltered(n -> String.valueOf(n).contains("1"));
+    }
+
+    @Test
+    public void narrowFilterValue() {
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "1"));
+        int matched = total();
+        resetCounters();
+
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "12"));
+        assertEquals(matched, tests);
+        assertFiltered(n -> String.valueOf(n).contains("12"));
+    }
+
+    @Test
+    public void addFilter() {
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "1"));
+        int matched = total();
+        resetCounters();
+
+        dataProvider.addFilter("divisible", new FilterValue<>(divisible, "3"));
+        assertEquals(matched, tests);
+        assertFiltered(n -> String.valueOf(n).contains("1") && n % 3 == 0);
+    }
+
+    @Test
+    public void widenFilter() {
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "12"));
+        resetCounters();
+
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "1"));
+        assertEquals(ITEMS, tests);
+        assertFiltered(n -> String.valueOf(n).contains("1"));
+
+        resetCounters();
+        dataProvider.removeFilter("digits");
+        assertEquals(0, tests);
+        assertEquals(ITEMS, total());
+    }
+
+    @Test
+    public void changeOtherFilter() {
+        dataProvider.addFilter("divisible", new FilterValue<>(divisible, "3"));
+        resetCounters();
+
+        // divisible by 9 is a subset, but only substring filters declare that they narrow
+        dataProvider.addFilter("divisible", new FilterValue<>(divisible, "9"));
+        assertEquals(ITEMS, tests);
+        assertFiltered(n -> n % 9 == 0);
+    }
+
+    @Test
+    public void paging() {
+        dataProvider.setComparator(ascending);
+        dataProvider.addFilter("digits", new FilterValue<>(digits, "1"));
+        resetCounters();
+
+        dataProvider.gotoNextPage();
+        dataProvider.gotoLastPage();
+        dataProvider.setPageSize(50);
+        dataProvider.gotoPage(3);
+        assertEquals(0, tests);
+        assertEquals(0, comparisons);
+
+        List<Integer> expected = range(0, ITEMS).filter(n -> String.valueOf(n).contains("1")).boxed()
+                .skip(150).limit(50).collect(toList());
+        assertEquals(expected, Lists.newArrayList(dataProvider.getVisibleItems()));
+    }
+
+    @Test
+    public void sortCache() {
+        dataProvider.setComparator(ascending);
+        assertTrue(comparisons > 0);
+        resetCounters();
+
+        dataProvider.setComparator(descending);
+        assertTrue(comparisons > 0);
+        resetCounters();
+
+        dataProvider.setComparator(ascending);
+        assertEquals(0, comparisons);
+        assertEquals(Integer.valueOf(0), dataProvider.getVisibleItems().iterator().next());
+
+        dataProvider.setComparator(descending);
+        assertEquals(0, comparisons);
+        assertEquals(Integer.valueOf(ITEMS - 1), dataProvider.getVisibleItems().iterator().next());
+    }
+
+    @Test
+    public void updateInvalidatesSortCache() {
+        dataProvider.setComparator(ascending);
+        resetCounters();
+
+        dataProvider.update(items);
+        assertTrue(comparisons > 0);
+    }
+
+    private void assertFiltered(Predicate<Integer> predicate) {
+        List<Integer> expected = items.stream().filter(predicate).collect(toList());
+        assertEquals(expected, Lists.newArrayList(dataProvider.getFilteredItems()));
+        assertEquals(expected.size(), total());
+    }
+
+    private int total() {
+        return dataProvider.getPageInfo().getTotal();
+    }
+
+    private void resetCounters() {
+        tests = 0;
+        comparisons = 0;
+    }
+}
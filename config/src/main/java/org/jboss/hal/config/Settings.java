@@ -85,9 +85,15 @@ public class Settings {
     @SuppressWarnings("DuplicateStringLiteralInspection")
     public enum Key {
         TITLE("title", true), COLLECT_USER_DATA("collect-user-data", true), LOCALE("locale", true), PAGE_SIZE("page-size",
-                true), POLL("poll", true), POLL_TIME("poll-time", true), RUN_AS("run-as", false); // can contain multiple roles
+                true), POLL("poll", true), POLL_TIME("poll-time", true), RUN_AS("run-as", false), // can contain multiple roles
                                                                                                   // separated by ","
 
+        // advanced settings w/o UI
+        METADATA_BATCH_SIZE("metadata-batch-size", true), // fixed number of r-r-d operations per composite
+        METADATA_PARALLELISM("metadata-parallelism", true), // number of parallel r-r-d composites
+        METADATA_CACHE_SIZE("metadata-cache-size", true), // memory budget of the metadata cache in MB
+        OPERATION_CACHE_TTL("operation-cache-ttl", true); // time to live of cached read-only operations in ms
+
         public static Key from(String key) {
             switch (key) {
                 case "title":
@@ -104,6 +110,14 @@ public class Settings {
                     return POLL_TIME;
                 case "run-as":
                     return RUN_AS;
+                case "metadata-batch-size":
+                    return METADATA_BATCH_SIZE;
+                case "metadata-parallelism":
+                    return METADATA_PARALLELISM;
+                case "metadata-cache-size":
+                    return METADATA_CACHE_SIZE;
+                case "operation-cache-ttl":
+                    return OPERATION_CACHE_TTL;
                 default:
                     return null;
             }
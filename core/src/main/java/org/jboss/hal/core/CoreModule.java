@@ -29,7 +29,11 @@ import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.MbuiContext;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.core.modelbrowser.ModelBrowser;
+import org.jboss.hal.core.mvp.MetadataPrefetcher;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.MetricsStore;
+import org.jboss.hal.core.runtime.PollScheduler;
+import org.jboss.hal.core.runtime.ServerLifecycleWatcher;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -67,13 +71,17 @@ public class CoreModule extends AbstractGinModule {
         bind(ModelBrowser.class);
         bind(Core.class).in(Singleton.class);
         bind(Places.class).in(Singleton.class);
+        bind(PollScheduler.class).in(Singleton.class);
         bind(ServerActions.class).in(Singleton.class);
         bind(ServerGroupActions.class).in(Singleton.class);
+        bind(ServerLifecycleWatcher.class).in(Singleton.class);
         bind(ServerUrlStorage.class).in(Singleton.class);
         bind(StatementContext.class).to(CoreStatementContext.class).asEagerSingleton(); // to register the event handler
         bind(Subsystems.class).in(Singleton.class);
         bind(TableButtonFactory.class).in(Singleton.class);
         bind(MbuiContext.class).in(Singleton.class);
+        bind(MetadataPrefetcher.class).in(Singleton.class);
+        bind(MetricsStore.class).in(Singleton.class);
         bind(UIRegistry.class).in(Singleton.class);
 
         requestStaticInjection(Core.class);
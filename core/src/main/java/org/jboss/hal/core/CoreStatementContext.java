@@ -45,6 +45,7 @@ public class CoreStatementContext implements StatementContext,
 
     private final Environment environment;
     private final Map<Expression, String> context;
+    private int generation;
 
     @Inject
     public CoreStatementContext(Environment environment, EventBus eventBus) {
@@ -90,18 +91,21 @@ public class CoreStatementContext implements StatementContext,
     @Override
     public void onProfileSelection(ProfileSelectionEvent event) {
         context.put(SELECTED_PROFILE, event.getProfile());
+        generation++;
         logger.info("Selected profile {}", event.getProfile());
     }
 
     @Override
     public void onServerGroupSelection(ServerGroupSelectionEvent event) {
         context.put(SELECTED_GROUP, event.getServerGroup());
+        generation++;
         logger.info("Selected server-group {}", event.getServerGroup());
     }
 
     @Override
     public void onHostSelection(HostSelectionEvent event) {
         context.put(SELECTED_HOST, event.getHost());
+        generation++;
         logger.info("Selected host {}", event.getHost());
     }
 
@@ -109,6 +113,7 @@ public class CoreStatementContext implements StatementContext,
     public void onServerSelection(ServerSelectionEvent event) {
         context.put(SELECTED_SERVER_CONFIG, event.getServer());
         context.put(SELECTED_SERVER, event.getServer());
+        generation++;
         logger.info("Selected server {}", event.getServer());
     }
 
@@ -141,4 +146,9 @@ public class CoreStatementContext implements StatementContext,
     public String selectedServer() {
         return context.get(SELECTED_SERVER);
     }
+
+    @Override
+    public int generation() {
+        return generation;
+    }
 }
@@ -224,6 +224,7 @@ public class CrudOperations {
         }
         dispatcher.execute(builder.build(), result -> {
             MessageEvent.fire(eventBus, Message.success(successMessage));
+            eventBus.fireEvent(new ResourceStructureChangedEvent(address));
             callback.execute(name, address);
         }, (__, error) -> MessageEvent.fire(eventBus,
                 Message.error(resources.messages().addResourceError(name, error))));
@@ -371,6 +372,7 @@ public class CrudOperations {
     public void addSingleton(String type, Operation operation, AddSingletonCallback callback) {
         dispatcher.execute(operation, result -> {
             MessageEvent.fire(eventBus, Message.success(resources.messages().addSingleResourceSuccess(type)));
+            eventBus.fireEvent(new ResourceStructureChangedEvent(operation.getAddress()));
             callback.execute(operation.getAddress());
         }, (__, error) -> MessageEvent.fire(eventBus,
                 Message.error(resources.messages().addSingleResourceError(type, error))));
@@ -1281,6 +1283,7 @@ public class CrudOperations {
             Operation operation = new Operation.Builder(address, REMOVE).build();
             dispatcher.execute(operation, result -> {
                 MessageEvent.fire(eventBus, Message.success(success));
+                eventBus.fireEvent(new ResourceStructureChangedEvent(address));
                 callback.execute();
             });
         });
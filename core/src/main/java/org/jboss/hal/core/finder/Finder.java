@@ -136,6 +136,11 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     @Override
     public void detach() {
         columns.values().forEach(Attachable::detach);
+        if (currentPreview != null) {
+            // stop previews which sample metrics
+            currentPreview.detach();
+            currentPreview = null;
+        }
     }
 
     private FinderColumn<?> initialColumn() {
@@ -490,7 +495,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
                     .then(column -> {
                         if (column.contains(segment.getItemId())) {
                             column.markSelected(segment.getItemId());
-                            column.row(segment.getItemId()).element().scrollIntoView(false);
+                            column.scrollTo(segment.getItemId());
                             updateContext();
                             context.push(column);
                         } else {
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,17 +51,21 @@ import com.google.common.collect.Iterables;
 import com.google.gwt.core.client.GWT;
 import com.google.web.bindery.event.shared.HandlerRegistration;
 
+import elemental2.dom.CSSProperties;
 import elemental2.dom.DragEvent;
-import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 import elemental2.dom.KeyboardEvent;
-import elemental2.dom.NodeList;
+import elemental2.dom.Node;
 import elemental2.promise.Promise;
 
 import static java.util.stream.Collectors.toList;
 
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
@@ -76,11 +79,11 @@ import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.EventType.scroll;
 import static org.jboss.elemento.InputType.text;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
 import static org.jboss.hal.core.finder.Finder.DATA_BREADCRUMB;
-import static org.jboss.hal.core.finder.Finder.DATA_FILTER;
 import static org.jboss.hal.resources.CSS.active;
 import static org.jboss.hal.resources.CSS.btn;
 import static org.jboss.hal.resources.CSS.btnFinder;
@@ -100,6 +103,7 @@ import static org.jboss.hal.resources.CSS.inputGroupAddon;
 import static org.jboss.hal.resources.CSS.itemText;
 import static org.jboss.hal.resources.CSS.last;
 import static org.jboss.hal.resources.CSS.pinned;
+import static org.jboss.hal.resources.CSS.spacer;
 import static org.jboss.hal.resources.CSS.unpinned;
 import static org.jboss.hal.resources.Names.NOT_AVAILABLE;
 import static org.jboss.hal.resources.UIConstants.GROUP;
@@ -124,7 +128,16 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
  */
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
-    private static final String DOT = ".";
+    /** Columns with more visible items than this use virtual scrolling. */
+    static final int VIRTUAL_THRESHOLD = 100;
+    /** Number of rows rendered above and below the viewport when using virtual scrolling. */
+    static final int BUFFER = 10;
+    /** Maximum number of rows which are created per animation frame. */
+    static final int ROWS_PER_FRAME = 25;
+    /** Delay in ms between the last key stroke in the filter box and the evaluation of the filter. */
+    static final int FILTER_DELAY = 150;
+    private static final int DEFAULT_ROW_HEIGHT = 50;
+    private static final int DEFAULT_PAGE_SIZE = 30;
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
 
@@ -141,9 +154,12 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final HTMLElement clearFilterElement;
     private final HTMLElement ulElement;
     private final HTMLElement noItems;
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
     private final List<T> initialItems;
     private final ItemSelectionHandler<T> selectionHandler;
     private final List<HandlerRegistration> handlers;
+    private final FinderColumnModel<T> model;
     private final Map<String, FinderRow<T>> rows;
     private final FinderColumnStorage storage;
 
@@ -155,6 +171,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private PreviewCallback<T> previewCallback;
     private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
     private final BreadcrumbItemHandler<T> breadcrumbItemHandler;
+    private double rowHeight;
+    private int frame;
+    private double filterHandle;
+    private int renderedFrom;
+    private int renderedTo;
 
     // ------------------------------------------------------ ui
 
@@ -175,9 +196,12 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.firstActionAsBreadcrumbHandler = builder.firstActionAsBreadcrumbHandler;
         this.asElement = false;
 
+        this.model = new FinderColumnModel<>();
         this.rows = new HashMap<>();
         this.storage = new FinderColumnStorage(id);
         this.handlers = new ArrayList<>();
+        this.rowHeight = DEFAULT_ROW_HEIGHT;
+        this.filterHandle = -1;
 
         // header
         HTMLElement header;
@@ -243,6 +267,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         noItems = li().css(empty)
                 .add(span().css(itemText).textContent(CONSTANTS.noItems()))
                 .element();
+
+        // placeholders for the rows outside the viewport
+        topSpacer = li().css(spacer).element();
+        bottomSpacer = li().css(spacer).element();
     }
 
     private HTMLElement newColumnButton(ColumnAction<T> action) {
@@ -315,10 +343,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void updateHeader(int matched) {
         if (showCount) {
             String titleWithSize;
-            if (matched == rows.size()) {
-                titleWithSize = title + " (" + rows.size() + ")";
+            if (matched == model.size()) {
+                titleWithSize = title + " (" + model.size() + ")";
             } else {
-                titleWithSize = title + " (" + matched + " / " + rows.size() + ")";
+                titleWithSize = title + " (" + matched + " / " + model.size() + ")";
             }
             headerElement.textContent = titleWithSize;
             headerElement.title = titleWithSize;
@@ -329,6 +357,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     public void attach() {
         handlers.add(bind(root, keydown, this::onNavigation));
         handlers.add(bind(hiddenColumns, click, event -> finder.revealHiddenColumns(FinderColumn.this)));
+        handlers.add(bind(ulElement, scroll, event -> scheduleRender()));
         if (filterElement != null) {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
@@ -341,80 +370,84 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             handler.removeHandler();
         }
         handlers.clear();
+        cancelFilter();
+        if (frame != 0) {
+            cancelAnimationFrame(frame);
+            frame = 0;
+        }
     }
 
     // ------------------------------------------------------ event handler
 
     private void onFilter(KeyboardEvent event) {
+        cancelFilter();
         if (Escape == Key.fromEvent(event)) {
             filterElement.value = "";
             // hide the 'clear' icon when there are no chars
             Elements.setVisible(clearFilterElement, false);
+            applyFilter();
         } else {
             // show the 'clear' icon when there are typed chars
             Elements.setVisible(clearFilterElement, true);
+            filterHandle = setTimeout(__ -> {
+                filterHandle = -1;
+                applyFilter();
+            }, FILTER_DELAY);
         }
+    }
 
-        int matched = 0;
+    private void applyFilter() {
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
-            }
-        }
+        int matched = model.filter(filter);
         updateHeader(matched);
-        if (matched == 0) {
-            Elements.lazyAppend(ulElement, noItems);
-        } else {
-            Elements.failSafeRemove(ulElement, noItems);
-        }
+        render(ROWS_PER_FRAME);
         // when user deletes remaining chars, hide the 'clear' icon
         if (filter != null && filter.trim().length() == 0) {
             Elements.setVisible(clearFilterElement, false);
         }
     }
 
+    /** Applies a pending filter right away, so that the keyboard navigation works on the filtered items. */
+    private void flushFilter() {
+        if (filterHandle != -1) {
+            cancelFilter();
+            applyFilter();
+        }
+    }
+
+    private void cancelFilter() {
+        if (filterHandle != -1) {
+            clearTimeout(filterHandle);
+            filterHandle = -1;
+        }
+    }
+
     private void clearFilter() {
+        cancelFilter();
         filterElement.value = "";
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Elements.setVisible(li, true);
-        }
-        Elements.failSafeRemove(ulElement, noItems);
+        updateHeader(model.filter(null));
+        render(ROWS_PER_FRAME);
         Elements.setVisible(clearFilterElement, false);
     }
 
     private void onNavigation(KeyboardEvent event) {
-        if (hasVisibleElements()) {
+        flushFilter();
+        if (model.visibleSize() > 0) {
             Key key = Key.fromEvent(event);
             switch (key) {
 
                 case ArrowUp:
                 case ArrowDown: {
-                    HTMLElement activeElement = activeElement();
-                    if (!Elements.isVisible(activeElement)) {
-                        activeElement = null;
-                    }
-                    HTMLElement select = key == ArrowUp
-                            ? previousVisibleElement(activeElement)
-                            : nextVisibleElement(activeElement);
-                    if (select != null && select != noItems) {
+                    String selected = model.isVisible(model.selected()) ? model.selected() : null;
+                    FinderColumnModel.Entry<T> select = key == ArrowUp
+                            ? model.previous(selected)
+                            : model.next(selected);
+                    if (select != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        select.scrollIntoView(false);
-                        row(select).click();
+                        scrollTo(select.id);
+                        row(select.id).click();
                     }
                     break;
                 }
@@ -433,7 +466,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                             FinderRow<?> selectedRow = previousColumn.selectedRow();
                             if (selectedRow != null) {
                                 selectedRow.updatePreview();
-                                selectedRow.element().scrollIntoView(false);
+                                previousColumn.scrollTo(selectedRow.getId());
                             }
                             finder.updateContext();
                             finder.updateHistory();
@@ -443,20 +476,16 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    FinderColumnModel.Entry<T> selected = model.selectedEntry();
+                    String nextColumn = selected != null ? selected.display.nextColumn() : null;
+                    if (model.isVisible(model.selected()) && nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
                         finder.reduceTo(this);
                         finder.appendColumn(nextColumn)
                                 .then(column -> {
-                                    if (column.activeElement() == null && column.hasVisibleElements()) {
-                                        HTMLElement firstElement = column.nextVisibleElement(null);
-                                        column.markSelected(firstElement.id);
-                                        column.row(firstElement).updatePreview();
-                                    }
+                                    column.selectFirst();
                                     finder.updateContext();
                                     finder.updateHistory();
                                     finder.selectColumn(nextColumn);
@@ -472,15 +501,14 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
+                    FinderRow<T> selectedRow = model.isVisible(model.selected()) ? selectedRow() : null;
+                    ItemActionHandler<T> primaryAction = selectedRow != null ? selectedRow.getPrimaryAction() : null;
+                    if (selectedRow != null && primaryAction != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        row(activeItem).click();
-                        primaryAction.execute(item);
+                        selectedRow.click();
+                        primaryAction.execute(selectedRow.getItem());
                     }
                     break;
                 }
@@ -501,73 +529,57 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         Elements.setVisible(hiddenColumns, show);
     }
 
-    private HTMLElement activeElement() {
-        return (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
-    }
-
-    private boolean hasVisibleElements() {
-        for (HTMLElement element : Elements.children(ulElement)) {
-            if (Elements.isVisible(element) && element != noItems) {
-                return true;
+    FinderRow<T> row(String itemId) {
+        FinderRow<T> row = rows.get(itemId);
+        if (row == null) {
+            FinderColumnModel.Entry<T> entry = model.get(itemId);
+            if (entry != null) {
+                row = new FinderRow<>(finder, this, entry.item, entry.isPinned(), entry.display, previewCallback);
+                row.markSelected(itemId.equals(model.selected()));
+                rows.put(itemId, row);
             }
         }
-        return false;
+        return row;
     }
 
-    private HTMLElement previousVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.lastElementChild : start.previousElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.previousElementSibling;
-        }
-        return element;
+    FinderRow<T> selectedRow() {
+        return model.selected() != null ? row(model.selected()) : null;
     }
 
-    private HTMLElement nextVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.firstElementChild : start.nextElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.nextElementSibling;
-        }
-        return element;
+    String selectedId() {
+        return model.selected();
     }
 
-    FinderRow<T> row(String itemId) {
-        return rows.get(itemId);
+    boolean contains(String itemId) {
+        return model.contains(itemId);
     }
 
-    private FinderRow<T> row(Element element) {
-        if (element instanceof HTMLElement) {
-            return row(((HTMLElement) element).id);
+    void markSelected(String itemId) {
+        model.select(itemId);
+        for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
+            entry.getValue().markSelected(itemId.equals(entry.getKey()));
         }
-        return null;
-    }
-
-    FinderRow<T> selectedRow() {
-        HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
-        if (activeItem != null && rows.containsKey(activeItem.id)) {
-            return rows.get(activeItem.id);
+        FinderColumnModel.Entry<T> selected = model.selectedEntry();
+        if (selected != null && selectionHandler != null) {
+            selectionHandler.onSelect(selected.item);
         }
-        return null;
-    }
-
-    boolean contains(String itemId) {
-        return rows.containsKey(itemId);
     }
 
-    void markSelected(String itemId) {
-        for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
-            boolean select = itemId.equals(entry.getKey());
-            entry.getValue().markSelected(select);
-            if (select && selectionHandler != null) {
-                selectionHandler.onSelect(entry.getValue().getItem());
-            }
+    /** Selects the first visible item, if there's no selection yet. */
+    void selectFirst() {
+        if (model.selected() == null && model.visibleSize() > 0) {
+            String first = model.visible(0).id;
+            markSelected(first);
+            row(first).updatePreview();
         }
     }
 
     void resetSelection() {
-        HTMLElement element = activeElement();
-        if (element != null) {
-            element.classList.remove(active);
+        String selected = model.selected();
+        if (selected != null && rows.containsKey(selected)) {
+            rows.get(selected).element().classList.remove(active);
         }
+        model.select(null);
     }
 
     boolean isPinnable() {
@@ -577,72 +589,144 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     void unpin(FinderRow<T> row) {
         row.element().classList.remove(pinned);
         row.element().classList.add(unpinned);
-
-        // move row to unpinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + unpinned);
-        if (nodes.getLength() == 0) {
-            // no unpinned rows append to bottom
-            ulElement.appendChild(row.element());
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                ulElement.appendChild(row.element());
-            }
-        }
-        adjustPinSeparator();
+        model.unpin(row.getId());
+        render(ROWS_PER_FRAME);
         storage.unpinItem(row.getId());
     }
 
     void pin(FinderRow<T> row) {
         row.element().classList.remove(unpinned);
         row.element().classList.add(pinned);
+        model.pin(row.getId());
+        render(ROWS_PER_FRAME);
+        scrollTo(row.getId());
+        storage.pinItem(row.getId());
+    }
 
-        // move row to pinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        if (nodes.getLength() == 0) {
-            // no pinned rows append to top
-            ulElement.insertBefore(row.element(), ulElement.firstChild);
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                Element firstUnpinned = ulElement.querySelector(DOT + unpinned);
-                if (firstUnpinned != null) {
-                    ulElement.insertBefore(row.element(), firstUnpinned);
-                } else {
-                    ulElement.appendChild(row.element());
+    /** Scrolls the row with the given id into view. Works for rows outside the rendered window as well. */
+    void scrollTo(String itemId) {
+        int position = model.indexOf(itemId);
+        if (position != -1) {
+            if (position < renderedFrom || position >= renderedTo) {
+                if (isVirtual()) {
+                    ulElement.scrollTop = Math.max(0, (position + 1) * rowHeight - ulElement.clientHeight);
                 }
+                render(Integer.MAX_VALUE);
+            }
+            FinderRow<T> row = row(itemId);
+            if (row != null) {
+                row.element().scrollIntoView(false);
             }
         }
-        adjustPinSeparator();
-        row.element().scrollIntoView(false);
-        storage.pinItem(row.getId());
     }
 
-    private Element findPosition(NodeList<Element> nodes, FinderRow<T> row) {
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element currentElement = nodes.item(i);
-            FinderRow<T> currentRow = row(currentElement);
-            if (currentRow.getDisplay().getTitle().compareTo(row.getDisplay().getTitle()) > 0) {
-                return currentElement;
+    // ------------------------------------------------------ rendering
+
+    private boolean isVirtual() {
+        return model.visibleSize() > VIRTUAL_THRESHOLD;
+    }
+
+    private void scheduleRender() {
+        if (frame == 0 && isVirtual()) {
+            frame = requestAnimationFrame(timestamp -> {
+                frame = 0;
+                int[] window = window();
+                if (window[0] != renderedFrom || window[1] != renderedTo) {
+                    render(ROWS_PER_FRAME);
+                }
+            });
+        }
+    }
+
+    /** @return the range of visible items which should be in the DOM */
+    private int[] window() {
+        int size = model.visibleSize();
+        if (!isVirtual()) {
+            return new int[] { 0, size };
+        }
+        int page = ulElement.clientHeight > 0 ? (int) Math.ceil(ulElement.clientHeight / rowHeight) : DEFAULT_PAGE_SIZE;
+        int top = (int) (ulElement.scrollTop / rowHeight);
+        return new int[] { Math.max(0, top - BUFFER), Math.min(size, top + page + BUFFER) };
+    }
+
+    /**
+     * Puts the rows of the current window into the DOM. Creates at most {@code budget} new rows. If that's not enough for the
+     * whole window, the remaining rows are rendered in the next animation frame.
+     */
+    private void render(int budget) {
+        int[] window = window();
+        int from = window[0];
+        int to = window[1];
+        boolean virtual = isVirtual();
+        FinderColumnModel.Entry<T> lastPinned = model.lastPinned();
+
+        int created = 0;
+        List<HTMLElement> elements = new ArrayList<>();
+        if (virtual) {
+            elements.add(topSpacer);
+        }
+        for (int i = from; i < to; i++) {
+            FinderColumnModel.Entry<T> entry = model.visible(i);
+            if (!rows.containsKey(entry.id)) {
+                if (created == budget) {
+                    to = i;
+                    break;
+                }
+                created++;
+            }
+            HTMLElement element = row(entry.id).element();
+            element.classList.toggle(last, entry == lastPinned);
+            elements.add(element);
+        }
+        if (virtual) {
+            elements.add(bottomSpacer);
+        }
+        if (model.visibleSize() == 0) {
+            elements.add(noItems);
+        }
+        replaceChildren(elements);
+        renderedFrom = from;
+        renderedTo = to;
+
+        if (virtual) {
+            if (to > from) {
+                double height = row(model.visible(from).id).element().offsetHeight;
+                if (height > 0) {
+                    rowHeight = height;
+                }
             }
+            double below = (model.visibleSize() - to) * rowHeight;
+            topSpacer.style.height = CSSProperties.HeightUnionType.of(from * rowHeight + "px"); // NON-NLS
+            bottomSpacer.style.height = CSSProperties.HeightUnionType.of(below + "px"); // NON-NLS
+        }
+        if (created > 0) {
+            Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+        }
+        if (to < window[1] && frame == 0) {
+            frame = requestAnimationFrame(timestamp -> {
+                frame = 0;
+                render(ROWS_PER_FRAME);
+            });
         }
-        return null;
     }
 
-    private void adjustPinSeparator() {
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = nodes.item(i);
-            if (i == nodes.getLength() - 1) {
-                element.classList.add(last);
+    /** Makes the given elements the children of the list, reusing the elements which are already attached. */
+    private void replaceChildren(List<HTMLElement> elements) {
+        List<HTMLElement> remove = new ArrayList<>();
+        for (HTMLElement child : Elements.children(ulElement)) {
+            if (!elements.contains(child)) {
+                remove.add(child);
+            }
+        }
+        for (HTMLElement child : remove) {
+            ulElement.removeChild(child);
+        }
+        Node current = ulElement.firstChild;
+        for (HTMLElement element : elements) {
+            if (current == element) {
+                current = current.nextSibling;
             } else {
-                element.classList.remove(last);
+                ulElement.insertBefore(element, current);
             }
         }
     }
@@ -669,48 +753,15 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void setItems(List<T> items) {
         rows.clear();
         currentItems = items;
-        Elements.removeChildrenFrom(ulElement);
+        cancelFilter();
         if (filterElement != null) {
             filterElement.value = "";
         }
-
-        List<T> pinnedItems = new ArrayList<>();
-        List<T> unpinnedItems = new ArrayList<>();
-        Set<String> pinnedItemIds = storage.pinnedItems();
-        if (pinnable && !pinnedItemIds.isEmpty()) {
-            for (T item : items) {
-                String id = itemRenderer.render(item).getId();
-                if (pinnedItemIds.contains(id)) {
-                    pinnedItems.add(item);
-                } else {
-                    unpinnedItems.add(item);
-                }
-            }
-        } else {
-            unpinnedItems.addAll(items);
-        }
-        for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext();) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-            if (!iterator.hasNext()) {
-                row.element().classList.add(last);
-            }
-        }
-        for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-        }
+        model.setItems(items, itemRenderer, pinnable ? storage.pinnedItems() : Collections.emptySet());
+        ulElement.scrollTop = 0;
+        Elements.removeChildrenFrom(ulElement);
         updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
-
-        if (items.isEmpty()) {
-            ulElement.appendChild(noItems);
-        }
+        render(ROWS_PER_FRAME);
     }
 
     /**
@@ -879,10 +930,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 FinderRow<T> oldRow = selectedRow();
                 refresh(() -> {
                     if (oldRow != null) {
-                        FinderRow<T> updatedRow = rows.get(oldRow.getId());
+                        FinderRow<T> updatedRow = row(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
-                            updatedRow.element().scrollIntoView(false);
+                            scrollTo(updatedRow.getId());
                         } else {
                             finder.selectPreviousColumn(id);
                         }
@@ -901,7 +952,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
      */
     public void refresh(String selectItemId) {
         refresh(() -> {
-            FinderRow<T> row = rows.get(selectItemId);
+            FinderRow<T> row = row(selectItemId);
             if (row != null) {
                 row.click();
             } else {
@@ -0,0 +1,257 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.resources.Strings;
+
+/**
+ * Model behind a finder column. Holds all items of a column in display order (pinned items first), the items which match the
+ * current filter and the selected item. Filtering, pinning and keyboard navigation work against this model rather than the DOM,
+ * which makes it possible to render only the items in the viewport. Only used internally in the finder.
+ * <p>
+ * The filter data of the items is normalized once when the items are set. A filter consists of whitespace separated tokens and
+ * an item matches if its filter data contains all tokens. If a filter extends the previous one (the user keeps typing), only
+ * the items which matched the previous filter are checked again.
+ */
+class FinderColumnModel<T> {
+
+    private final List<Entry<T>> entries;
+    private final Map<String, Entry<T>> index;
+    private final List<Entry<T>> visible;
+    private final Map<String, Integer> positions;
+    private String filter;
+    private String[] tokens;
+    private String selected;
+
+    FinderColumnModel() {
+        this.entries = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.visible = new ArrayList<>();
+        this.positions = new HashMap<>();
+        this.filter = null;
+        this.tokens = new String[0];
+        this.selected = null;
+    }
+
+    /** Renders each item once and puts the pinned items before the unpinned ones. Resets the filter and the selection. */
+    void setItems(List<T> items, ItemRenderer<T> itemRenderer, Set<String> pinnedIds) {
+        entries.clear();
+        index.clear();
+        filter = null;
+        tokens = new String[0];
+        selected = null;
+
+        List<Entry<T>> unpinned = new ArrayList<>();
+        for (T item : items) {
+            ItemDisplay<T> display = itemRenderer.render(item);
+            String id = Strings.sanitize(display.getId());
+            Entry<T> entry = new Entry<>(item, display, id, pinnedIds.contains(display.getId()));
+            index.put(id, entry);
+            if (entry.pinned) {
+                entries.add(entry);
+            } else {
+                unpinned.add(entry);
+            }
+        }
+        entries.addAll(unpinned);
+        applyFilter(false);
+    }
+
+    // ------------------------------------------------------ filter
+
+    /** @return the number of items matching the filter */
+    int filter(String filter) {
+        String normalized = normalize(filter);
+        if (normalized == null ? this.filter != null : !normalized.equals(this.filter)) {
+            boolean narrow = this.filter != null && normalized != null && normalized.startsWith(this.filter);
+            this.filter = normalized;
+            this.tokens = normalized != null ? normalized.split(" ") : new String[0];
+            applyFilter(narrow);
+        }
+        return visible.size();
+    }
+
+    private void applyFilter(boolean narrow) {
+        List<Entry<T>> candidates = narrow ? new ArrayList<>(visible) : entries;
+        visible.clear();
+        positions.clear();
+        for (Entry<T> entry : candidates) {
+            if (matches(entry)) {
+                positions.put(entry.id, visible.size());
+                visible.add(entry);
+            }
+        }
+    }
+
+    private boolean matches(Entry<T> entry) {
+        if (entry.filterData != null) {
+            for (String token : tokens) {
+                if (!entry.filterData.contains(token)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** @return the lower case value with collapsed whitespace or {@code null} if the value is empty */
+    static String normalize(String value) {
+        if (value == null || value.trim().length() == 0) {
+            return null;
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    // ------------------------------------------------------ pinning
+
+    void pin(String id) {
+        move(id, true);
+    }
+
+    void unpin(String id) {
+        move(id, false);
+    }
+
+    private void move(String id, boolean pinned) {
+        Entry<T> entry = index.get(id);
+        if (entry != null) {
+            entries.remove(entry);
+            entry.pinned = pinned;
+
+            // insert sorted by title into the pinned or unpinned section
+            int position = -1;
+            int sectionEnd = entries.size();
+            for (int i = 0; i < entries.size(); i++) {
+                Entry<T> current = entries.get(i);
+                if (current.pinned == pinned) {
+                    if (position == -1 && current.title().compareTo(entry.title()) > 0) {
+                        position = i;
+                    }
+                } else if (pinned) {
+                    sectionEnd = i;
+                    break;
+                }
+            }
+            entries.add(position == -1 ? sectionEnd : position, entry);
+            applyFilter(false);
+        }
+    }
+
+    /** @return the last pinned entry or {@code null} if there are no pinned entries */
+    Entry<T> lastPinned() {
+        Entry<T> last = null;
+        for (Entry<T> entry : entries) {
+            if (!entry.pinned) {
+                break;
+            }
+            last = entry;
+        }
+        return last;
+    }
+
+    // ------------------------------------------------------ selection & navigation
+
+    void select(String id) {
+        selected = id;
+    }
+
+    String selected() {
+        return selected;
+    }
+
+    Entry<T> selectedEntry() {
+        return selected != null ? index.get(selected) : null;
+    }
+
+    /** @return the visible entry after the given id or the first visible entry if the id is {@code null} or not visible */
+    Entry<T> next(String id) {
+        int position = indexOf(id);
+        return position + 1 < visible.size() ? visible.get(position + 1) : null;
+    }
+
+    /** @return the visible entry before the given id or the last visible entry if the id is {@code null} or not visible */
+    Entry<T> previous(String id) {
+        int position = indexOf(id);
+        if (position == -1) {
+            return visible.isEmpty() ? null : visible.get(visible.size() - 1);
+        }
+        return position > 0 ? visible.get(position - 1) : null;
+    }
+
+    // ------------------------------------------------------ access
+
+    Entry<T> get(String id) {
+        return index.get(id);
+    }
+
+    boolean contains(String id) {
+        return index.containsKey(id);
+    }
+
+    boolean isVisible(String id) {
+        return positions.containsKey(id);
+    }
+
+    /** @return the position of the id in the visible entries or -1 if the id is {@code null} or not visible */
+    int indexOf(String id) {
+        Integer position = id != null ? positions.get(id) : null;
+        return position != null ? position : -1;
+    }
+
+    Entry<T> visible(int position) {
+        return visible.get(position);
+    }
+
+    int visibleSize() {
+        return visible.size();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    static class Entry<T> {
+
+        final T item;
+        final ItemDisplay<T> display;
+        final String id;
+        private final String filterData;
+        private boolean pinned;
+
+        private Entry(T item, ItemDisplay<T> display, String id, boolean pinned) {
+            this.item = item;
+            this.display = display;
+            this.id = id;
+            this.pinned = pinned;
+            String data = display.getFilterData();
+            this.filterData = data != null ? data.toLowerCase() : null;
+        }
+
+        boolean isPinned() {
+            return pinned;
+        }
+
+        private String title() {
+            return String.valueOf(display.getTitle());
+        }
+    }
+}
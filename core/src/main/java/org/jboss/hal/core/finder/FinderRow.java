@@ -308,7 +308,7 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     }
 
     private boolean isSelected() {
-        return column.selectedRow() != null && column.selectedRow().getId().equals(id);
+        return id.equals(column.selectedId());
     }
 
     @Override
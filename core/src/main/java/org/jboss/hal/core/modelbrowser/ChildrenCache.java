@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * LRU cache for the children loaded by {@link ReadChildren}. Fully qualified addresses map to the result of
+ * {@code read-children-types}, wildcard addresses like {@code /subsystem=*} map to the result of {@code read-children-names}.
+ */
+final class ChildrenCache {
+
+    static final int MAX_ENTRIES = 500;
+
+    private final Map<ResourceAddress, List<String>> children;
+
+    ChildrenCache() {
+        this.children = new LinkedHashMap<ResourceAddress, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResourceAddress, List<String>> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    List<String> get(ResourceAddress address) {
+        return children.get(address);
+    }
+
+    boolean contains(ResourceAddress address) {
+        return children.containsKey(address);
+    }
+
+    void put(ResourceAddress address, List<String> names) {
+        ResourceAddress key = new ResourceAddress(address);
+        key.protect();
+        children.put(key, names);
+    }
+
+    /**
+     * Removes the cached children of the specified resource and its subtree, the children types of its parent and the children
+     * names of its type.
+     */
+    void invalidate(ResourceAddress address) {
+        if (address.isEmpty()) {
+            clear();
+        } else {
+            ResourceAddress parent = address.getParent();
+            ResourceAddress wildcard = new ResourceAddress(parent).add(address.lastName(), "*");
+            children.keySet().removeIf(key -> key.equals(parent) || key.startsWith(wildcard) || key.startsWith(address));
+        }
+    }
+
+    void clear() {
+        children.clear();
+    }
+
+    int size() {
+        return children.size();
+    }
+}
@@ -35,6 +35,7 @@ import org.jboss.hal.ballroom.tree.Tree;
 import org.jboss.hal.ballroom.wizard.Wizard;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
+import org.jboss.hal.core.ResourceStructureChangedEvent;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
@@ -126,6 +127,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     private final EventBus eventBus;
     private final Resources resources;
     private final Stack<FilterInfo> filterStack;
+    private final ChildrenCache childrenCache;
 
     private final HTMLElement root;
     private final HTMLElement buttonGroup;
@@ -158,8 +160,11 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         this.eventBus = eventBus;
         this.resources = resources;
         this.filterStack = new Stack<>();
+        this.childrenCache = new ChildrenCache();
         this.updateBreadcrumb = false;
         this.surroundingHeight = 0;
+        eventBus.addHandler(ResourceStructureChangedEvent.getType(),
+                event -> childrenCache.invalidate(event.getAddress()));
 
         buttonGroup = div().css(btnGroup, modelBrowserButtons)
                 .add(filter = button().css(btn, btnDefault)
@@ -213,7 +218,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         Node<Context> rootNode = new Node.Builder<>(MODEL_BROWSER_ROOT, text, context)
                 .asyncFolder()
                 .build();
-        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher));
+        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher, childrenCache));
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -299,6 +304,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private void refresh(Node<Context> node) {
         if (node != null) {
+            childrenCache.invalidate(node.data.getAddress());
             updateNode(node);
             tree.refreshNode(node.id);
         }
@@ -27,29 +27,41 @@ import java.util.TreeSet;
 
 import org.jboss.hal.ballroom.tree.DataFunction;
 import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 
+import static java.util.stream.Collectors.toList;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
 /**
- * Function which gets invoked when the user opens a node in the model browser tree. TODO Error handling
+ * Function which gets invoked when the user opens a node in the model browser tree. The children are taken from the
+ * {@link ChildrenCache} if possible. After a node has been opened, the children of its children are prefetched in one composite
+ * operation, so that the next level opens without a round trip. TODO Error handling
  */
 final class ReadChildren implements DataFunction<Context> {
 
+    /** Maximum number of children whose children are prefetched. */
+    static final int MAX_PREFETCH = 50;
     private static final String ID_SEPARATOR = "___";
     private static final String NO_SINGLETON = "no_singleton";
+    private static final Logger logger = LoggerFactory.getLogger(ReadChildren.class);
 
     static String uniqueId(Node<Context> parent, String name) {
         String parentId = parent.id;
@@ -65,87 +77,135 @@ final class ReadChildren implements DataFunction<Context> {
     }
 
     private final Dispatcher dispatcher;
+    private final ChildrenCache cache;
 
-    ReadChildren(final Dispatcher dispatcher) {
+    ReadChildren(final Dispatcher dispatcher, final ChildrenCache cache) {
         this.dispatcher = dispatcher;
+        this.cache = cache;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void load(final Node<Context> node, final ResultCallback<Context> callback) {
-        if (node.data.isFullyQualified()) {
-            Operation operation = new Operation.Builder(node.data.getAddress(), READ_CHILDREN_TYPES_OPERATION)
-                    .param(INCLUDE_SINGLETONS, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
-                Multimap<String, String> resources = HashMultimap.create();
-                for (ModelNode modelNode : modelNodes) {
-                    String name = modelNode.asString();
-                    if (name.contains("=")) {
-                        List<String> parts = Splitter.on('=').limit(2).splitToList(name);
-                        resources.put(parts.get(0), parts.get(1));
-                    } else {
-                        resources.put(name, NO_SINGLETON);
-                    }
-                }
+        ResourceAddress address = node.data.getAddress();
+        List<String> cached = cache.get(address);
+        if (cached != null) {
+            List<Node<Context>> children = children(node, cached);
+            callback.result(children.toArray(new Node[children.size()]));
+            prefetch(children);
 
-                List<Node<Context>> children = new ArrayList<>();
-                for (Map.Entry<String, Collection<String>> entry : resources.asMap().entrySet()) {
-                    String name = entry.getKey();
-                    Set<String> singletons = new HashSet<>(entry.getValue());
-                    if (singletons.size() == 1 && singletons.contains(NO_SINGLETON)) {
-                        singletons = Collections.emptySet();
-                    }
-                    ResourceAddress address = new ResourceAddress(node.data.getAddress()).add(name, "*");
-                    Context context = new Context(address, singletons);
-                    // ids need to be unique!
-                    Node.Builder<Context> builder = new Node.Builder<>(uniqueId(node, name), name, context)
-                            .asyncFolder();
-                    if (!singletons.isEmpty()) {
-                        builder.icon(fontAwesome("list-ul"));
-                    }
-                    children.add(builder.build());
-                }
+        } else {
+            dispatcher.execute(readChildren(node.data), result -> {
+                List<String> names = names(result);
+                cache.put(address, names);
+                List<Node<Context>> children = children(node, names);
                 callback.result(children.toArray(new Node[children.size()]));
+                prefetch(children);
             });
+        }
+    }
 
-        } else {
-            ResourceAddress parentAddress = node.data.getAddress().getParent();
-            Operation operation = new Operation.Builder(parentAddress, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, node.text)
+    private List<Node<Context>> children(Node<Context> node, List<String> names) {
+        return node.data.isFullyQualified() ? typeNodes(node, names) : resourceNodes(node, names);
+    }
+
+    private List<Node<Context>> typeNodes(Node<Context> node, List<String> names) {
+        Multimap<String, String> resources = HashMultimap.create();
+        for (String name : names) {
+            if (name.contains("=")) {
+                List<String> parts = Splitter.on('=').limit(2).splitToList(name);
+                resources.put(parts.get(0), parts.get(1));
+            } else {
+                resources.put(name, NO_SINGLETON);
+            }
+        }
+
+        List<Node<Context>> children = new ArrayList<>();
+        for (Map.Entry<String, Collection<String>> entry : resources.asMap().entrySet()) {
+            String name = entry.getKey();
+            Set<String> singletons = new HashSet<>(entry.getValue());
+            if (singletons.size() == 1 && singletons.contains(NO_SINGLETON)) {
+                singletons = Collections.emptySet();
+            }
+            ResourceAddress address = new ResourceAddress(node.data.getAddress()).add(name, "*");
+            Context context = new Context(address, singletons);
+            // ids need to be unique!
+            Node.Builder<Context> builder = new Node.Builder<>(uniqueId(node, name), name, context)
+                    .asyncFolder();
+            if (!singletons.isEmpty()) {
+                builder.icon(fontAwesome("list-ul"));
+            }
+            children.add(builder.build());
+        }
+        return children;
+    }
+
+    private List<Node<Context>> resourceNodes(Node<Context> node, List<String> names) {
+        ResourceAddress parentAddress = node.data.getAddress().getParent();
+        List<Node<Context>> children = new ArrayList<>();
+        SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
+
+        // Add existing children
+        for (String modelName : names) {
+            String name = SafeHtmlUtils.fromString(modelName).asString();
+            singletons.remove(name);
+            ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
+            Context context = new Context(address, Collections.emptySet());
+            Node<Context> child = new Node.Builder<>(uniqueId(node, name), name, context)
+                    .asyncFolder()
+                    .icon(fontAwesome("file-text-o"))
                     .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
-                List<Node<Context>> children = new ArrayList<>();
-                SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
-
-                // Add existing children
-                for (ModelNode modelNode : modelNodes) {
-                    String name = SafeHtmlUtils.fromString(modelNode.asString()).asString();
-                    singletons.remove(name);
-                    ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
-                    Context context = new Context(address, Collections.emptySet());
-                    Node<Context> child = new Node.Builder<>(uniqueId(node, name), name, context)
-                            .asyncFolder()
-                            .icon(fontAwesome("file-text-o"))
-                            .build();
-                    children.add(child);
-                }
+            children.add(child);
+        }
 
-                // Add non-existing singletons
-                for (String singleton : singletons) {
-                    ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, singleton);
-                    Context context = new Context(address, Collections.emptySet());
-                    Node<Context> child = new Node.Builder<>(uniqueId(node, singleton), singleton, context)
-                            .icon(fontAwesome("file-o"))
-                            .disabled()
-                            .build();
-                    children.add(child);
+        // Add non-existing singletons
+        for (String singleton : singletons) {
+            ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, singleton);
+            Context context = new Context(address, Collections.emptySet());
+            Node<Context> child = new Node.Builder<>(uniqueId(node, singleton), singleton, context)
+                    .icon(fontAwesome("file-o"))
+                    .disabled()
+                    .build();
+            children.add(child);
+        }
+        return children;
+    }
+
+    /**
+     * Reads the children of the children which are not yet cached. The management model fails the composite as a whole if one
+     * step fails. In that case nothing is prefetched and the children are read when the user opens the node.
+     */
+    private void prefetch(List<Node<Context>> children) {
+        List<Context> contexts = children.stream()
+                .filter(child -> child.children)
+                .map(child -> child.data)
+                .filter(context -> !cache.contains(context.getAddress()))
+                .limit(MAX_PREFETCH)
+                .collect(toList());
+        if (!contexts.isEmpty()) {
+            Composite composite = new Composite(contexts.stream().map(this::readChildren).collect(toList()));
+            dispatcher.execute(composite, (CompositeResult result) -> {
+                for (int i = 0; i < contexts.size(); i++) {
+                    cache.put(contexts.get(i).getAddress(), names(result.step(i).get(RESULT)));
                 }
+            }, (operation, error) -> logger.debug("Unable to prefetch children: {}", error));
+        }
+    }
 
-                callback.result(children.toArray(new Node[children.size()]));
-            });
+    private Operation readChildren(Context context) {
+        ResourceAddress address = context.getAddress();
+        if (context.isFullyQualified()) {
+            return new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                    .param(INCLUDE_SINGLETONS, true)
+                    .build();
+        } else {
+            return new Operation.Builder(address.getParent(), READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, address.lastName())
+                    .build();
         }
     }
+
+    private List<String> names(ModelNode result) {
+        return result.asList().stream().map(ModelNode::asString).collect(toList());
+    }
 }
@@ -63,10 +63,14 @@ import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER_CON
  * <li>processes the required resources according to the value of the {@code @Requires} annotation on the proxy place</li>
  * <li>finally calls {@code super.doRevealPlace(request, updateBrowserUrl)}</li>
  * </ol>
+ * <p>
+ * In addition the place manager tells the {@link MetadataPrefetcher} about each navigation, so that the metadata of the places
+ * which are most likely visited next can be processed in the background.
  */
 public class HalPlaceManager extends DefaultPlaceManager {
 
     private final MetadataProcessor metadataProcessor;
+    private final MetadataPrefetcher metadataPrefetcher;
     private final Provider<Progress> progress;
     private final Map<Expression, Consumer<String>> selectFunctions;
     private Resources resources;
@@ -78,11 +82,13 @@ public class HalPlaceManager extends DefaultPlaceManager {
             @ErrorPlace String errorPlaceNameToken,
             @UnauthorizedPlace String unauthorizedPlaceNameToken,
             MetadataProcessor metadataProcessor,
+            MetadataPrefetcher metadataPrefetcher,
             @Footer Provider<Progress> progress,
             Resources resources) {
         super(eventBus, tokenFormatter, defaultPlaceNameToken, errorPlaceNameToken, unauthorizedPlaceNameToken,
                 new PlaceHistoryHandler.DefaultHistorian());
         this.metadataProcessor = metadataProcessor;
+        this.metadataPrefetcher = metadataPrefetcher;
         this.progress = progress;
         this.resources = resources;
 
@@ -106,9 +112,11 @@ public class HalPlaceManager extends DefaultPlaceManager {
             }
         }
 
+        metadataPrefetcher.navigate(request.getNameToken());
         metadataProcessor.process(request.getNameToken(), progress.get())
                 .then(__ -> {
                     HalPlaceManager.super.doRevealPlace(request, updateBrowserUrl);
+                    metadataPrefetcher.revealed(request.getNameToken());
                     return null;
                 })
                 .catch_(error -> {
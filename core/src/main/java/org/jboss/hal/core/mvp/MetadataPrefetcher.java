@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mvp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.DomGlobal;
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+import jsinterop.base.Js;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * Records the places a user visits across sessions and warms the metadata registries for the places which are most likely
+ * visited next.
+ * <p>
+ * Prefetching starts when the browser is idle after a place has been revealed. Only one name token is processed at a time, and
+ * pending prefetches are dropped as soon as the user navigates to another place, so that prefetching never competes with
+ * user-initiated operations.
+ */
+public class MetadataPrefetcher {
+
+    /** Number of likely next places to prefetch. */
+    static final int PREFETCH_SIZE = 3;
+    /** Minimum idle time in ms required to start a prefetch. */
+    private static final double MIN_IDLE_TIME = 10;
+    /** Delay used in browsers which don't support idle callbacks. */
+    private static final int FALLBACK_DELAY = 2_000;
+    private static final Logger logger = LoggerFactory.getLogger(MetadataPrefetcher.class);
+
+    private final MetadataProcessor metadataProcessor;
+    private final Storage storage;
+    private final NavigationHistory history;
+    private final Deque<String> queue;
+    private final boolean idleCallbacks;
+    private String current;
+    private int handle;
+    private int generation;
+
+    @Inject
+    public MetadataPrefetcher(MetadataProcessor metadataProcessor) {
+        this.metadataProcessor = metadataProcessor;
+        this.storage = WebStorageWindow.of(window).localStorage;
+        this.history = load();
+        this.queue = new ArrayDeque<>();
+        this.idleCallbacks = Js.asPropertyMap(window).has("requestIdleCallback");
+        this.handle = -1;
+        this.generation = 0;
+    }
+
+    /** Records the navigation to the specified token and drops pending prefetches. */
+    void navigate(String token) {
+        cancel();
+        if (current != null) {
+            history.record(current, token);
+            save();
+        }
+        current = token;
+    }
+
+    /** Schedules the prefetch of the places which are most likely visited after the specified token. */
+    void revealed(String token) {
+        cancel();
+        queue.addAll(history.next(token, PREFETCH_SIZE));
+        if (!queue.isEmpty()) {
+            logger.debug("Prefetch metadata for {} when idle", queue);
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        int scheduled = generation;
+        if (idleCallbacks) {
+            handle = DomGlobal.requestIdleCallback(deadline -> {
+                handle = -1;
+                if (deadline.timeRemaining() < MIN_IDLE_TIME) {
+                    schedule();
+                } else {
+                    prefetch(scheduled);
+                }
+            });
+        } else {
+            handle = (int) setTimeout(__ -> {
+                handle = -1;
+                prefetch(scheduled);
+            }, FALLBACK_DELAY);
+        }
+    }
+
+    private void prefetch(int scheduled) {
+        String token = queue.poll();
+        if (token != null && scheduled == generation) {
+            logger.debug("Prefetch metadata for {}", token);
+            metadataProcessor.process(token, Progress.NOOP)
+                    .then(__ -> {
+                        next(scheduled);
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.debug("Unable to prefetch metadata for {}: {}", token, error);
+                        next(scheduled);
+                        return null;
+                    });
+        }
+    }
+
+    private void next(int scheduled) {
+        // don't continue if the user navigated in the meantime
+        if (scheduled == generation && !queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void cancel() {
+        generation++;
+        queue.clear();
+        if (handle != -1) {
+            if (idleCallbacks) {
+                DomGlobal.cancelIdleCallback(handle);
+            } else {
+                clearTimeout(handle);
+            }
+            handle = -1;
+        }
+    }
+
+    private NavigationHistory load() {
+        if (storage != null) {
+            String payload = storage.getItem(Ids.NAVIGATION_HISTORY_STORAGE);
+            if (payload != null) {
+                try {
+                    return new NavigationHistory(ModelNode.fromBase64(payload));
+                } catch (RuntimeException e) {
+                    logger.error("Unable to read navigation history from local storage using key '{}': {}",
+                            Ids.NAVIGATION_HISTORY_STORAGE, e.getMessage());
+                }
+            }
+        }
+        return new NavigationHistory();
+    }
+
+    private void save() {
+        if (storage != null) {
+            storage.setItem(Ids.NAVIGATION_HISTORY_STORAGE, history.toModelNode().toBase64String());
+        }
+    }
+}
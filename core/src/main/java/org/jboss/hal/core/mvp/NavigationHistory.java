@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mvp;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Counts the transitions between name tokens. Used to predict the places which are most likely visited next.
+ * <p>
+ * The number of recorded tokens and the number of successors per token are limited. If a limit is reached, the entry with the
+ * lowest count is dropped.
+ */
+class NavigationHistory {
+
+    static final int MAX_TOKENS = 100;
+    static final int MAX_SUCCESSORS = 10;
+
+    private final Map<String, Map<String, Integer>> transitions;
+
+    NavigationHistory() {
+        this.transitions = new LinkedHashMap<>();
+    }
+
+    /** Restores the history from a model node created by {@link #toModelNode()}. */
+    NavigationHistory(ModelNode modelNode) {
+        this();
+        if (modelNode.isDefined()) {
+            for (Property from : modelNode.asPropertyList()) {
+                Map<String, Integer> successors = new HashMap<>();
+                for (Property to : from.getValue().asPropertyList()) {
+                    successors.put(to.getName(), to.getValue().asInt());
+                }
+                transitions.put(from.getName(), successors);
+            }
+        }
+    }
+
+    void record(String from, String to) {
+        if (from == null || to == null || from.equals(to)) {
+            return;
+        }
+        if (!transitions.containsKey(from) && transitions.size() >= MAX_TOKENS) {
+            transitions.entrySet().stream()
+                    .min(comparing(entry -> total(entry.getValue())))
+                    .ifPresent(entry -> transitions.remove(entry.getKey()));
+        }
+        Map<String, Integer> successors = transitions.computeIfAbsent(from, __ -> new HashMap<>());
+        if (!successors.containsKey(to) && successors.size() >= MAX_SUCCESSORS) {
+            successors.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(entry -> successors.remove(entry.getKey()));
+        }
+        successors.merge(to, 1, Integer::sum);
+    }
+
+    /** Returns up to {@code limit} tokens which followed the specified token most often. */
+    List<String> next(String token, int limit) {
+        Map<String, Integer> successors = transitions.get(token);
+        if (successors == null) {
+            return emptyList();
+        }
+        return successors.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer> comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(toList());
+    }
+
+    ModelNode toModelNode() {
+        ModelNode modelNode = new ModelNode();
+        for (Map.Entry<String, Map<String, Integer>> from : transitions.entrySet()) {
+            ModelNode successors = new ModelNode();
+            for (Map.Entry<String, Integer> to : from.getValue().entrySet()) {
+                successors.get(to.getKey()).set(to.getValue());
+            }
+            modelNode.get(from.getKey()).set(successors);
+        }
+        return modelNode;
+    }
+
+    private int total(Map<String, Integer> successors) {
+        int total = 0;
+        for (Integer count : successors.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.flow.FlowStatus;
+
+/**
+ * Waits for one server to reach a lifecycle state. Registered at the {@link ServerLifecycleWatcher}.
+ * <p>
+ * The interval between two checks depends on the expected duration of the lifecycle operation: Checks are sparse at the
+ * beginning and become more frequent the closer the expected duration gets. If the operation takes longer than expected, the
+ * interval grows again.
+ */
+class LifecycleWatch {
+
+    static final long MIN_INTERVAL = 500;
+    static final long MAX_INTERVAL = 3_000;
+
+    private final String key;
+    private final ServerLifecycleWatcher.Probe probe;
+    private final String kind;
+    private final Predicate<ModelNode> until;
+    private final Consumer<FlowStatus> done;
+    private final long started;
+    private final long deadline;
+    private final long expected;
+    private long nextRun;
+
+    /**
+     * @param key the server key used in the results of the probe
+     * @param kind identifies the kind of lifecycle operation, used to learn the expected duration
+     * @param expected the expected duration in ms
+     * @param timeout the timeout in ms
+     */
+    LifecycleWatch(String key, ServerLifecycleWatcher.Probe probe, String kind, Predicate<ModelNode> until,
+            Consumer<FlowStatus> done, long now, long expected, long timeout) {
+        this.key = key;
+        this.probe = probe;
+        this.kind = kind;
+        this.until = until;
+        this.done = done;
+        this.started = now;
+        this.deadline = now + timeout;
+        this.expected = expected;
+        this.nextRun = now + interval(now);
+    }
+
+    @Override
+    public String toString() {
+        return "LifecycleWatch(" + key + ", " + kind + ", expected " + expected + " ms)";
+    }
+
+    long interval(long now) {
+        long remaining = expected - (now - started);
+        long interval = remaining > 0 ? remaining / 2 : -remaining / 4;
+        return Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, interval));
+    }
+
+    boolean isDue(long now) {
+        return nextRun <= now;
+    }
+
+    boolean isExpired(long now) {
+        return now >= deadline;
+    }
+
+    void checked(long now) {
+        nextRun = now + interval(now);
+    }
+
+    boolean test(ModelNode value) {
+        return value != null && until.test(value);
+    }
+
+    void finish(FlowStatus status) {
+        done.accept(status);
+    }
+
+    long elapsed(long now) {
+        return now - started;
+    }
+
+    long nextRun() {
+        return nextRun;
+    }
+
+    String key() {
+        return key;
+    }
+
+    ServerLifecycleWatcher.Probe probe() {
+        return probe;
+    }
+
+    String kind() {
+        return kind;
+    }
+}
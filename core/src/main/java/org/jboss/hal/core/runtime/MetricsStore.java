@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.ballroom.chart.TimeSeries;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import com.google.web.bindery.event.shared.HandlerRegistration;
+
+/**
+ * Client side store for runtime metrics like heap usage, threads or connection pools. Each metric is kept in a bounded
+ * {@link TimeSeries}, so views can show trends and not only the latest snapshot.
+ * <p>
+ * The store is fed by samplers registered with {@link #sample(String, Supplier, Consumer)}. Samplers use the
+ * {@link PollScheduler}, so all samples which are due at the same time are read using one composite operation, no matter how
+ * many charts show the metrics. The number of time series is bounded as well: The least recently used series is dropped if
+ * there are more than {@value #MAX_SERIES} series.
+ */
+public class MetricsStore {
+
+    /** Sample interval in ms. */
+    public static final long SAMPLE_INTERVAL = 5_000;
+    /** Number of recent points kept per time series, covering 5 min. */
+    static final int CAPACITY = 60;
+    /** Number of recent points merged into one archived point. The archived points cover 30 min. */
+    static final int FACTOR = 6;
+    static final int MAX_SERIES = 200;
+
+    private final PollScheduler pollScheduler;
+    private final Map<String, TimeSeries> series;
+
+    @Inject
+    public MetricsStore(PollScheduler pollScheduler) {
+        this.pollScheduler = pollScheduler;
+        this.series = new LinkedHashMap<String, TimeSeries>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TimeSeries> eldest) {
+                return size() > MAX_SERIES;
+            }
+        };
+    }
+
+    /**
+     * Samples the operation every {@value #SAMPLE_INTERVAL} ms until the registration is removed. The sample callback is
+     * supposed to {@linkplain #record(String, double) record} the metrics of the result and to update the views.
+     *
+     * @param id a unique ID for the sampler
+     * @param operation supplies the operation which reads the metrics
+     * @param sample called with the result of the operation
+     *
+     * @return a registration which stops the sampler when removed
+     */
+    public HandlerRegistration sample(String id, Supplier<Operation> operation, Consumer<ModelNode> sample) {
+        return pollScheduler.poll(id, SAMPLE_INTERVAL, operation, sample, null);
+    }
+
+    /** Adds the value to the time series of the specified metric and returns the series. */
+    public TimeSeries record(String metric, double value) {
+        TimeSeries timeSeries = series(metric);
+        timeSeries.add(System.currentTimeMillis(), value);
+        return timeSeries;
+    }
+
+    /** Returns the time series of the specified metric. Creates an empty series if the metric is not yet known. */
+    public TimeSeries series(String metric) {
+        return series.computeIfAbsent(metric, __ -> new TimeSeries(CAPACITY, FACTOR));
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsStore(" + series.size() + " series)";
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import elemental2.promise.Promise;
+
+/**
+ * A periodic read registered at the {@link PollScheduler}. Either an operation which can be merged with other operations into
+ * one composite, or a task which is executed on its own.
+ * <p>
+ * The poll keeps track of its effective interval: The interval is doubled for each failed poll and for each response which took
+ * longer than half of the interval. Fast responses bring the interval back to the registered interval.
+ */
+class Poll {
+
+    /** Upper bound for the backoff if the registered interval is shorter. */
+    static final long MAX_INTERVAL = 60_000;
+
+    private final String id;
+    private final long interval;
+    private final long maxInterval;
+    private final Supplier<Operation> operation;
+    private final Consumer<ModelNode> success;
+    private final Consumer<String> error;
+    private final Supplier<Promise<?>> task;
+    private long currentInterval;
+    private long nextRun;
+    private int failures;
+    private boolean inFlight;
+
+    Poll(String id, long interval, long now, Supplier<Operation> operation, Consumer<ModelNode> success,
+            Consumer<String> error) {
+        this(id, interval, now, operation, success, error, null);
+    }
+
+    Poll(String id, long interval, long now, Supplier<Promise<?>> task) {
+        this(id, interval, now, null, null, null, task);
+    }
+
+    private Poll(String id, long interval, long now, Supplier<Operation> operation, Consumer<ModelNode> success,
+            Consumer<String> error, Supplier<Promise<?>> task) {
+        this.id = id;
+        this.interval = interval;
+        this.maxInterval = Math.max(interval, MAX_INTERVAL);
+        this.operation = operation;
+        this.success = success;
+        this.error = error;
+        this.task = task;
+        this.currentInterval = interval;
+        this.nextRun = now + interval;
+        this.failures = 0;
+        this.inFlight = false;
+    }
+
+    @Override
+    public String toString() {
+        return "Poll(" + id + ", every " + currentInterval + " ms" + (failures > 0 ? ", " + failures + " failures" : "")
+                + ")";
+    }
+
+    // ------------------------------------------------------ scheduling
+
+    boolean isDue(long time) {
+        return !inFlight && nextRun <= time;
+    }
+
+    void started() {
+        inFlight = true;
+    }
+
+    void succeeded(long now, long duration) {
+        inFlight = false;
+        failures = 0;
+        if (duration * 2 > interval) {
+            currentInterval = Math.min(currentInterval * 2, maxInterval);
+        } else {
+            currentInterval = Math.max(currentInterval / 2, interval);
+        }
+        nextRun = now + currentInterval;
+    }
+
+    void failed(long now) {
+        inFlight = false;
+        failures++;
+        currentInterval = Math.min(currentInterval * 2, maxInterval);
+        nextRun = now + currentInterval;
+    }
+
+    /** Skips the current round, e.g. if the operation supplier returned {@code null}. */
+    void skipped(long now) {
+        inFlight = false;
+        nextRun = now + currentInterval;
+    }
+
+    // ------------------------------------------------------ properties
+
+    String id() {
+        return id;
+    }
+
+    boolean isTask() {
+        return task != null;
+    }
+
+    boolean isInFlight() {
+        return inFlight;
+    }
+
+    long nextRun() {
+        return nextRun;
+    }
+
+    long currentInterval() {
+        return currentInterval;
+    }
+
+    int failures() {
+        return failures;
+    }
+
+    Operation operation() {
+        return operation.get();
+    }
+
+    Promise<?> task() {
+        return task.get();
+    }
+
+    void success(ModelNode result) {
+        success.accept(result);
+    }
+
+    void error(String failure) {
+        if (error != null) {
+            error.accept(failure);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.HandlerRegistration;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Central scheduler for all periodic reads of the runtime views. Use this class instead of {@code setInterval()} or chained
+ * {@code setTimeout()} calls.
+ * <p>
+ * The scheduler uses one timer for all polls. Operations which are due in the same window are merged into one composite
+ * operation. If the composite fails, the operations are executed one by one, so that only the failing poll backs off. Polls
+ * back off exponentially on errors and slow responses (see {@link Poll}).
+ * <p>
+ * While the browser tab is hidden, no polls are executed. When the tab becomes visible again, all polls which are due are
+ * executed right away.
+ */
+public class PollScheduler {
+
+    /** Polls which are due within this time in ms are executed in the same round. */
+    static final long WINDOW = 250;
+    /** Time in ms used to calculate the request rate. */
+    private static final long RATE_WINDOW = 60_000;
+    private static final Logger logger = LoggerFactory.getLogger(PollScheduler.class);
+
+    private final Dispatcher dispatcher;
+    private final Map<String, Poll> polls;
+    private final Deque<Long> requests;
+    private double handle;
+    private boolean hidden;
+
+    @Inject
+    public PollScheduler(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.polls = new LinkedHashMap<>();
+        this.requests = new ArrayDeque<>();
+        this.handle = -1;
+        this.hidden = document.hidden;
+        document.addEventListener("visibilitychange", event -> visibilityChanged()); // NON-NLS
+    }
+
+    @Override
+    public String toString() {
+        return "PollScheduler(" + polls.size() + " polls, " + requestRate() + " requests/min" + (hidden ? ", paused" : "")
+                + ")";
+    }
+
+    // ------------------------------------------------------ API
+
+    /**
+     * Polls the operation returned by the supplier in the specified interval. The supplier is called each time the poll is due.
+     * If it returns {@code null}, the current round is skipped.
+     * <p>
+     * Registering a poll with an ID which is already registered replaces the existing poll.
+     *
+     * @param id a unique ID used for logging
+     * @param interval the interval in ms
+     * @param operation supplies the operation to execute
+     * @param success called with the result of the operation
+     * @param error called with the failure description, may be {@code null}
+     *
+     * @return a registration which stops the poll when removed
+     */
+    public HandlerRegistration poll(String id, long interval, Supplier<Operation> operation,
+            Consumer<ModelNode> success, Consumer<String> error) {
+        return register(new Poll(id, interval, now(), operation, success, error));
+    }
+
+    /**
+     * Polls the specified task in the specified interval. Use this method for polls which can't be expressed as a single
+     * operation. Tasks are never merged with other polls.
+     * <p>
+     * Registering a poll with an ID which is already registered replaces the existing poll.
+     *
+     * @param id a unique ID used for logging
+     * @param interval the interval in ms
+     * @param task executes the poll, the returned promise must be settled when the poll has finished
+     *
+     * @return a registration which stops the poll when removed
+     */
+    public HandlerRegistration poll(String id, long interval, Supplier<Promise<?>> task) {
+        return register(new Poll(id, interval, now(), task));
+    }
+
+    /** @return the number of registered polls */
+    public int activePolls() {
+        return polls.size();
+    }
+
+    /** @return the number of requests sent in the last minute */
+    public int requestRate() {
+        prune(now());
+        return requests.size();
+    }
+
+    /** @return whether polling is paused because the browser tab is hidden */
+    public boolean isPaused() {
+        return hidden;
+    }
+
+    // ------------------------------------------------------ internals
+
+    private HandlerRegistration register(Poll poll) {
+        polls.put(poll.id(), poll);
+        logger.debug("Register {} ({} active)", poll, polls.size());
+        schedule();
+        return () -> {
+            if (polls.get(poll.id()) == poll) {
+                polls.remove(poll.id());
+                logger.debug("Remove {} ({} active)", poll, polls.size());
+                schedule();
+            }
+        };
+    }
+
+    private boolean isRegistered(Poll poll) {
+        return polls.get(poll.id()) == poll;
+    }
+
+    private void visibilityChanged() {
+        hidden = document.hidden;
+        logger.debug("Polling {}", hidden ? "paused" : "resumed");
+        schedule();
+    }
+
+    private void schedule() {
+        if (handle != -1) {
+            clearTimeout(handle);
+            handle = -1;
+        }
+        if (!hidden) {
+            long next = Long.MAX_VALUE;
+            for (Poll poll : polls.values()) {
+                if (!poll.isInFlight()) {
+                    next = Math.min(next, poll.nextRun());
+                }
+            }
+            if (next != Long.MAX_VALUE) {
+                handle = setTimeout(__ -> {
+                    handle = -1;
+                    tick();
+                }, Math.max(0, next - now()));
+            }
+        }
+    }
+
+    private void tick() {
+        long now = now();
+        List<Poll> due = new ArrayList<>();
+        List<Operation> operations = new ArrayList<>();
+        for (Poll poll : new ArrayList<>(polls.values())) {
+            if (poll.isDue(now + WINDOW)) {
+                if (poll.isTask()) {
+                    runTask(poll);
+                } else {
+                    Operation operation = poll.operation();
+                    if (operation != null) {
+                        due.add(poll);
+                        operations.add(operation);
+                    } else {
+                        poll.skipped(now);
+                    }
+                }
+            }
+        }
+        if (due.size() == 1) {
+            runOperation(due.get(0), operations.get(0));
+        } else if (due.size() > 1) {
+            runComposite(due, operations);
+        }
+        schedule();
+    }
+
+    private void runTask(Poll poll) {
+        long start = started(poll);
+        poll.task()
+                .then(__ -> {
+                    poll.succeeded(now(), now() - start);
+                    schedule();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("{} failed: {}", poll, error);
+                    poll.failed(now());
+                    schedule();
+                    return null;
+                });
+    }
+
+    private void runOperation(Poll poll, Operation operation) {
+        long start = started(poll);
+        dispatcher.execute(operation)
+                .then(result -> {
+                    poll.succeeded(now(), now() - start);
+                    if (isRegistered(poll)) {
+                        poll.success(result);
+                    }
+                    schedule();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("{} failed: {}", poll, error);
+                    poll.failed(now());
+                    if (isRegistered(poll)) {
+                        poll.error(String.valueOf(error));
+                    }
+                    schedule();
+                    return null;
+                });
+    }
+
+    private void runComposite(List<Poll> due, List<Operation> operations) {
+        long start = now();
+        for (Poll poll : due) {
+            started(poll);
+        }
+        dispatcher.execute(new Composite(operations))
+                .then(result -> {
+                    long finished = now();
+                    for (int i = 0; i < due.size(); i++) {
+                        Poll poll = due.get(i);
+                        poll.succeeded(finished, finished - start);
+                        if (isRegistered(poll)) {
+                            poll.success(result.step(i).get(RESULT));
+                        }
+                    }
+                    schedule();
+                    return null;
+                })
+                .catch_(error -> {
+                    // find out which poll failed
+                    logger.debug("Composite of {} failed: {}. Execute operations one by one.", due, error);
+                    for (int i = 0; i < due.size(); i++) {
+                        Poll poll = due.get(i);
+                        if (isRegistered(poll)) {
+                            runOperation(poll, operations.get(i));
+                        } else {
+                            poll.skipped(now());
+                        }
+                    }
+                    schedule();
+                    return null;
+                });
+    }
+
+    private long started(Poll poll) {
+        long now = now();
+        poll.started();
+        requests.addLast(now);
+        prune(now);
+        return now;
+    }
+
+    private void prune(long now) {
+        while (!requests.isEmpty() && requests.peekFirst() < now - RATE_WINDOW) {
+            requests.removeFirst();
+        }
+    }
+
+    private long now() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.core.runtime.server.ServerConfigStatus;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowStatus;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static java.util.Collections.singletonList;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SELECT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
+import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
+import static org.jboss.hal.flow.FlowStatus.SUCCESS;
+import static org.jboss.hal.flow.FlowStatus.TIMEOUT;
+
+/**
+ * Waits for servers to reach a lifecycle state after a start, stop, reload, restart, suspend or resume operation. Use this
+ * class instead of repeating an operation per server until it returns the expected state.
+ * <p>
+ * The watcher checks the state of all servers it waits for using one request: Depending on what's needed, the request consists
+ * of the wildcard queries {@code /host=*&#47;server-config=*:query(select=[status])} and
+ * {@code /host=*&#47;server=*:query(select=[server-state,suspend-state])} or
+ * {@code :query(select=[server-state,suspend-state])} in standalone mode. So restarting a server group with many servers
+ * results in one request per check and not in one request per server and check.
+ * <p>
+ * The promises of the servers are resolved as soon as each server has reached the state. The check interval adapts to the
+ * expected duration, which is learned from previous operations of the same kind (see {@link LifecycleWatch}). Failed checks are
+ * ignored. They're expected while a standalone server restarts.
+ */
+public class ServerLifecycleWatcher {
+
+    /** The kinds of reads used to check the states. */
+    enum Probe {
+        SERVER_CONFIG, SERVER_DOMAIN, SERVER_STANDALONE
+    }
+
+    private static final String STANDALONE = "standalone";
+    private static final String WILDCARD = "*";
+    private static final Logger logger = LoggerFactory.getLogger(ServerLifecycleWatcher.class);
+
+    private final Dispatcher dispatcher;
+    private final List<LifecycleWatch> watches;
+    private final Map<String, Long> expectedDurations;
+    private double handle;
+    private boolean inFlight;
+
+    @Inject
+    public ServerLifecycleWatcher(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.watches = new ArrayList<>();
+        this.expectedDurations = new HashMap<>();
+        this.handle = -1;
+        this.inFlight = false;
+    }
+
+    // ------------------------------------------------------ API
+
+    /** Waits until the server config of the server has one of the specified states. Not supported in standalone mode. */
+    public Promise<FlowStatus> serverConfigStatus(Server server, int timeout, ServerConfigStatus first,
+            ServerConfigStatus... rest) {
+        return serverConfigStatus(singletonList(server), timeout, first, rest);
+    }
+
+    /**
+     * Waits until the server configs of all servers have one of the specified states. Not supported in standalone mode.
+     *
+     * @param timeout the timeout in seconds
+     */
+    public Promise<FlowStatus> serverConfigStatus(List<Server> servers, int timeout, ServerConfigStatus first,
+            ServerConfigStatus... rest) {
+        Set<ServerConfigStatus> statuses = EnumSet.of(first, rest);
+        return watch(servers, Probe.SERVER_CONFIG, STATUS + statuses, timeout,
+                result -> statuses.contains(
+                        asEnumValue(result, STATUS, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED)));
+    }
+
+    /** Waits until the server has the specified running state. */
+    public Promise<FlowStatus> runningState(Server server, int timeout, RunningState state) {
+        return watch(singletonList(server), runtimeProbe(server), SERVER_STATE + state, timeout,
+                result -> state == asEnumValue(result, SERVER_STATE, RunningState::valueOf, RunningState.UNDEFINED));
+    }
+
+    /** Waits until the server answers. Use this method for standalone servers which are restarted. */
+    public Promise<FlowStatus> available(Server server, int timeout) {
+        return watch(singletonList(server), runtimeProbe(server), SERVER_STATE, timeout,
+                result -> result.hasDefined(SERVER_STATE));
+    }
+
+    /** Waits until the server has the specified suspend state. */
+    public Promise<FlowStatus> suspendState(Server server, int timeout, SuspendState state) {
+        return suspendState(singletonList(server), timeout, state);
+    }
+
+    /**
+     * Waits until all servers have the specified suspend state.
+     *
+     * @param timeout the timeout in seconds
+     */
+    public Promise<FlowStatus> suspendState(List<Server> servers, int timeout, SuspendState state) {
+        Probe probe = servers.isEmpty() ? Probe.SERVER_DOMAIN : runtimeProbe(servers.get(0));
+        return watch(servers, probe, SUSPEND_STATE + state, timeout,
+                result -> state == asEnumValue(result, SUSPEND_STATE, SuspendState::valueOf, SuspendState.UNDEFINED));
+    }
+
+    /** @return the number of servers the watcher is waiting for */
+    public int pending() {
+        return watches.size();
+    }
+
+    // ------------------------------------------------------ watches
+
+    private Promise<FlowStatus> watch(List<Server> servers, Probe probe, String kind, int timeout,
+            Predicate<ModelNode> until) {
+        if (servers.isEmpty()) {
+            return Promise.resolve(SUCCESS);
+        }
+        return new Promise<>((resolve, reject) -> {
+            long now = now();
+            long timeoutMillis = timeout * 1000L;
+            long expected = expectedDurations.getOrDefault(probe + kind, timeoutMillis / 3);
+            FlowStatus[] status = { SUCCESS };
+            int[] remaining = { servers.size() };
+            for (Server server : servers) {
+                watches.add(new LifecycleWatch(key(server), probe, probe + kind, until, serverStatus -> {
+                    if (serverStatus != SUCCESS) {
+                        status[0] = serverStatus;
+                    }
+                    remaining[0]--;
+                    if (remaining[0] == 0) {
+                        resolve.onInvoke(status[0]);
+                    }
+                }, now, expected, timeoutMillis));
+            }
+            schedule();
+        });
+    }
+
+    private void schedule() {
+        if (handle != -1) {
+            clearTimeout(handle);
+            handle = -1;
+        }
+        if (!inFlight && !watches.isEmpty()) {
+            long next = Long.MAX_VALUE;
+            for (LifecycleWatch watch : watches) {
+                next = Math.min(next, watch.nextRun());
+            }
+            handle = setTimeout(__ -> {
+                handle = -1;
+                check();
+            }, Math.max(0, next - now()));
+        }
+    }
+
+    private void check() {
+        // read all probes needed by the watches which are due
+        long now = now();
+        Set<Probe> probes = new LinkedHashSet<>();
+        for (LifecycleWatch watch : watches) {
+            if (watch.isDue(now)) {
+                probes.add(watch.probe());
+            }
+        }
+        if (probes.isEmpty()) {
+            schedule();
+            return;
+        }
+
+        List<Probe> order = new ArrayList<>(probes);
+        List<Operation> operations = new ArrayList<>();
+        for (Probe probe : order) {
+            operations.add(operation(probe));
+        }
+        Promise<List<ModelNode>> results = operations.size() == 1
+                ? dispatcher.execute(operations.get(0)).then(result -> Promise.resolve(singletonList(result)))
+                : dispatcher.execute(new Composite(operations)).then(result -> {
+                    List<ModelNode> steps = new ArrayList<>();
+                    for (int i = 0; i < order.size(); i++) {
+                        steps.add(result.step(i).get(RESULT));
+                    }
+                    return Promise.resolve(steps);
+                });
+
+        inFlight = true;
+        results
+                .then(steps -> {
+                    Map<Probe, Map<String, ModelNode>> values = new HashMap<>();
+                    for (int i = 0; i < order.size(); i++) {
+                        values.put(order.get(i), values(order.get(i), steps.get(i)));
+                    }
+                    checked(probes, values);
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to check lifecycle state: {}", error);
+                    checked(probes, new HashMap<>());
+                    return null;
+                });
+    }
+
+    private void checked(Set<Probe> probes, Map<Probe, Map<String, ModelNode>> values) {
+        inFlight = false;
+        long now = now();
+        List<LifecycleWatch> finished = new ArrayList<>();
+        for (LifecycleWatch watch : watches) {
+            Map<String, ModelNode> probeValues = values.get(watch.probe());
+            if (probeValues != null && watch.test(probeValues.get(watch.key()))) {
+                long elapsed = watch.elapsed(now);
+                Long expected = expectedDurations.get(watch.kind());
+                expectedDurations.put(watch.kind(), expected == null ? elapsed : (expected + elapsed) / 2);
+                logger.debug("{} finished after {} ms", watch, elapsed);
+                finished.add(watch);
+                watch.finish(SUCCESS);
+            } else if (watch.isExpired(now)) {
+                logger.debug("{} timed out", watch);
+                finished.add(watch);
+                watch.finish(TIMEOUT);
+            } else if (probes.contains(watch.probe())) {
+                watch.checked(now);
+            }
+        }
+        watches.removeAll(finished);
+        schedule();
+    }
+
+    // ------------------------------------------------------ probes
+
+    private Probe runtimeProbe(Server server) {
+        return server.isStandalone() ? Probe.SERVER_STANDALONE : Probe.SERVER_DOMAIN;
+    }
+
+    private String key(Server server) {
+        return server.isStandalone() ? STANDALONE : server.getId();
+    }
+
+    private Operation operation(Probe probe) {
+        switch (probe) {
+            case SERVER_CONFIG:
+                return new Operation.Builder(new ResourceAddress().add(HOST, WILDCARD).add(SERVER_CONFIG, WILDCARD),
+                        QUERY)
+                        .param(SELECT, new ModelNode().add(STATUS))
+                        .build();
+            case SERVER_DOMAIN:
+                return new Operation.Builder(new ResourceAddress().add(HOST, WILDCARD).add(SERVER, WILDCARD), QUERY)
+                        .param(SELECT, new ModelNode().add(SERVER_STATE).add(SUSPEND_STATE))
+                        .build();
+            case SERVER_STANDALONE:
+                return new Operation.Builder(ResourceAddress.root(), QUERY)
+                        .param(SELECT, new ModelNode().add(SERVER_STATE).add(SUSPEND_STATE))
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unknown probe " + probe);
+        }
+    }
+
+    /** @return the values of the probe by server key */
+    private Map<String, ModelNode> values(Probe probe, ModelNode result) {
+        Map<String, ModelNode> values = new HashMap<>();
+        if (probe == Probe.SERVER_STANDALONE) {
+            values.put(STANDALONE, result);
+        } else if (result.isDefined()) {
+            for (ModelNode node : result.asList()) {
+                if (!node.isFailure()) {
+                    List<ModelNode> address = node.get(ADDRESS).asList();
+                    String host = address.get(0).asProperty().getValue().asString();
+                    String server = address.get(1).asProperty().getValue().asString();
+                    values.put(Ids.hostServer(host, server), node.get(RESULT));
+                }
+            }
+        }
+        return values;
+    }
+
+    private long now() {
+        return System.currentTimeMillis();
+    }
+}
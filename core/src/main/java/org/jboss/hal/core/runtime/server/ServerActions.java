@@ -17,12 +17,10 @@ package org.jboss.hal.core.runtime.server;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -40,7 +38,7 @@ import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.runtime.Action;
-import org.jboss.hal.core.runtime.RunningState;
+import org.jboss.hal.core.runtime.ServerLifecycleWatcher;
 import org.jboss.hal.core.runtime.SuspendState;
 import org.jboss.hal.core.runtime.Timeouts;
 import org.jboss.hal.core.runtime.server.ServerUrlTasks.ReadSocketBinding;
@@ -52,6 +50,7 @@ import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.FlowStatus;
 import org.jboss.hal.flow.Progress;
@@ -87,8 +86,6 @@ import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.hal.core.runtime.RunningState.RUNNING;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatOperationUntil;
-import static org.jboss.hal.core.runtime.TimeoutHandler.repeatUntilTimeout;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STOPPED;
@@ -109,7 +106,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.KILL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_BOOT_ERRORS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
@@ -120,7 +116,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RESUME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUP;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SHUTDOWN;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SOCKET_BINDING_DEFAULT_INTERFACE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SOCKET_BINDING_GROUP;
@@ -128,15 +123,12 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.SOCKET_BINDING_PORT_OF
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SSL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START_MODE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_TIMEOUT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SYSTEM_PROPERTY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.UPDATE_AUTO_START_WITH_SERVER_STATUS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.URL;
-import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 import static org.jboss.hal.dmr.ModelNodeHelper.getOrDefault;
 import static org.jboss.hal.flow.Flow.sequential;
 import static org.jboss.hal.flow.FlowStatus.FAILURE;
@@ -159,26 +151,32 @@ public class ServerActions implements Timeouts {
 
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final OperationBatcher batcher;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final Resources resources;
     private final Map<String, Server> pendingServers;
     private final ServerUrlStorage serverUrlStorage;
     private final StatementContext statementContext;
+    private final ServerLifecycleWatcher lifecycleWatcher;
 
     @Inject
     public ServerActions(EventBus eventBus,
             Dispatcher dispatcher,
+            OperationBatcher batcher,
             ServerUrlStorage serverUrlStorage,
             StatementContext statementContext,
             MetadataProcessor metadataProcessor,
+            ServerLifecycleWatcher lifecycleWatcher,
             @Footer Provider<Progress> progress,
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.batcher = batcher;
         this.serverUrlStorage = serverUrlStorage;
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
+        this.lifecycleWatcher = lifecycleWatcher;
         this.progress = progress;
         this.resources = resources;
         this.pendingServers = new HashMap<>();
@@ -310,9 +308,8 @@ public class ServerActions implements Timeouts {
                 Operation operation = new Operation.Builder(ResourceAddress.root(), SHUTDOWN)
                         .param(RESTART, true)
                         .build();
-                Operation ping = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build();
                 dispatcher.execute(operation)
-                        .then(___ -> repeatUntilTimeout(dispatcher, ping, SERVER_RESTART_TIMEOUT))
+                        .then(___ -> lifecycleWatcher.available(server, SERVER_RESTART_TIMEOUT))
                         .then(status -> {
                             pendingDialog.close();
                             switch (status) {
@@ -372,10 +369,7 @@ public class ServerActions implements Timeouts {
         DialogFactory.showConfirmation(title, question, () -> {
             prepare(server, action);
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher,
-                            server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
-                            server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
-                            timeout))
+                    .then(__ -> started(server, timeout))
                     .then(status -> finish(server, action, status, successMessage, timeoutMessage, errorMessage))
                     .catch_(error -> finish(server, FAILURE, Message.error(errorMessage, String.valueOf(error))));
         });
@@ -409,8 +403,7 @@ public class ServerActions implements Timeouts {
                                 .param(SUSPEND_TIMEOUT, timeout)
                                 .build();
                         dispatcher.execute(operation)
-                                .then(__ -> repeatOperationUntil(dispatcher,
-                                        readSuspendState(server), checkSuspendState(), uiTimeout))
+                                .then(__ -> lifecycleWatcher.suspendState(server, uiTimeout, SuspendState.SUSPENDED))
                                 .then(status -> finish(server, Action.SUSPEND, status,
                                         resources.messages().suspendServerSuccess(server.getName()),
                                         resources.messages().serverTimeout(server.getName()),
@@ -441,10 +434,7 @@ public class ServerActions implements Timeouts {
         ResourceAddress address = server.isStandalone() ? server.getServerAddress() : server.getServerConfigAddress();
         Operation operation = new Operation.Builder(address, RESUME).build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher,
-                        server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
-                        server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
-                        SERVER_START_TIMEOUT))
+                .then(__ -> started(server, SERVER_START_TIMEOUT))
                 .then(status -> finish(server, Action.RESUME, status,
                         resources.messages().resumeServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -479,10 +469,8 @@ public class ServerActions implements Timeouts {
                                         .param(BLOCKING, false)
                                         .build();
                                 dispatcher.execute(operation)
-                                        .then(__ -> repeatOperationUntil(dispatcher,
-                                                readServerConfigStatus(server),
-                                                checkServerConfigStatus(STOPPED, DISABLED),
-                                                uiTimeout))
+                                        .then(__ -> lifecycleWatcher.serverConfigStatus(server, uiTimeout,
+                                                STOPPED, DISABLED))
                                         .then(status -> finish(server, Action.STOP, status,
                                                 resources.messages().stopServerSuccess(server.getName()),
                                                 resources.messages().serverTimeout(server.getName()),
@@ -512,8 +500,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STOPPED, DISABLED), SERVER_STOP_TIMEOUT))
+                .then(__ -> lifecycleWatcher.serverConfigStatus(server, SERVER_STOP_TIMEOUT, STOPPED, DISABLED))
                 .then(status -> finish(server, Action.STOP, status,
                         resources.messages().stopServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -529,8 +516,7 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.DESTROY);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), DESTROY).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                            checkServerConfigStatus(STOPPED, DISABLED), SERVER_DESTROY_TIMEOUT))
+                    .then(__ -> lifecycleWatcher.serverConfigStatus(server, SERVER_DESTROY_TIMEOUT, STOPPED, DISABLED))
                     .then(status -> finish(server, Action.DESTROY, status,
                             resources.messages().destroyServerSuccess(server.getName()),
                             resources.messages().serverTimeout(server.getName()),
@@ -546,8 +532,7 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.KILL);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), KILL).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                            checkServerConfigStatus(STOPPED, DISABLED), SERVER_KILL_TIMEOUT))
+                    .then(__ -> lifecycleWatcher.serverConfigStatus(server, SERVER_KILL_TIMEOUT, STOPPED, DISABLED))
                     .then(status -> finish(server, Action.KILL, status,
                             resources.messages().killServerSuccess(server.getName()),
                             resources.messages().serverTimeout(server.getName()),
@@ -563,8 +548,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
+                .then(__ -> lifecycleWatcher.serverConfigStatus(server, SERVER_START_TIMEOUT, STARTED))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -580,8 +564,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
+                .then(__ -> lifecycleWatcher.serverConfigStatus(server, SERVER_START_TIMEOUT, STARTED))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -630,8 +613,8 @@ public class ServerActions implements Timeouts {
 
         } else {
             List<Task<FlowContext>> tasks = Arrays.asList(
-                    new ReadSocketBindingGroup(standalone, serverGroup, dispatcher),
-                    new ReadSocketBinding(standalone, host, server, dispatcher));
+                    new ReadSocketBindingGroup(standalone, serverGroup, batcher),
+                    new ReadSocketBinding(standalone, host, server, batcher));
             sequential(new FlowContext(), tasks)
                     .then(context -> {
                         callback.onSuccess(context.get(URL_KEY));
@@ -774,37 +757,10 @@ public class ServerActions implements Timeouts {
         return pendingServers.containsKey(Ids.hostServer(server.getHost(), server.getName()));
     }
 
-    private Operation readServerConfigStatus(Server server) {
-        return new Operation.Builder(server.getServerConfigAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, STATUS)
-                .build();
-    }
-
-    private Operation readServerState(Server server) {
-        return new Operation.Builder(server.getServerAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, SERVER_STATE)
-                .build();
-    }
-
-    private Predicate<ModelNode> checkServerConfigStatus(ServerConfigStatus first, ServerConfigStatus... rest) {
-        return result -> {
-            ServerConfigStatus status = asEnumValue(result, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED);
-            return EnumSet.of(first, rest).contains(status);
-        };
-    }
-
-    private Predicate<ModelNode> checkRunningState() {
-        return result -> RUNNING == asEnumValue(result, RunningState::valueOf, RunningState.UNDEFINED);
-    }
-
-    private Operation readSuspendState(Server server) {
-        return new Operation.Builder(server.getServerAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, SUSPEND_STATE)
-                .build();
-    }
-
-    private Predicate<ModelNode> checkSuspendState() {
-        return result -> SuspendState.SUSPENDED == asEnumValue(result, SuspendState::valueOf, SuspendState.UNDEFINED);
+    private Promise<FlowStatus> started(Server server, int timeout) {
+        return server.isStandalone()
+                ? lifecycleWatcher.runningState(server, timeout, RUNNING)
+                : lifecycleWatcher.serverConfigStatus(server, timeout, STARTED);
     }
 
     private Promise<List<ModelNode>> readBootErrors(FlowStatus status, Server server) {
@@ -20,7 +20,7 @@ import java.util.Optional;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Task;
 
@@ -61,12 +61,12 @@ class ServerUrlTasks {
 
         private final boolean standalone;
         private final String serverGroup;
-        private final Dispatcher dispatcher;
+        private final OperationBatcher batcher;
 
-        ReadSocketBindingGroup(boolean standalone, String serverGroup, Dispatcher dispatcher) {
+        ReadSocketBindingGroup(boolean standalone, String serverGroup, OperationBatcher batcher) {
             this.standalone = standalone;
             this.serverGroup = serverGroup;
-            this.dispatcher = dispatcher;
+            this.batcher = batcher;
         }
 
         @Override
@@ -75,7 +75,7 @@ class ServerUrlTasks {
                 Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
                         .param(CHILD_TYPE, SOCKET_BINDING_GROUP)
                         .build();
-                return dispatcher.execute(operation)
+                return batcher.execute(operation)
                         .then(result -> {
                             if (result.asList().isEmpty()) {
                                 return context.reject("ReadSocketBindingGroup: No socket binding groups defined");
@@ -89,7 +89,7 @@ class ServerUrlTasks {
                 Operation operation = new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
                         .param(NAME, SOCKET_BINDING_GROUP)
                         .build();
-                return dispatcher.execute(operation)
+                return batcher.execute(operation)
                         .then(result -> context.resolve(SOCKET_BINDING_GROUP_KEY, result.asString()));
             }
         }
@@ -104,13 +104,13 @@ class ServerUrlTasks {
         private final boolean standalone;
         private final String host;
         private final String server;
-        private final Dispatcher dispatcher;
+        private final OperationBatcher batcher;
 
-        ReadSocketBinding(boolean standalone, String host, String server, Dispatcher dispatcher) {
+        ReadSocketBinding(boolean standalone, String host, String server, OperationBatcher batcher) {
             this.standalone = standalone;
             this.host = host;
             this.server = server;
-            this.dispatcher = dispatcher;
+            this.batcher = batcher;
         }
 
         @Override
@@ -126,7 +126,7 @@ class ServerUrlTasks {
                         .param(CHILD_TYPE, SOCKET_BINDING)
                         .param(INCLUDE_RUNTIME, true)
                         .build();
-                return dispatcher.execute(operation).then(result -> {
+                return batcher.execute(operation).then(result -> {
                     Optional<Property> optional = result.asPropertyList().stream()
                             .filter(p -> p.getName().startsWith("http"))
                             .filter(p -> p.getValue().hasDefined(BOUND))
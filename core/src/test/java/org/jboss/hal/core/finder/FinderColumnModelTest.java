@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FinderColumnModelTest {
+
+    private static final List<String> ITEMS = asList("delta", "alpha", "echo", "charlie", "bravo");
+
+    private FinderColumnModel<String> model;
+
+    @Before
+    public void setUp() {
+        model = new FinderColumnModel<>();
+        setItems(emptySet());
+    }
+
+    @Test
+    public void renderedOnce() {
+        int[] calls = { 0 };
+        model.setItems(ITEMS, item -> {
+            calls[0]++;
+            return () -> item;
+        }, singleton("echo"));
+        assertEquals(ITEMS.size(), calls[0]);
+    }
+
+    @Test
+    public void pinnedFirst() {
+        setItems(new HashSet<>(asList("echo", "bravo")));
+        assertEquals(asList("echo", "bravo", "delta", "alpha", "charlie"), visibleIds());
+        assertEquals("bravo", model.lastPinned().id);
+    }
+
+    @Test
+    public void filter() {
+        assertEquals(2, model.filter("HA"));
+        assertEquals(asList("alpha", "charlie"), visibleIds());
+        assertEquals(5, model.size());
+        assertFalse(model.isVisible("echo"));
+
+        assertEquals(5, model.filter("  "));
+        assertTrue(model.isVisible("echo"));
+    }
+
+    @Test
+    public void multipleTokens() {
+        assertEquals(1, model.filter("ar  CH"));
+        assertEquals(asList("charlie"), visibleIds());
+        assertEquals(0, model.filter("ar ch x"));
+    }
+
+    @Test
+    public void narrowAndWiden() {
+        assertEquals(3, model.filter("e"));
+        assertEquals(3, model.filter("e "));
+        assertEquals(2, model.filter("e l"));
+        assertEquals(asList("delta", "charlie"), visibleIds());
+        assertEquals(1, model.filter("e lt"));
+        assertEquals(3, model.filter("e"));
+        assertEquals(asList("delta", "echo", "charlie"), visibleIds());
+    }
+
+    @Test
+    public void normalize() {
+        assertNull(FinderColumnModel.normalize(null));
+        assertNull(FinderColumnModel.normalize(" \t "));
+        assertEquals("foo bar", FinderColumnModel.normalize(" Foo \t  BAR "));
+    }
+
+    @Test
+    public void navigation() {
+        assertEquals("delta", model.next(null).id);
+        assertEquals("bravo", model.previous(null).id);
+        assertEquals("echo", model.next("alpha").id);
+        assertNull(model.next("bravo"));
+        assertNull(model.previous("delta"));
+
+        // hidden items start from the beginning / end
+        model.filter("a");
+        assertEquals("delta", model.next("echo").id);
+        assertEquals("bravo", model.previous("echo").id);
+    }
+
+    @Test
+    public void pin() {
+        model.pin("echo");
+        model.pin("charlie");
+        assertEquals(asList("charlie", "echo", "delta", "alpha", "bravo"), visibleIds());
+        assertEquals(1, model.indexOf("echo"));
+
+        // unpinned items are inserted before the first unpinned item with a greater title
+        model.unpin("charlie");
+        assertEquals(asList("echo", "charlie", "delta", "alpha", "bravo"), visibleIds());
+        assertEquals("echo", model.lastPinned().id);
+
+        model.unpin("echo");
+        assertEquals(asList("charlie", "delta", "alpha", "bravo", "echo"), visibleIds());
+        assertNull(model.lastPinned());
+    }
+
+    @Test
+    public void selection() {
+        model.select("charlie");
+        assertEquals("charlie", model.selectedEntry().item);
+        model.filter("delta");
+        assertEquals("charlie", model.selected());
+        assertFalse(model.isVisible(model.selected()));
+
+        setItems(emptySet());
+        assertNull(model.selected());
+    }
+
+    private void setItems(Set<String> pinned) {
+        model.setItems(ITEMS, item -> () -> item, pinned);
+    }
+
+    private List<String> visibleIds() {
+        return range(0, model.visibleSize()).mapToObj(i -> model.visible(i).id).collect(toList());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.jboss.hal.core.modelbrowser.ChildrenCache.MAX_ENTRIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChildrenCacheTest {
+
+    private ChildrenCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ChildrenCache();
+        cache.put(ResourceAddress.root(), asList("subsystem", "interface"));
+        cache.put(ResourceAddress.from("subsystem=*"), asList("io", "logging"));
+        cache.put(ResourceAddress.from("subsystem=io"), asList("worker", "buffer-pool"));
+        cache.put(ResourceAddress.from("subsystem=io/worker=*"), singletonList("default"));
+        cache.put(ResourceAddress.from("subsystem=io/worker=default"), singletonList("server"));
+        cache.put(ResourceAddress.from("subsystem=io/buffer-pool=*"), singletonList("default"));
+        cache.put(ResourceAddress.from("subsystem=logging"), singletonList("logger"));
+    }
+
+    @Test
+    public void get() {
+        assertEquals(asList("io", "logging"), cache.get(ResourceAddress.from("subsystem=*")));
+        assertNull(cache.get(ResourceAddress.from("interface=*")));
+    }
+
+    @Test
+    public void keyIsCopied() {
+        ResourceAddress address = ResourceAddress.from("interface=*");
+        cache.put(address, singletonList("public"));
+        address.add("foo", "bar");
+        assertTrue(cache.contains(ResourceAddress.from("interface=*")));
+    }
+
+    @Test
+    public void invalidateResource() {
+        cache.invalidate(ResourceAddress.from("subsystem=io/worker=default"));
+
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/worker=*")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/worker=default")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=io/buffer-pool=*")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=*")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=logging")));
+    }
+
+    @Test
+    public void invalidateSubtree() {
+        cache.invalidate(ResourceAddress.from("subsystem=io"));
+
+        assertFalse(cache.contains(ResourceAddress.root()));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=*")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/worker=*")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/worker=default")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/buffer-pool=*")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=logging")));
+    }
+
+    @Test
+    public void invalidateType() {
+        cache.invalidate(ResourceAddress.from("subsystem=io/worker=*"));
+
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io")));
+        assertFalse(cache.contains(ResourceAddress.from("subsystem=io/worker=*")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=io/worker=default")));
+        assertTrue(cache.contains(ResourceAddress.from("subsystem=io/buffer-pool=*")));
+    }
+
+    @Test
+    public void invalidateRoot() {
+        cache.invalidate(ResourceAddress.root());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsed() {
+        cache.clear();
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            cache.put(ResourceAddress.root().add("foo", String.valueOf(i)), singletonList("bar"));
+        }
+        cache.get(ResourceAddress.root().add("foo", "0"));
+        cache.put(ResourceAddress.root().add("foo", "x"), singletonList("bar"));
+
+        assertEquals(MAX_ENTRIES, cache.size());
+        assertTrue(cache.contains(ResourceAddress.root().add("foo", "0")));
+        assertFalse(cache.contains(ResourceAddress.root().add("foo", "1")));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mvp;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.jboss.hal.core.mvp.NavigationHistory.MAX_SUCCESSORS;
+import static org.junit.Assert.assertEquals;
+
+public class NavigationHistoryTest {
+
+    private NavigationHistory history;
+
+    @Before
+    public void setUp() {
+        history = new NavigationHistory();
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(emptyList(), history.next("a", 3));
+    }
+
+    @Test
+    public void ignoreSelf() {
+        history.record("a", "a");
+        assertEquals(emptyList(), history.next("a", 3));
+    }
+
+    @Test
+    public void mostLikely() {
+        history.record("a", "b");
+        history.record("a", "c");
+        history.record("a", "c");
+        history.record("a", "d");
+        history.record("a", "d");
+        history.record("a", "d");
+        assertEquals(asList("d", "c"), history.next("a", 2));
+        assertEquals(asList("d", "c", "b"), history.next("a", 5));
+    }
+
+    @Test
+    public void maxSuccessors() {
+        history.record("a", "keep");
+        history.record("a", "keep");
+        for (int i = 0; i < MAX_SUCCESSORS; i++) {
+            history.record("a", "s" + i);
+        }
+        assertEquals(MAX_SUCCESSORS, history.next("a", Integer.MAX_VALUE).size());
+        assertEquals("keep", history.next("a", 1).get(0));
+    }
+
+    @Test
+    public void modelNode() {
+        history.record("a", "b");
+        history.record("a", "b");
+        history.record("a", "c");
+        history.record("b", "a");
+        NavigationHistory restored = new NavigationHistory(history.toModelNode());
+        assertEquals(asList("b", "c"), restored.next("a", 3));
+        assertEquals(asList("a"), restored.next("b", 3));
+    }
+}
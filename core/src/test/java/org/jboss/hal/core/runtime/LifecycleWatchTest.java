@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.flow.FlowStatus;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LifecycleWatchTest {
+
+    private static final long EXPECTED = 4_000;
+    private static final long TIMEOUT = 10_000;
+
+    private FlowStatus status;
+    private LifecycleWatch watch;
+
+    @Before
+    public void setUp() {
+        status = null;
+        watch = new LifecycleWatch("test", ServerLifecycleWatcher.Probe.SERVER_CONFIG, "start",
+                value -> "STARTED".equals(value.asString()), s -> status = s, 0, EXPECTED, TIMEOUT);
+    }
+
+    @Test
+    public void sparseAtStart() {
+        assertEquals(2_000, watch.interval(0));
+        assertEquals(2_000, watch.nextRun());
+        assertFalse(watch.isDue(1_999));
+        assertTrue(watch.isDue(2_000));
+    }
+
+    @Test
+    public void denseNearExpected() {
+        watch.checked(3_500);
+        assertEquals(LifecycleWatch.MIN_INTERVAL, watch.interval(3_500));
+        assertEquals(4_000, watch.nextRun());
+    }
+
+    @Test
+    public void growsWhenOverdue() {
+        assertEquals(1_000, watch.interval(8_000));
+        assertEquals(LifecycleWatch.MAX_INTERVAL, watch.interval(40_000));
+    }
+
+    @Test
+    public void expired() {
+        assertFalse(watch.isExpired(9_999));
+        assertTrue(watch.isExpired(10_000));
+    }
+
+    @Test
+    public void test() {
+        assertFalse(watch.test(null));
+        assertFalse(watch.test(new ModelNode().set("STARTING")));
+        assertTrue(watch.test(new ModelNode().set("STARTED")));
+    }
+
+    @Test
+    public void finish() {
+        watch.finish(FlowStatus.TIMEOUT);
+        assertSame(FlowStatus.TIMEOUT, status);
+    }
+}
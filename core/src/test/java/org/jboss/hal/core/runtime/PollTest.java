@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PollTest {
+
+    private static final long INTERVAL = 1_000;
+
+    private Poll poll;
+
+    @Before
+    public void setUp() {
+        poll = new Poll("test", INTERVAL, 0, () -> null, result -> {
+        }, null);
+    }
+
+    @Test
+    public void due() {
+        assertFalse(poll.isDue(999));
+        assertTrue(poll.isDue(1_000));
+    }
+
+    @Test
+    public void notDueWhileInFlight() {
+        poll.started();
+        assertFalse(poll.isDue(5_000));
+    }
+
+    @Test
+    public void fastResponse() {
+        poll.started();
+        poll.succeeded(1_100, 100);
+        assertEquals(INTERVAL, poll.currentInterval());
+        assertEquals(2_100, poll.nextRun());
+    }
+
+    @Test
+    public void slowResponse() {
+        poll.started();
+        poll.succeeded(1_800, 800);
+        assertEquals(2 * INTERVAL, poll.currentInterval());
+        assertEquals(3_800, poll.nextRun());
+    }
+
+    @Test
+    public void backoff() {
+        poll.failed(1_000);
+        poll.failed(3_000);
+        poll.failed(7_000);
+        assertEquals(3, poll.failures());
+        assertEquals(8 * INTERVAL, poll.currentInterval());
+        assertEquals(15_000, poll.nextRun());
+    }
+
+    @Test
+    public void maxInterval() {
+        for (int i = 0; i < 20; i++) {
+            poll.failed(0);
+        }
+        assertEquals(Poll.MAX_INTERVAL, poll.currentInterval());
+    }
+
+    @Test
+    public void recover() {
+        poll.failed(0);
+        poll.failed(0);
+        poll.failed(0);
+        poll.succeeded(0, 10);
+        assertEquals(0, poll.failures());
+        assertEquals(4 * INTERVAL, poll.currentInterval());
+        poll.succeeded(0, 10);
+        poll.succeeded(0, 10);
+        assertEquals(INTERVAL, poll.currentInterval());
+    }
+
+    @Test
+    public void longInterval() {
+        Poll slow = new Poll("slow", 2 * Poll.MAX_INTERVAL, 0, () -> null);
+        slow.failed(0);
+        assertEquals(2 * Poll.MAX_INTERVAL, slow.currentInterval());
+    }
+}
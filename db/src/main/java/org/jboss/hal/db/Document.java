@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.db;
 
+import elemental2.dom.Blob;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsType;
 import jsinterop.base.Js;
@@ -26,6 +27,8 @@ import static org.jboss.hal.resources.UIConstants.OBJECT;
 @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
 public interface Document extends JsPropertyMap<Object> {
 
+    @JsOverlay String ATTACHMENTS = "_attachments";
+
     @JsOverlay
     static Document of(String id) {
         Document document = Js.cast(JsPropertyMap.of());
@@ -37,4 +40,34 @@ public interface Document extends JsPropertyMap<Object> {
     default String getId() {
         return getAsAny("_id").asString();
     }
+
+    /** Adds a binary attachment which is stored as is (w/o base64 encoding) by PouchDB. */
+    @JsOverlay
+    default void setAttachment(String name, String contentType, Blob data) {
+        if (!has(ATTACHMENTS)) {
+            set(ATTACHMENTS, JsPropertyMap.of());
+        }
+        JsPropertyMap<Object> attachment = JsPropertyMap.of();
+        attachment.set("content_type", contentType);
+        attachment.set("data", data);
+        Js.<JsPropertyMap<Object>> cast(get(ATTACHMENTS)).set(name, attachment);
+    }
+
+    /**
+     * Returns the attachment with the specified name. Requires that the document has been read with
+     * {@code attachments: true, binary: true}.
+     *
+     * @return the attachment as blob or {@code null} if there's no such attachment
+     */
+    @JsOverlay
+    default Blob getAttachment(String name) {
+        if (has(ATTACHMENTS)) {
+            JsPropertyMap<Object> attachments = Js.cast(get(ATTACHMENTS));
+            if (attachments.has(name)) {
+                JsPropertyMap<Object> attachment = Js.cast(attachments.get(name));
+                return Js.cast(attachment.get("data"));
+            }
+        }
+        return null;
+    }
 }
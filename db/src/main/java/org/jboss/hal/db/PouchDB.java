@@ -42,11 +42,16 @@ public class PouchDB {
 
     public native Promise<Document> get(String id);
 
-    /** Returns the documents for the specified ids. Only documents with existing IDs will be returned. */
+    /**
+     * Returns the documents for the specified ids. Only documents with existing IDs will be returned. Attachments are included
+     * as {@link elemental2.dom.Blob blobs}.
+     */
     @JsOverlay
     public final Promise<List<Document>> getAll(Set<String> ids) {
         AllDocsOptions options = new AllDocsOptions();
         options.include_docs = true;
+        options.attachments = true;
+        options.binary = true;
         options.keys = new JsArray<>();
         for (String id : ids) {
             options.keys.push(id);
@@ -64,11 +69,13 @@ public class PouchDB {
         });
     }
 
-    /** Returns all documents whose ID starts with the specified ID. */
+    /** Returns all documents whose ID starts with the specified ID. Attachments are included as blobs. */
     @JsOverlay
     public final Promise<List<Document>> prefixSearch(String id) {
         AllDocsOptions options = new AllDocsOptions();
         options.include_docs = true;
+        options.attachments = true;
+        options.binary = true;
         options.startkey = id;
         options.endkey = id + "\ufff0";
 
@@ -84,6 +91,18 @@ public class PouchDB {
         });
     }
 
+    /** Returns the IDs of all documents. The documents themselves are not read. */
+    @JsOverlay
+    public final Promise<List<String>> getAllIds() {
+        return allDocs(new AllDocsOptions()).then(response -> {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < response.rows.getLength(); i++) {
+                ids.add(response.rows.getAt(i).id);
+            }
+            return Promise.resolve(ids);
+        });
+    }
+
     native Promise<AllDocsResponse> allDocs(AllDocsOptions options);
 
     // ------------------------------------------------------ put
@@ -116,4 +135,15 @@ public class PouchDB {
 
     @JsMethod
     native Promise<JsArray<BulkDocsSingleUnionType>> bulkDocs(JsArray<Document> documents);
+
+    // ------------------------------------------------------ remove
+
+    /** Removes the document. The document must contain the {@code _id} and {@code _rev} fields. */
+    @JsOverlay
+    public final Promise<String> remove(Document document) {
+        return internalRemove(document).then(response -> Promise.resolve(response.id));
+    }
+
+    @JsMethod(name = "remove")
+    native Promise<PutResponse> internalRemove(Document document);
 }
@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.function.IntFunction;
+
+import elemental2.core.Uint8Array;
 import jsinterop.annotations.JsMethod;
 
 import static jsinterop.annotations.JsPackage.GLOBAL;
@@ -22,13 +25,123 @@ import static jsinterop.annotations.JsPackage.GLOBAL;
 /** Encodes and decodes to and from Base64 notation. */
 public class Base64 {
 
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .toCharArray();
+    private static final int[] DECODE = new int[128];
+
+    static {
+        for (int i = 0; i < DECODE.length; i++) {
+            DECODE[i] = -1;
+        }
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = i;
+        }
+    }
+
     @JsMethod(namespace = GLOBAL, name = "btoa")
     public static native String encode(String decoded);
 
     @JsMethod(namespace = GLOBAL, name = "atob")
     public static native String decode(String encoded);
 
+    /**
+     * Encodes the given bytes without going through an intermediate binary string.
+     *
+     * @param bytes the bytes to encode
+     *
+     * @return the base64 encoded string
+     */
+    public static String encodeBytes(Uint8Array bytes) {
+        return encodeBytes(new TypedArrayBytes(bytes));
+    }
+
+    static String encodeBytes(Bytes bytes) {
+        int length = bytes.length();
+        char[] chars = new char[((length + 2) / 3) * 4];
+        int c = 0;
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (bytes.getUint8(i) << 16) | (bytes.getUint8(i + 1) << 8) | bytes.getUint8(i + 2);
+            chars[c++] = ALPHABET[(bits >>> 18) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 6) & 0x3f];
+            chars[c++] = ALPHABET[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining > 0) {
+            int bits = bytes.getUint8(i) << 16;
+            if (remaining == 2) {
+                bits |= bytes.getUint8(i + 1) << 8;
+            }
+            chars[c++] = ALPHABET[(bits >>> 18) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+            chars[c++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3f] : '=';
+            chars[c++] = '=';
+        }
+        return new String(chars, 0, c);
+    }
+
+    /**
+     * Decodes the given string directly into a typed array. Whitespace (including line breaks) is ignored, decoding stops at
+     * the first padding character.
+     *
+     * @param encoded the base64 encoded string
+     *
+     * @return the decoded bytes
+     *
+     * @throws IllegalArgumentException if the string contains characters which are not part of the base64 alphabet
+     */
+    public static Uint8Array decodeBytes(String encoded) {
+        return ((TypedArrayBytes) decodeBytes(encoded, TypedArrayBytes::new)).array();
+    }
+
+    /**
+     * Decodes the given string into bytes created by the given function.
+     *
+     * @param encoded the base64 encoded string
+     * @param allocate creates bytes of the given length
+     *
+     * @return a view of the decoded bytes
+     */
+    static Bytes decodeBytes(String encoded, IntFunction<Bytes> allocate) {
+        int length = encoded.length();
+        Bytes bytes = allocate.apply((length / 4) * 3 + 3);
+        int n = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            char c = encoded.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value == -1) {
+                if (c == '=') {
+                    break;
+                } else if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                    continue;
+                }
+                throw new IllegalArgumentException("Invalid base64 character at index " + i);
+            }
+            bits = (bits << 6) | value;
+            count++;
+            if (count == 4) {
+                bytes.setUint8(n++, (bits >>> 16) & 0xff);
+                bytes.setUint8(n++, (bits >>> 8) & 0xff);
+                bytes.setUint8(n++, bits & 0xff);
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 1) {
+            throw new IllegalArgumentException("Truncated base64 input");
+        } else if (count == 2) {
+            bytes.setUint8(n++, (bits >>> 4) & 0xff);
+        } else if (count == 3) {
+            bytes.setUint8(n++, (bits >>> 10) & 0xff);
+            bytes.setUint8(n++, (bits >>> 2) & 0xff);
+        }
+        return bytes.slice(0, n);
+    }
+
     /** Defeats instantiation. */
     private Base64() {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+/**
+ * Random access to a fixed number of bytes. All multibyte values are read and written in big endian byte order. In the browser
+ * the bytes are backed by a typed array (see {@link TypedArrayBytes}), which keeps {@link DataInput}, {@link DataOutput} and
+ * {@link Base64} independent of JavaScript APIs.
+ */
+interface Bytes {
+
+    int length();
+
+    byte getInt8(int index);
+
+    int getUint8(int index);
+
+    int getUint16(int index);
+
+    int getInt32(int index);
+
+    double getFloat64(int index);
+
+    void setUint8(int index, int value);
+
+    void setUint16(int index, int value);
+
+    void setInt32(int index, int value);
+
+    void setFloat64(int index, double value);
+
+    /** @return a view of the bytes from {@code begin} (inclusive) to {@code end} (exclusive). The bytes are not copied. */
+    Bytes slice(int begin, int end);
+
+    /** @return new bytes of the given length which start with a copy of these bytes */
+    Bytes grow(int length);
+}
@@ -15,156 +15,132 @@
  */
 package org.jboss.hal.dmr;
 
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
-
+/**
+ * Reads the binary DMR format from {@link Bytes}. All multibyte values are read in big endian byte order straight from the
+ * underlying bytes without copying them.
+ */
 class DataInput {
 
-    private final byte[] bytes;
-    private int pos = 0;
+    private static final String EOF = "EOF";
 
-    DataInput(byte[] bytes) {
-        this.bytes = bytes;
-    }
+    private final Bytes data;
+    private final int length;
+    private int pos;
+    private char[] chars;
 
-    // ------------------------------------------------------ read a-z
+    DataInput(Bytes bytes) {
+        this.data = bytes;
+        this.length = bytes.length();
+        this.pos = 0;
+        this.chars = new char[256];
+    }
 
-    private int read() {
-        if (pos >= bytes.length) {
-            return -1;
+    private void require(int bytes) {
+        if (pos + bytes > length) {
+            throw new RuntimeException(EOF);
         }
-        return bytes[pos++] & 0xFF;
     }
 
+    // ------------------------------------------------------ read a-z
+
     boolean readBoolean() {
         return readByte() != 0;
     }
 
     byte readByte() {
-        int i = read();
-        if (i == -1) {
-            throw new RuntimeException("EOF");
-        }
-        return (byte) i;
-    }
-
-    char readChar() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return (char) ((a << 8) | b);
+        require(1);
+        return data.getInt8(pos++);
     }
 
     double readDouble() {
-        byte[] doubleBytes = new byte[8];
-        readFully(doubleBytes);
-
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        for (int i = 0; i < doubleBytes.length; i++) {
-            array.setAt(i, (double) doubleBytes[i]);
-        }
-        return view.getFloat64(0);
+        require(8);
+        double value = data.getFloat64(pos);
+        pos += 8;
+        return value;
     }
 
     void readFully(byte[] b) {
+        require(b.length);
         for (int i = 0; i < b.length; i++) {
-            b[i] = bytes[pos++];
+            b[i] = data.getInt8(pos++);
         }
     }
 
     int readInt() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        int c = readUnsignedByte();
-        int d = readUnsignedByte();
-        return (a << 24) | (b << 16) | (c << 8) | d;
+        require(4);
+        int value = data.getInt32(pos);
+        pos += 4;
+        return value;
     }
 
     long readLong() {
-        byte[] longBytes = new byte[8];
-        readFully(longBytes);
-
-        return (((long) longBytes[0] << 56) +
-                ((long) (longBytes[1] & 255) << 48) +
-                ((long) (longBytes[2] & 255) << 40) +
-                ((long) (longBytes[3] & 255) << 32) +
-                ((long) (longBytes[4] & 255) << 24) +
-                ((longBytes[5] & 255) << 16) +
-                ((longBytes[6] & 255) << 8) +
-                ((longBytes[7] & 255) << 0));
-
-    }
-
-    short readShort() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return (short) ((a << 8) | b);
+        require(8);
+        long high = data.getInt32(pos);
+        long low = data.getInt32(pos + 4) & 0xFFFFFFFFL;
+        pos += 8;
+        return (high << 32) | low;
     }
 
-    private int readUnsignedByte() {
-        int i = read();
-        if (i == -1) {
-            throw new RuntimeException("EOF");
-        }
-        return i;
+    int readUnsignedByte() {
+        require(1);
+        return data.getUint8(pos++);
     }
 
-    private int readUnsignedShort() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return ((a << 8) | b);
+    int readUnsignedShort() {
+        require(2);
+        int value = data.getUint16(pos);
+        pos += 2;
+        return value;
     }
 
     String readUTF() {
         int bytes = readUnsignedShort();
-        StringBuilder sb = new StringBuilder();
-
-        while (bytes > 0) {
-            bytes -= readUTFChar(sb);
+        // a modified UTF-8 string never decodes to more chars than it has bytes
+        if (chars.length < bytes) {
+            chars = new char[Math.max(bytes, chars.length * 2)];
         }
-
-        return sb.toString();
-    }
-
-    private int readUTFChar(StringBuilder sb) {
-        int a = readUnsignedByte();
-        if (a < 0x80) {
-            sb.append((char) a);
-            return 1;
-        } else if (a < 0xc0) {
-            sb.append('?');
-            return 1;
-        } else if (a < 0xe0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                // probably a US-ASCII char after a Latin-1 char
-                sb.append((char) b);
-            } else {
-                sb.append((char) ((a & 0x1F) << 6 | b & 0x3F));
-            }
-            return 2;
-        } else if (a < 0xf0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                sb.append((char) b);
-                return 2;
-            }
-            int c = readUnsignedByte();
-            if ((c & 0xc0) != 0x80) {
-                // probably a US-ASCII char after two Latin-1 chars?
-                sb.append('?').append('?');
-                sb.append((char) c);
+        int n = 0;
+        while (bytes > 0) {
+            int a = readUnsignedByte();
+            if (a < 0x80) {
+                chars[n++] = (char) a;
+                bytes--;
+            } else if (a < 0xc0) {
+                chars[n++] = '?';
+                bytes--;
+            } else if (a < 0xe0) {
+                int b = readUnsignedByte();
+                if ((b & 0xc0) != 0x80) {
+                    chars[n++] = '?';
+                    // probably a US-ASCII char after a Latin-1 char
+                    chars[n++] = (char) b;
+                } else {
+                    chars[n++] = (char) ((a & 0x1F) << 6 | b & 0x3F);
+                }
+                bytes -= 2;
+            } else if (a < 0xf0) {
+                int b = readUnsignedByte();
+                if ((b & 0xc0) != 0x80) {
+                    chars[n++] = '?';
+                    chars[n++] = (char) b;
+                    bytes -= 2;
+                    continue;
+                }
+                int c = readUnsignedByte();
+                if ((c & 0xc0) != 0x80) {
+                    // probably a US-ASCII char after two Latin-1 chars?
+                    chars[n++] = '?';
+                    chars[n++] = '?';
+                    chars[n++] = (char) c;
+                } else {
+                    chars[n++] = (char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F);
+                }
+                bytes -= 3;
             } else {
-                sb.append((char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F));
+                chars[n++] = '?';
+                bytes--;
             }
-            return 3;
-        } else {
-            sb.append('?');
-            return 1;
         }
+        return new String(chars, 0, n);
     }
 }
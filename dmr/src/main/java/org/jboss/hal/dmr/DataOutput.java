@@ -15,110 +15,95 @@
  */
 package org.jboss.hal.dmr;
 
-import com.google.common.base.Charsets;
+/**
+ * Writes the binary DMR format into {@link Bytes} which double their capacity whenever they run out of space. Use
+ * {@link #bytes()} to get a view of the bytes written so far.
+ */
+class DataOutput {
 
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
-import elemental2.core.JsArray;
+    static final int INITIAL_CAPACITY = 1024;
 
-class DataOutput {
+    private Bytes data;
+    private int pos;
 
-    private final JsArray<Byte> bytes;
+    /** @param data the initial bytes to write to, usually of length {@link #INITIAL_CAPACITY} */
+    DataOutput(Bytes data) {
+        this.data = data;
+        this.pos = 0;
+    }
 
-    DataOutput() {
-        bytes = new JsArray<>();
+    /** @return a view of the bytes written so far (the bytes are not copied) */
+    Bytes bytes() {
+        return data.slice(0, pos);
     }
 
-    @Override
-    public String toString() {
-        int length = bytes.getLength();
-        byte[] array = new byte[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = bytes.getAt(i);
+    private void ensureCapacity(int bytes) {
+        int required = pos + bytes;
+        if (required > data.length()) {
+            int capacity = Math.max(data.length() * 2, 1);
+            while (capacity < required) {
+                capacity *= 2;
+            }
+            data = data.slice(0, pos).grow(capacity);
         }
-        return new String(array, Charsets.ISO_8859_1);
     }
 
     // ------------------------------------------------------ write a-z
 
     void write(byte[] bits) {
+        ensureCapacity(bits.length);
         for (int i = 0; i < bits.length; i++) {
-            bytes.push(bits[i]);
-        }
-    }
-
-    private void write(byte[] b, int off, int len) {
-        for (int i = 0; i < len; i++) {
-            bytes.push(b[off + i]);
+            data.setUint8(pos++, bits[i]);
         }
     }
 
     void writeBoolean(boolean v) {
-        bytes.push(v ? (byte) 1 : (byte) 0);
+        writeByte(v ? 1 : 0);
     }
 
     void writeByte(int v) {
-        bytes.push((byte) v);
-    }
-
-    void writeChar(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(1);
+        data.setUint8(pos++, v);
     }
 
     void writeDouble(double v) {
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        view.setFloat64(0, v);
-        for (int i = 0; i < array.getLength(); i++) {
-            bytes.push(array.getAt(i).byteValue());
-        }
+        ensureCapacity(8);
+        data.setFloat64(pos, v);
+        pos += 8;
     }
 
     void writeInt(int v) {
-        bytes.push((byte) (v >>> 24));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(4);
+        data.setInt32(pos, v);
+        pos += 4;
     }
 
     void writeLong(long v) {
-        bytes.push((byte) (v >>> 56));
-        bytes.push((byte) ((v >>> 48) & 0xFF));
-        bytes.push((byte) ((v >>> 40) & 0xFF));
-        bytes.push((byte) ((v >>> 32) & 0xFF));
-        bytes.push((byte) ((v >>> 24) & 0xFF));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
-    }
-
-    private void writeShort(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(8);
+        data.setInt32(pos, (int) (v >>> 32));
+        data.setInt32(pos + 4, (int) v);
+        pos += 8;
     }
 
     void writeUTF(String s) {
         int length = s.length();
-        byte[] bytes = new byte[length * 3];
-        int bl = 0;
+        ensureCapacity(2 + length * 3);
+        int start = pos;
+        pos += 2;
         char c;
         for (int i = 0; i < length; i++) {
             c = s.charAt(i);
             if (c > 0 && c <= 0x7f) {
-                bytes[bl++] = (byte) c;
+                data.setUint8(pos++, c);
             } else if (c <= 0x07ff) {
-                bytes[bl++] = (byte) (0xc0 | 0x1f & c >> 6);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c);
+                data.setUint8(pos++, 0xc0 | 0x1f & c >> 6);
+                data.setUint8(pos++, 0x80 | 0x3f & c);
             } else {
-                bytes[bl++] = (byte) (0xe0 | 0x0f & c >> 12);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c >> 6);
-                bytes[bl++] = (byte) (0x80 | 0x3f & c);
+                data.setUint8(pos++, 0xe0 | 0x0f & c >> 12);
+                data.setUint8(pos++, 0x80 | 0x3f & c >> 6);
+                data.setUint8(pos++, 0x80 | 0x3f & c);
             }
         }
-        writeShort(bl);
-        write(bytes, 0, bl);
+        data.setUint16(start, pos - start - 2);
     }
 }
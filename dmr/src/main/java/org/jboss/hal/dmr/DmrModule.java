@@ -16,6 +16,9 @@
 package org.jboss.hal.dmr;
 
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.DmrChannel;
+import org.jboss.hal.dmr.dispatch.OperationBatcher;
+import org.jboss.hal.dmr.dispatch.OperationCache;
 import org.jboss.hal.dmr.dispatch.ProcessStateProcessor;
 import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessors;
 import org.jboss.hal.dmr.macro.Macros;
@@ -29,7 +32,10 @@ public class DmrModule extends AbstractGinModule {
 
     @Override
     protected void configure() {
+        bind(DmrChannel.class).in(Singleton.class);
         bind(Macros.class).in(Singleton.class);
+        bind(OperationBatcher.class).in(Singleton.class);
+        bind(OperationCache.class).in(Singleton.class);
         bind(ProcessStateProcessor.class).in(Singleton.class);
         bind(ResponseHeadersProcessors.class).in(Singleton.class);
 
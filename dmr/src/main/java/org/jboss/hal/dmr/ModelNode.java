@@ -23,7 +23,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
-import com.google.common.base.CharMatcher;
+import elemental2.core.Uint8Array;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
@@ -44,22 +44,26 @@ public class ModelNode implements Cloneable {
      * @return the new model node
      */
     public static ModelNode fromBase64(String encoded) {
-        // Bloody IE can't cope with line breaks when decoding base64!
-        String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(encoded);
+        return fromBytes(Base64.decodeBytes(encoded, TypedArrayBytes::new));
+    }
+
+    /**
+     * Creates a new node from the bytes of the binary DMR format.
+     *
+     * @param bytes The bytes in binary DMR format.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBytes(Uint8Array bytes) {
+        return fromBytes(new TypedArrayBytes(bytes));
+    }
+
+    static ModelNode fromBytes(Bytes bytes) {
         ModelNode node = new ModelNode();
-        String decoded = Base64.decode(safeEncoded);
-        node.readExternal(new DataInput(toBytes(decoded)));
+        node.readExternal(new DataInput(bytes));
         return node;
     }
 
-    private static native byte[] toBytes(String str) /*-{
-        var bytes = [];
-        for (var i = 0; i < str.length; ++i) {
-            bytes.push(str.charCodeAt(i));
-        }
-        return bytes;
-    }-*/;
-
     private static final String NEW_VALUE_IS_NULL = "newValue is null";
 
     private boolean protect = false;
@@ -1288,9 +1292,23 @@ public class ModelNode implements Cloneable {
     }
 
     public String toBase64String() {
-        DataOutput out = new DataOutput();
+        return Base64.encodeBytes(toBytes(new TypedArrayBytes(DataOutput.INITIAL_CAPACITY)));
+    }
+
+    /** @return the bytes of this model node in binary DMR format */
+    public Uint8Array toBytes() {
+        return ((TypedArrayBytes) toBytes(new TypedArrayBytes(DataOutput.INITIAL_CAPACITY))).array();
+    }
+
+    /**
+     * @param bytes the initial bytes to write to, replaced by bigger ones if necessary
+     *
+     * @return a view of the bytes written
+     */
+    Bytes toBytes(Bytes bytes) {
+        DataOutput out = new DataOutput(bytes);
         writeExternal(out);
-        return Base64.encode(out.toString());
+        return out.bytes();
     }
 
     /**
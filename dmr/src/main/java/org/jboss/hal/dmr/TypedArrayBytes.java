@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.DataView;
+import elemental2.core.Uint8Array;
+
+/** {@link Bytes} backed by a {@link Uint8Array}. Values are read and written through a {@link DataView} without copying. */
+class TypedArrayBytes implements Bytes {
+
+    private final Uint8Array array;
+    private final DataView view;
+
+    TypedArrayBytes(int length) {
+        this(new Uint8Array(new ArrayBuffer(length)));
+    }
+
+    TypedArrayBytes(Uint8Array array) {
+        this.array = array;
+        this.view = new DataView(array.buffer, array.byteOffset, array.byteLength);
+    }
+
+    Uint8Array array() {
+        return array;
+    }
+
+    @Override
+    public int length() {
+        return array.byteLength;
+    }
+
+    @Override
+    public byte getInt8(int index) {
+        return (byte) view.getInt8(index);
+    }
+
+    @Override
+    public int getUint8(int index) {
+        return view.getUint8(index);
+    }
+
+    @Override
+    public int getUint16(int index) {
+        return view.getUint16(index);
+    }
+
+    @Override
+    public int getInt32(int index) {
+        return view.getInt32(index);
+    }
+
+    @Override
+    public double getFloat64(int index) {
+        return view.getFloat64(index);
+    }
+
+    @Override
+    public void setUint8(int index, int value) {
+        view.setUint8(index, value);
+    }
+
+    @Override
+    public void setUint16(int index, int value) {
+        view.setUint16(index, value);
+    }
+
+    @Override
+    public void setInt32(int index, int value) {
+        view.setInt32(index, value);
+    }
+
+    @Override
+    public void setFloat64(int index, double value) {
+        view.setFloat64(index, value);
+    }
+
+    @Override
+    public Bytes slice(int begin, int end) {
+        return new TypedArrayBytes((Uint8Array) array.subarray(begin, end));
+    }
+
+    @Override
+    public Bytes grow(int length) {
+        Uint8Array grown = new Uint8Array(new ArrayBuffer(length));
+        grown.set(array);
+        return new TypedArrayBytes(grown);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -35,6 +36,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.DmrChannel.DmrResponse;
 import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessor.Header;
 import org.jboss.hal.dmr.macro.Action;
 import org.jboss.hal.dmr.macro.Macro;
@@ -44,11 +46,13 @@ import org.jboss.hal.dmr.macro.MacroOptions;
 import org.jboss.hal.dmr.macro.Macros;
 import org.jboss.hal.dmr.macro.RecordingEvent;
 import org.jboss.hal.dmr.macro.RecordingEvent.RecordingHandler;
+import org.jboss.hal.flow.Progress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 
+import elemental2.core.Uint8Array;
 import elemental2.dom.Blob;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.BlobPropertyBag;
@@ -56,13 +60,14 @@ import elemental2.dom.File;
 import elemental2.dom.FileList;
 import elemental2.dom.FormData;
 import elemental2.dom.FormData.AppendValueUnionType;
-import elemental2.dom.Headers;
 import elemental2.dom.Request;
 import elemental2.dom.RequestInit;
 import elemental2.dom.Response;
 import elemental2.promise.IThenable.ThenOnFulfilledCallbackFn;
 import elemental2.promise.Promise;
 import elemental2.promise.Promise.CatchOnRejectedCallbackFn;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
 import static java.util.stream.Collectors.joining;
 
@@ -70,14 +75,20 @@ import static com.google.common.collect.Sets.difference;
 import static elemental2.core.Global.encodeURIComponent;
 import static elemental2.dom.DomGlobal.fetch;
 import static elemental2.dom.DomGlobal.navigator;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INSTALLED_DRIVER_LIST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
@@ -101,6 +112,11 @@ public class Dispatcher implements RecordingHandler {
     private static final Predicate<Operation> READ_ONLY = operation -> operation.getName().startsWith("read")
             || READ_ONLY_OPERATIONS.contains(operation.getName());
 
+    /** Size of the chunks in bytes used to hash files in {@link #upload(File, Operation, Progress)} */
+    static final int UPLOAD_CHUNK_SIZE = 4 * 1024 * 1024;
+    /** Number of bytes which are hashed before the browser gets the chance to handle other events */
+    static final int HASH_SLICE_SIZE = 256 * 1024;
+
     private static final Logger logger = LoggerFactory.getLogger(Dispatcher.class);
 
     private final Environment environment;
@@ -109,18 +125,22 @@ public class Dispatcher implements RecordingHandler {
     private final EventBus eventBus;
     private final ResponseHeadersProcessors responseHeadersProcessors;
     private final Macros macros;
+    private final DmrChannel dmrChannel;
+    private final OperationCache operationCache;
     private final ErrorCallback errorCallback;
 
     @Inject
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
             EventBus eventBus, ResponseHeadersProcessors responseHeadersProcessors,
-            Macros macros) {
+            Macros macros, DmrChannel dmrChannel, OperationCache operationCache) {
         this.environment = environment;
         this.endpoints = endpoints;
         this.settings = settings;
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
         this.macros = macros;
+        this.dmrChannel = dmrChannel;
+        this.operationCache = operationCache;
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
         this.errorCallback = (operation, error) -> logger.error("Dispatcher error: {}, operation {}", error, operation.asCli());
@@ -199,10 +219,46 @@ public class Dispatcher implements RecordingHandler {
      * Executes the operation and upon successful result, returns the response results, but doesn't retrieve the "result"
      * payload as the other execute methods does. You should use this method if the response node you want is not in the
      * "result" attribute.
+     * <p>
+     * Identical read-only operations share one request while in flight and, if enabled, are served from the
+     * {@link OperationCache} for a short time afterwards. All other operations invalidate the related cache entries.
      */
     public Promise<ModelNode> dmr(Operation operation) {
+        Operation runAsOperation = runAs(operation);
+        if (readOnlyOperation(operation) && !recording()) {
+            return operationCache.read(runAsOperation, () -> send(operation, runAsOperation));
+        } else {
+            operationCache.invalidate(operation);
+            return send(operation, runAsOperation).then(payload -> {
+                operationCache.invalidate(operation);
+                return Promise.resolve(payload);
+            }, error -> {
+                operationCache.invalidate(operation);
+                return Promise.reject(error);
+            });
+        }
+    }
+
+    private Promise<ModelNode> send(Operation operation, Operation runAsOperation) {
+        String body = runAsOperation.toBase64String();
+        if (dmrChannel.isAvailable()) {
+            return dmrChannel.post(endpoints.dmr(), headers(true), body)
+                    .then(processDmrResponse())
+                    .then(processBytes(operation))
+                    .catch_(error -> {
+                        // the worker failed: repeat read-only operations on the main thread
+                        if (DmrChannel.CHANNEL_ERROR.equals(error) && readOnlyOperation(operation)) {
+                            return fetchDmr(operation, body);
+                        }
+                        return rejectWithError().onInvoke(error);
+                    });
+        }
+        return fetchDmr(operation, body);
+    }
+
+    private Promise<ModelNode> fetchDmr(Operation operation, String body) {
         RequestInit init = requestInit(POST, true);
-        init.setBody(runAs(operation).toBase64String());
+        init.setBody(body);
         Request request = new Request(endpoints.dmr(), init);
 
         return fetch(request)
@@ -214,6 +270,7 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ upload
 
     public Promise<ModelNode> upload(FileList files, Operation operation) {
+        operationCache.invalidate(operation);
         Operation uploadOperation = runAs(operation);
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
                 uploadOperation.toBase64String());
@@ -235,6 +292,7 @@ public class Dispatcher implements RecordingHandler {
     }
 
     public Promise<ModelNode> upload(File file, Operation operation) {
+        operationCache.invalidate(operation);
         Operation uploadOperation = runAs(operation);
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
                 uploadOperation.toBase64String());
@@ -252,6 +310,88 @@ public class Dispatcher implements RecordingHandler {
                 .catch_(rejectWithError());
     }
 
+    /**
+     * Uploads a file after checking whether the content repository already contains it. The file is sliced into chunks of
+     * {@link #UPLOAD_CHUNK_SIZE} bytes which are hashed one after another, so the file is never read into memory as a whole. If
+     * a deployment with the same content hash exists, the operation references the existing content by its hash and no bytes
+     * are transferred. This makes re-sending a file after a failed or interrupted upload cheap if the content has already
+     * reached the repository. If the content repository can't be checked (e.g. because the user is not allowed to read the
+     * deployments), the file is uploaded.
+     * <p>
+     * Each chunk is hashed in slices of {@link #HASH_SLICE_SIZE} bytes. The browser handles pending events between the slices.
+     * <p>
+     * The progress is ticked once per chunk and once when the operation has been executed, that is {@link #uploadSteps(File)}
+     * times. It's neither reset nor finished, that's up to the owner of the progress.
+     */
+    public Promise<UploadResult> upload(File file, Operation operation, Progress progress) {
+        return hash(file, 0, new Sha1(), progress)
+                .then(hash -> contentExists(hash).then(exists -> {
+                    if (exists) {
+                        logger.debug("Content of {} already exists in the content repository. Skip upload.", file.name);
+                        ModelNode node = operation.clone();
+                        node.get(CONTENT).setEmptyList();
+                        node.get(CONTENT).add().get(HASH).set(hash);
+                        long start = System.currentTimeMillis();
+                        return execute(new Operation(node))
+                                .then(result -> Promise.resolve(
+                                        new UploadResult(result, false, start, System.currentTimeMillis())));
+                    } else {
+                        long start = System.currentTimeMillis();
+                        return upload(file, operation).then(result -> {
+                            long end = System.currentTimeMillis();
+                            logger.debug("Transferred {} ({} bytes) in {} ms", file.name, file.size, end - start);
+                            return Promise.resolve(new UploadResult(result, true, start, end));
+                        });
+                    }
+                }))
+                .then(result -> {
+                    progress.tick();
+                    return Promise.resolve(result);
+                });
+    }
+
+    /** @return the number of progress steps of {@link #upload(File, Operation, Progress)} for the specified file */
+    public static int uploadSteps(File file) {
+        return (file.size + UPLOAD_CHUNK_SIZE - 1) / UPLOAD_CHUNK_SIZE + 1;
+    }
+
+    private Promise<byte[]> hash(File file, int offset, Sha1 sha1, Progress progress) {
+        if (offset >= file.size) {
+            return Promise.resolve(sha1.digest());
+        }
+        int end = Math.min(offset + UPLOAD_CHUNK_SIZE, file.size);
+        return file.slice(offset, end).arrayBuffer()
+                .then(buffer -> new Promise<Void>((resolve, reject) -> sha1.update(Sha1.asBytes(buffer), HASH_SLICE_SIZE,
+                        slice -> setTimeout(__ -> slice.run(), 0), () -> resolve.onInvoke((Void) null))))
+                .then(__ -> {
+                    progress.tick();
+                    return hash(file, end, sha1, progress);
+                });
+    }
+
+    private Promise<Boolean> contentExists(byte[] hash) {
+        Operation operation = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, "*"), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, CONTENT)
+                .build();
+        return execute(operation).then(result -> {
+            for (ModelNode step : result.asList()) {
+                ModelNode content = step.get(RESULT);
+                if (content.isDefined()) {
+                    for (ModelNode item : content.asList()) {
+                        if (item.hasDefined(HASH) && Arrays.equals(hash, item.get(HASH).asBytes())) {
+                            return Promise.resolve(true);
+                        }
+                    }
+                }
+            }
+            return Promise.resolve(false);
+        }).catch_(error -> {
+            // e.g. not allowed to read the deployments: just upload the file
+            logger.debug("Unable to check the content repository: {}", error);
+            return Promise.resolve(false);
+        });
+    }
+
     private Request uploadRequest(FormData formData) {
         RequestInit init = requestInit(POST, false);
         init.setBody(formData);
@@ -262,8 +402,8 @@ public class Dispatcher implements RecordingHandler {
         if (navigator.userAgent.contains("Safari") && !navigator.userAgent.contains("Chrome")) {
             // Safari does not support sending new files
             // https://bugs.webkit.org/show_bug.cgi?id=165081
-            ConstructorBlobPartsArrayUnionType fileAsBlob = ConstructorBlobPartsArrayUnionType.of(file);
-            formData.append(file.name, new Blob(new ConstructorBlobPartsArrayUnionType[] { fileAsBlob }));
+            // slice() returns a blob which references the file's data without copying it
+            formData.append(file.name, file.slice());
         } else {
             formData.append(file.name, AppendValueUnionType.of(file));
         }
@@ -272,12 +412,20 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ download
 
     public void download(Operation operation, Consumer<String> success) {
+        download(operation).then(text -> {
+            success.accept(text);
+            return null;
+        });
+    }
+
+    /** Downloads the stream returned by the operation. The promise is rejected if the response status is not 200. */
+    public Promise<String> download(Operation operation) {
         Operation downloadOperation = runAs(operation);
         String downloadUrl = downloadUrl(downloadOperation);
         RequestInit init = requestInit(GET, true);
         Request request = new Request(downloadUrl, init);
 
-        fetch(request)
+        return fetch(request)
                 .then(response -> {
                     if (response.status != 200) {
                         return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
@@ -286,11 +434,10 @@ public class Dispatcher implements RecordingHandler {
 
                     }
                 })
-                .then(text -> {
-                    success.accept(text);
-                    return null;
-                })
-                .catch_(rejectWithError());
+                .catch_(error -> {
+                    logger.error("Dispatcher error: {}", error);
+                    return Promise.reject(error);
+                });
     }
 
     public String downloadUrl(Operation operation) {
@@ -354,7 +501,16 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ request && promise handlers
 
     RequestInit requestInit(HttpMethod method, boolean dmr) {
-        Headers headers = new Headers();
+        RequestInit init = RequestInit.create();
+        init.setMethod(method.name());
+        init.setHeaders(headers(dmr));
+        init.setMode("cors");
+        init.setCredentials("include");
+        return init;
+    }
+
+    private JsPropertyMap<String> headers(boolean dmr) {
+        JsPropertyMap<String> headers = Js.uncheckedCast(JsPropertyMap.of());
         if (dmr) {
             headers.set(ACCEPT.header(), APPLICATION_DMR_ENCODED);
             headers.set(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
@@ -364,13 +520,7 @@ public class Dispatcher implements RecordingHandler {
         if (bearerToken != null) {
             headers.set("Authorization", "Bearer " + bearerToken);
         }
-
-        RequestInit init = RequestInit.create();
-        init.setMethod(method.name());
-        init.setHeaders(headers);
-        init.setMode("cors");
-        init.setCredentials("include");
-        return init;
+        return headers;
     }
 
     // ------------------------------------------------------ promise handlers
@@ -388,37 +538,58 @@ public class Dispatcher implements RecordingHandler {
         };
     }
 
+    ThenOnFulfilledCallbackFn<DmrResponse, Uint8Array> processDmrResponse() {
+        return response -> {
+            boolean ok = response.status >= 200 && response.status < 300;
+            if (!ok && response.status != 500) {
+                return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
+            }
+            if (response.contentType == null || !response.contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+                return Promise.reject(PARSE_ERROR + response.contentType);
+            }
+            return Promise.resolve(response.uint8Array());
+        };
+    }
+
     ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
             boolean recordOperation) {
-        return text -> {
-            if (recordOperation) {
-                recordOperation(operation);
-            }
-            logger.trace("DMR operation: {}", operation);
-            ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
-            if (!payload.isFailure()) {
-                if (environment.isStandalone()) {
-                    if (payload.hasDefined(RESPONSE_HEADERS)) {
-                        Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+        return text -> processPayload(operation, recordOperation,
+                () -> payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text));
+    }
+
+    ThenOnFulfilledCallbackFn<Uint8Array, ModelNode> processBytes(Operation operation) {
+        return bytes -> processPayload(operation, true, () -> new DmrPayloadProcessor().processBytes(POST, bytes));
+    }
+
+    private Promise<ModelNode> processPayload(Operation operation, boolean recordOperation,
+            Supplier<ModelNode> payloadProcessor) {
+        if (recordOperation) {
+            recordOperation(operation);
+        }
+        logger.trace("DMR operation: {}", operation);
+        ModelNode payload = payloadProcessor.get();
+        if (!payload.isFailure()) {
+            if (environment.isStandalone()) {
+                if (payload.hasDefined(RESPONSE_HEADERS)) {
+                    Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            } else {
+                if (payload.hasDefined(SERVER_GROUPS)) {
+                    Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
+                    if (headers.length != 0) {
                         for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
                             processor.process(headers);
                         }
                     }
-                } else {
-                    if (payload.hasDefined(SERVER_GROUPS)) {
-                        Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                        if (headers.length != 0) {
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    }
                 }
-                return Promise.resolve(payload);
-            } else {
-                return Promise.reject(payload.getFailureDescription());
             }
-        };
+            return Promise.resolve(payload);
+        } else {
+            return Promise.reject(payload.getFailureDescription());
+        }
     }
 
     private Header[] collectHeaders(ModelNode serverGroups) {
@@ -469,8 +640,12 @@ public class Dispatcher implements RecordingHandler {
         }
     }
 
+    private boolean recording() {
+        return macros.current() != null && !macros.current().isSealed();
+    }
+
     private void recordOperation(Operation operation) {
-        if (macros.current() != null && !macros.current().isSealed()) {
+        if (recording()) {
             if (macros.currentOptions().omitReadOperations() && readOnlyOperation(operation)) {
                 return;
             }
@@ -484,7 +659,7 @@ public class Dispatcher implements RecordingHandler {
         }
     }
 
-    private boolean readOnlyOperation(Operation operation) {
+    static boolean readOnlyOperation(Operation operation) {
         if (operation instanceof Composite) {
             Composite composite = (Composite) operation;
             for (Operation op : composite) {
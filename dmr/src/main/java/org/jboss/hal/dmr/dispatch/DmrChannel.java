@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.js.Browser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
+import elemental2.dom.MessageEvent;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Executes DMR operations in a web worker. The worker reads the response stream and decodes the base64 payload while it
+ * arrives. The decoded bytes are transferred back without copying, so that the main thread only has to turn them into a model
+ * node.
+ * <p>
+ * The worker is created in {@code app/src/web/script/index.js}. If it's not available, {@link #isAvailable()} returns
+ * {@code false} and the dispatcher falls back to {@code fetch()} on the main thread. The same happens if the worker fails: All
+ * pending requests are rejected with {@link #CHANNEL_ERROR} and the channel is not used anymore.
+ */
+public class DmrChannel {
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker dmrChannel;
+    }
+
+    /** Reject reason of requests which failed because of the worker and not because of the operation. */
+    static final String CHANNEL_ERROR = "DMR channel error";
+
+    private static final Logger logger = LoggerFactory.getLogger(DmrChannel.class);
+
+    private final Worker worker;
+    private final Map<Integer, Pending> pending;
+    private int counter;
+    private boolean failed;
+
+    public DmrChannel() {
+        this.worker = Browser.isIE() ? null : WorkerProvider.dmrChannel;
+        this.pending = new HashMap<>();
+        this.counter = 0;
+        this.failed = false;
+        if (worker != null) {
+            worker.addEventListener("message", event -> {
+                DmrResponse response = (DmrResponse) ((MessageEvent<?>) event).data;
+                Pending p = pending.remove(response.id);
+                if (p != null) {
+                    if (response.error != null) {
+                        p.reject.onInvoke(response.error);
+                    } else {
+                        p.resolve.onInvoke(response);
+                    }
+                }
+            });
+            worker.addEventListener("error", event -> fail(event.type));
+            worker.addEventListener("messageerror", event -> fail(event.type));
+        }
+    }
+
+    private void fail(String reason) {
+        logger.error("DMR channel failed ({}). Rejecting {} pending request(s) and falling back to the main thread.",
+                reason, pending.size());
+        failed = true;
+        List<Pending> rejected = new ArrayList<>(pending.values());
+        pending.clear();
+        for (Pending p : rejected) {
+            p.reject.onInvoke(CHANNEL_ERROR);
+        }
+    }
+
+    boolean isAvailable() {
+        return worker != null && !failed;
+    }
+
+    Promise<DmrResponse> post(String url, JsPropertyMap<String> headers, String body) {
+        return new Promise<>((resolve, reject) -> {
+            DmrRequest request = new DmrRequest();
+            request.id = ++counter;
+            request.url = url;
+            request.headers = headers;
+            request.body = body;
+            pending.put(request.id, new Pending(resolve, reject));
+            worker.postMessage(request);
+        });
+    }
+
+    private static class Pending {
+
+        final ResolveCallbackFn<DmrResponse> resolve;
+        final RejectCallbackFn reject;
+
+        Pending(ResolveCallbackFn<DmrResponse> resolve, RejectCallbackFn reject) {
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class DmrRequest {
+
+        int id;
+        String url;
+        JsPropertyMap<String> headers;
+        String body;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    static class DmrResponse {
+
+        int id;
+        int status;
+        String contentType;
+        ArrayBuffer bytes;
+        int length;
+        String error;
+
+        @JsOverlay
+        final Uint8Array uint8Array() {
+            return new Uint8Array(bytes, 0, length);
+        }
+    }
+}
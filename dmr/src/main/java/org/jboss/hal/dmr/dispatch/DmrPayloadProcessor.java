@@ -15,9 +15,13 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.function.Supplier;
+
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 
+import elemental2.core.Uint8Array;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
@@ -25,33 +29,42 @@ public class DmrPayloadProcessor implements PayloadProcessor {
 
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
-        ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
-            try {
-                node = ModelNode.fromBase64(payload);
-                if (method == GET && !node.isFailure()) {
-                    // For GET request the response is purely the model nodes result. The outcome
-                    // is not send as part of the response but expressed with the HTTP status code.
-                    // In order to not break existing code, we repackage the payload into a
-                    // new model node with an "outcome" and "result" key.
-                    // TODO What about response headers?
-                    ModelNode repackaged = new ModelNode();
-                    repackaged.get(OUTCOME).set(SUCCESS);
-                    repackaged.get(RESULT).set(node);
-                    node = repackaged;
-                }
-            } catch (Throwable e) {
-                ModelNode err = new ModelNode();
-                err.get(OUTCOME).set(FAILED);
-                err.get(FAILURE_DESCRIPTION)
-                        .set("Failed to decode response: " + e.getClass().getName() + ": " + e.getMessage()); // NON-NLS
-                node = err;
-            }
-
+            return decode(method, () -> ModelNode.fromBase64(payload));
         } else {
-            node = new ModelNode();
+            ModelNode node = new ModelNode();
             node.get(OUTCOME).set(FAILED);
             node.get(FAILURE_DESCRIPTION).set(PARSE_ERROR + contentType); // NON-NLS
+            return node;
+        }
+    }
+
+    /** Turns the already base64 decoded bytes of a DMR response into a model node. */
+    ModelNode processBytes(final HttpMethod method, final Uint8Array bytes) {
+        return decode(method, () -> ModelNode.fromBytes(bytes));
+    }
+
+    private ModelNode decode(HttpMethod method, Supplier<ModelNode> decoder) {
+        ModelNode node;
+        try {
+            node = decoder.get();
+            if (method == GET && !node.isFailure()) {
+                // For GET request the response is purely the model nodes result. The outcome
+                // is not send as part of the response but expressed with the HTTP status code.
+                // In order to not break existing code, we repackage the payload into a
+                // new model node with an "outcome" and "result" key.
+                // TODO What about response headers?
+                ModelNode repackaged = new ModelNode();
+                repackaged.get(OUTCOME).set(SUCCESS);
+                repackaged.get(RESULT).set(node);
+                node = repackaged;
+            }
+        } catch (Throwable e) {
+            ModelNode err = new ModelNode();
+            err.get(OUTCOME).set(FAILED);
+            err.get(FAILURE_DESCRIPTION)
+                    .set("Failed to decode response: " + e.getClass().getName() + ": " + e.getMessage()); // NON-NLS
+            node = err;
         }
         return node;
     }
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Opt-in batching layer on top of the {@link Dispatcher}. Read-only operations which are executed using
+ * {@link #execute(Operation)} within the same event loop tick (or within a {@linkplain #setWindow(int) configurable window})
+ * are sent as one {@link Composite}. The step results are then handed back to the individual callers.
+ * <p>
+ * The management model fails a composite as a whole if one of its steps fails. In that case the operations are executed one by
+ * one, so that a single failing operation only rejects its own caller and never affects the other callers.
+ * <p>
+ * Operations which are not read-only and composites are passed straight to the dispatcher.
+ */
+public class OperationBatcher {
+
+    /** Default window in milliseconds. 0 means that operations of the same event loop tick are batched. */
+    public static final int DEFAULT_WINDOW = 0;
+    static final int MAX_BATCH_SIZE = 50;
+
+    private final Dispatcher dispatcher;
+    private final Executor executor;
+    private final Consumer<Runnable> scheduler;
+    private List<Pending> queue;
+    private boolean scheduled;
+    private int window;
+
+    @Inject
+    public OperationBatcher(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.executor = new DispatcherExecutor(dispatcher);
+        this.scheduler = this::defer;
+        this.queue = new ArrayList<>();
+        this.scheduled = false;
+        this.window = DEFAULT_WINDOW;
+    }
+
+    OperationBatcher(Executor executor, Consumer<Runnable> scheduler) {
+        this.dispatcher = null;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.queue = new ArrayList<>();
+        this.scheduled = false;
+        this.window = DEFAULT_WINDOW;
+    }
+
+    /**
+     * Queues the operation for the next batch. The promise is resolved with the result of the operation (like
+     * {@link Dispatcher#execute(Operation)}).
+     */
+    public Promise<ModelNode> execute(Operation operation) {
+        if (operation instanceof Composite || !Dispatcher.readOnlyOperation(operation)) {
+            return dispatcher.execute(operation);
+        }
+        return new Promise<>((resolve, reject) -> queue(operation, result -> resolve.onInvoke(result), reject::onInvoke));
+    }
+
+    void queue(Operation operation, Consumer<ModelNode> success, Consumer<String> failure) {
+        queue.add(new Pending(operation, success, failure));
+        if (queue.size() >= MAX_BATCH_SIZE) {
+            flush();
+        } else if (!scheduled) {
+            scheduled = true;
+            scheduler.accept(() -> {
+                scheduled = false;
+                flush();
+            });
+        }
+    }
+
+    private void defer(Runnable runnable) {
+        if (window > 0) {
+            setTimeout(__ -> runnable.run(), window);
+        } else {
+            Promise.resolve((Object) null).then(__ -> {
+                runnable.run();
+                return null;
+            });
+        }
+    }
+
+    private void flush() {
+        List<Pending> batch = queue;
+        queue = new ArrayList<>();
+        if (batch.size() == 1) {
+            single(batch.get(0));
+        } else if (batch.size() > 1) {
+            Composite composite = new Composite();
+            for (Pending pending : batch) {
+                composite.add(pending.operation);
+            }
+            executor.execute(composite, (CompositeResult result) -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).success.accept(result.step(i).get(RESULT));
+                }
+            }, error -> batch.forEach(this::single)); // isolate the failing operation(s)
+        }
+    }
+
+    private void single(Pending pending) {
+        executor.execute(pending.operation, pending.success, pending.failure);
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for further operations before a batch is sent. Use 0 to only batch the operations
+     * of the same event loop tick.
+     */
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    /** Sends composites and single operations. Abstracts the dispatcher, so that the batching can be tested. */
+    interface Executor {
+
+        void execute(Composite composite, Consumer<CompositeResult> success, Consumer<String> failure);
+
+        void execute(Operation operation, Consumer<ModelNode> success, Consumer<String> failure);
+    }
+
+    private static class DispatcherExecutor implements Executor {
+
+        private final Dispatcher dispatcher;
+
+        DispatcherExecutor(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void execute(Composite composite, Consumer<CompositeResult> success, Consumer<String> failure) {
+            dispatcher.execute(composite, success, (operation, error) -> failure.accept(error));
+        }
+
+        @Override
+        public void execute(Operation operation, Consumer<ModelNode> success, Consumer<String> failure) {
+            dispatcher.execute(operation, success, (op, error) -> failure.accept(error));
+        }
+    }
+
+    private static class Pending {
+
+        final Operation operation;
+        final Consumer<ModelNode> success;
+        final Consumer<String> failure;
+
+        Pending(Operation operation, Consumer<ModelNode> success, Consumer<String> failure) {
+            this.operation = operation;
+            this.success = success;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import elemental2.promise.Promise;
+
+import static org.jboss.hal.config.Settings.Key.OPERATION_CACHE_TTL;
+
+/**
+ * Deduplicates identical read-only operations and optionally keeps their responses for a short time.
+ * <p>
+ * Identical read-only operations which are executed while the first one is still in flight share the same request. If
+ * {@link Settings.Key#OPERATION_CACHE_TTL} is set to a positive number of milliseconds, responses are kept for that time, so
+ * that identical reads right after are served from memory. Caching is turned off by default. Add, remove, write-attribute and
+ * undefine-attribute operations invalidate the entries whose address is a prefix of the operation's address or vice versa. Any
+ * other operation clears all entries, since its effects might not be limited to its address.
+ * <p>
+ * Callers always get their own copy of the response, since model nodes are mutable.
+ */
+public class OperationCache {
+
+    /** Default time to live in milliseconds: caching is turned off and only in-flight reads are deduplicated. */
+    public static final int DEFAULT_TIME_TO_LIVE = 0;
+
+    private final ResponseCache<Promise<ModelNode>> cache;
+
+    @Inject
+    public OperationCache(Settings settings) {
+        this.cache = new ResponseCache<>(() -> settings.get(OPERATION_CACHE_TTL).asInt(DEFAULT_TIME_TO_LIVE),
+                System::currentTimeMillis);
+    }
+
+    /**
+     * Returns the cached or in-flight response for the specified read-only operation or executes the operation using the
+     * specified supplier.
+     */
+    Promise<ModelNode> read(Operation operation, Supplier<Promise<ModelNode>> execute) {
+        String key = cache.key(operation);
+        ModelNode cached = cache.cached(key);
+        if (cached != null) {
+            return Promise.resolve(cached);
+        }
+
+        Promise<ModelNode> promise = cache.inflight(key);
+        if (promise == null) {
+            int started = cache.start(key);
+            promise = execute.get()
+                    .then(payload -> {
+                        cache.complete(key, operation, started, payload);
+                        return Promise.resolve(payload);
+                    }, error -> {
+                        cache.fail(key, started);
+                        return Promise.reject(error);
+                    });
+            cache.inflight(key, promise);
+        }
+        return promise.then(payload -> Promise.resolve(payload.clone()));
+    }
+
+    /**
+     * Removes all entries which might be affected by the specified operation. Reads which are in flight while this method is
+     * called, can no longer be joined and their responses won't be cached.
+     */
+    void invalidate(Operation operation) {
+        cache.invalidate(operation);
+    }
+
+    /** Removes all cached responses. */
+    public void clear() {
+        cache.clear();
+    }
+
+    // ------------------------------------------------------ properties & statistics
+
+    public int getTimeToLive() {
+        return cache.timeToLive();
+    }
+
+    /** @return the number of reads served from the cache */
+    public int hits() {
+        return cache.hits();
+    }
+
+    /** @return the number of reads which resulted in a request */
+    public int misses() {
+        return cache.misses();
+    }
+
+    /** @return the number of reads which joined an identical read already in flight */
+    public int coalesced() {
+        return cache.coalesced();
+    }
+
+    /** @return the number of cached responses (including expired ones which have not yet been removed) */
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public String toString() {
+        return "OperationCache(hits=" + hits() + ", misses=" + misses() + ", coalesced=" + coalesced() + ", size="
+                + size() + ")";
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import com.google.common.collect.ImmutableSet;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.UNDEFINE_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+
+/**
+ * Bookkeeping of the {@link OperationCache}: in-flight reads, cached responses, invalidation and statistics. Independent of the
+ * type used for pending responses, so that it can be used without promises.
+ *
+ * @param <P> the type of pending responses
+ */
+class ResponseCache<P> {
+
+    /**
+     * Operations whose effect is limited to their address. All other operations (e.g. {@code start} on a server config, which
+     * changes the state of the server) clear the whole cache.
+     */
+    private static final ImmutableSet<String> LOCAL_OPERATIONS = ImmutableSet.of(ADD, REMOVE, WRITE_ATTRIBUTE_OPERATION,
+            UNDEFINE_ATTRIBUTE_OPERATION);
+    private static final int MAX_ENTRIES = 250;
+
+    private final IntSupplier timeToLive;
+    private final LongSupplier clock;
+    private final Map<String, Inflight<P>> inflight;
+    private final Map<String, Entry> entries;
+    private int generation;
+    private int hits;
+    private int misses;
+    private int coalesced;
+
+    /**
+     * @param timeToLive supplies the time to live of cached responses in milliseconds. 0 turns off caching.
+     * @param clock supplies the current time in milliseconds
+     */
+    ResponseCache(IntSupplier timeToLive, LongSupplier clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.inflight = new HashMap<>();
+        this.entries = new LinkedHashMap<String, Entry>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    String key(Operation operation) {
+        // operation headers of composites are not part of the CLI representation
+        String headers = operation.hasDefined(OPERATION_HEADERS) ? operation.get(OPERATION_HEADERS).toJSONString(true) : "";
+        return operation.asCli() + headers;
+    }
+
+    /** @return a copy of the cached response or {@code null} if there's no such response or if it has expired */
+    ModelNode cached(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expires > clock.getAsLong()) {
+                hits++;
+                return entry.payload.clone();
+            }
+            entries.remove(key);
+        }
+        return null;
+    }
+
+    /** @return the pending response of an identical read or {@code null} if there's no such read in flight */
+    P inflight(String key) {
+        Inflight<P> pending = inflight.get(key);
+        if (pending != null) {
+            coalesced++;
+            return pending.pending;
+        }
+        return null;
+    }
+
+    /**
+     * Starts a new read. Has to be called before the operation is executed.
+     *
+     * @return the generation which has to be passed to {@link #complete(String, Operation, int, ModelNode)} or
+     *         {@link #fail(String, int)}
+     */
+    int start(String key) {
+        misses++;
+        return generation;
+    }
+
+    /**
+     * Registers the pending response of a read, so that identical reads can join it. Reads which are in flight when a related
+     * operation is executed can no longer be joined.
+     */
+    void inflight(String key, P pending) {
+        inflight.put(key, new Inflight<>(pending, generation));
+    }
+
+    /**
+     * Completes a read. The response is cached unless caching is turned off or a related operation was executed while the read
+     * was in flight.
+     */
+    void complete(String key, Operation operation, int started, ModelNode payload) {
+        removeInflight(key, started);
+        int ttl = timeToLive.getAsInt();
+        if (ttl > 0 && started == generation) {
+            entries.put(key, new Entry(addresses(operation), payload, clock.getAsLong() + ttl));
+        }
+    }
+
+    void fail(String key, int started) {
+        removeInflight(key, started);
+    }
+
+    /** Removes the in-flight read unless it has been replaced by a read which started later. */
+    private void removeInflight(String key, int started) {
+        Inflight<P> pending = inflight.get(key);
+        if (pending != null && pending.generation == started) {
+            inflight.remove(key);
+        }
+    }
+
+    void invalidate(Operation operation) {
+        generation++;
+        // reads which were sent before the operation might return the previous state
+        inflight.clear();
+        if (local(operation)) {
+            List<ResourceAddress> addresses = addresses(operation);
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+                Entry entry = iterator.next();
+                if (entry.related(addresses)) {
+                    iterator.remove();
+                }
+            }
+        } else {
+            entries.clear();
+        }
+    }
+
+    void clear() {
+        generation++;
+        inflight.clear();
+        entries.clear();
+    }
+
+    private boolean local(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                if (!LOCAL_OPERATIONS.contains(step.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return LOCAL_OPERATIONS.contains(operation.getName());
+    }
+
+    private List<ResourceAddress> addresses(Operation operation) {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                addresses.add(step.getAddress());
+            }
+        } else {
+            addresses.add(operation.getAddress());
+        }
+        return addresses;
+    }
+
+    // ------------------------------------------------------ properties & statistics
+
+    int timeToLive() {
+        return timeToLive.getAsInt();
+    }
+
+    int hits() {
+        return hits;
+    }
+
+    int misses() {
+        return misses;
+    }
+
+    int coalesced() {
+        return coalesced;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static class Inflight<P> {
+
+        final P pending;
+        final int generation;
+
+        Inflight(P pending, int generation) {
+            this.pending = pending;
+            this.generation = generation;
+        }
+    }
+
+    private static class Entry {
+
+        final List<ResourceAddress> addresses;
+        final ModelNode payload;
+        final long expires;
+
+        Entry(List<ResourceAddress> addresses, ModelNode payload, long expires) {
+            this.addresses = addresses;
+            this.payload = payload;
+            this.expires = expires;
+        }
+
+        boolean related(List<ResourceAddress> others) {
+            for (ResourceAddress address : addresses) {
+                for (ResourceAddress other : others) {
+                    if (address.startsWith(other) || other.startsWith(address)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
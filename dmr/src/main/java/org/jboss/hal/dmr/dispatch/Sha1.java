@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.function.Consumer;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+
+/**
+ * Incremental SHA-1 implementation used to compute the hash of deployment contents chunk by chunk. The content repository
+ * stores contents using the SHA-1 hash of their bytes. The browser's {@code crypto.subtle.digest()} needs the whole content in
+ * memory, so the hash is computed here.
+ * <p>
+ * Chunks are read as {@code Int8Array} which is accessed like a Java {@code byte[]}, so hashing doesn't call into JavaScript
+ * (and box a number) per byte. Use {@link #update(byte[], int, Consumer, Runnable)} to hash a chunk in slices and give the
+ * browser a chance to handle other events in between.
+ */
+final class Sha1 {
+
+    private static final int BLOCK_SIZE = 64;
+
+    private final int[] state;
+    private final int[] block;
+    private final int[] words;
+    private int blockLength;
+    private int blocks;
+
+    Sha1() {
+        this.state = new int[] { 0x67452301, 0xEFCDAB89, 0x98BADCFE, 0x10325476, 0xC3D2E1F0 };
+        this.block = new int[BLOCK_SIZE];
+        this.words = new int[80];
+        this.blockLength = 0;
+        this.blocks = 0;
+    }
+
+    /** Returns the buffer as signed bytes. The typed array is not copied, but used as {@code byte[]} in compiled code. */
+    static byte[] asBytes(ArrayBuffer buffer) {
+        return Js.uncheckedCast(new Int8Array(buffer));
+    }
+
+    /**
+     * Hashes the bytes in slices of the specified size. The next slice is passed to the scheduler, which is expected to run it
+     * once the browser has handled pending events. Calls {@code done} after the last slice.
+     */
+    void update(byte[] bytes, int sliceSize, Consumer<Runnable> scheduler, Runnable done) {
+        update(bytes, 0, sliceSize, scheduler, done);
+    }
+
+    private void update(byte[] bytes, int offset, int sliceSize, Consumer<Runnable> scheduler, Runnable done) {
+        int end = Math.min(offset + sliceSize, bytes.length);
+        update(bytes, offset, end - offset);
+        if (end < bytes.length) {
+            scheduler.accept(() -> update(bytes, end, sliceSize, scheduler, done));
+        } else {
+            done.run();
+        }
+    }
+
+    void update(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            update(bytes[i] & 0xff);
+        }
+    }
+
+    /** Pads the message and returns the 20 bytes of the hash. The instance must not be used afterwards. */
+    byte[] digest() {
+        long bits = ((long) blocks * BLOCK_SIZE + blockLength) * 8;
+        update(0x80);
+        while (blockLength != BLOCK_SIZE - 8) {
+            update(0);
+        }
+        for (int i = 7; i >= 0; i--) {
+            update((int) (bits >>> (i * 8)) & 0xff);
+        }
+
+        byte[] digest = new byte[20];
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 4; j++) {
+                digest[i * 4 + j] = (byte) (state[i] >>> (24 - j * 8));
+            }
+        }
+        return digest;
+    }
+
+    private void update(int b) {
+        block[blockLength++] = b;
+        if (blockLength == BLOCK_SIZE) {
+            process();
+            blockLength = 0;
+            blocks++;
+        }
+    }
+
+    private void process() {
+        for (int t = 0; t < 16; t++) {
+            words[t] = (block[t * 4] << 24) | (block[t * 4 + 1] << 16) | (block[t * 4 + 2] << 8) | block[t * 4 + 3];
+        }
+        for (int t = 16; t < 80; t++) {
+            words[t] = Integer.rotateLeft(words[t - 3] ^ words[t - 8] ^ words[t - 14] ^ words[t - 16], 1);
+        }
+
+        int a = state[0];
+        int b = state[1];
+        int c = state[2];
+        int d = state[3];
+        int e = state[4];
+        for (int t = 0; t < 80; t++) {
+            int f;
+            int k;
+            if (t < 20) {
+                f = (b & c) | (~b & d);
+                k = 0x5A827999;
+            } else if (t < 40) {
+                f = b ^ c ^ d;
+                k = 0x6ED9EBA1;
+            } else if (t < 60) {
+                f = (b & c) | (b & d) | (c & d);
+                k = 0x8F1BBCDC;
+            } else {
+                f = b ^ c ^ d;
+                k = 0xCA62C1D6;
+            }
+            int temp = Integer.rotateLeft(a, 5) + f + e + k + words[t];
+            e = d;
+            d = c;
+            c = Integer.rotateLeft(b, 30);
+            b = a;
+            a = temp;
+        }
+        state[0] += a;
+        state[1] += b;
+        state[2] += c;
+        state[3] += d;
+        state[4] += e;
+    }
+}
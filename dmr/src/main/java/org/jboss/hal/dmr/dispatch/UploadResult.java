@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.ModelNode;
+
+/**
+ * The result of {@link Dispatcher#upload(elemental2.dom.File, org.jboss.hal.dmr.Operation, org.jboss.hal.flow.Progress)}. Tells
+ * whether the bytes of the file have been sent and if so, when the transfer started and ended.
+ */
+public class UploadResult {
+
+    private final ModelNode result;
+    private final boolean transferred;
+    private final long start;
+    private final long end;
+
+    UploadResult(ModelNode result, boolean transferred, long start, long end) {
+        this.result = result;
+        this.transferred = transferred;
+        this.start = start;
+        this.end = end;
+    }
+
+    /** @return the result of the operation */
+    public ModelNode getResult() {
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the file has been sent, {@code false} if the operation references content which already existed
+     *         in the content repository
+     */
+    public boolean isTransferred() {
+        return transferred;
+    }
+
+    /** @return the time in milliseconds when the transfer started */
+    public long getStart() {
+        return start;
+    }
+
+    /** @return the time in milliseconds when the transfer ended */
+    public long getEnd() {
+        return end;
+    }
+}
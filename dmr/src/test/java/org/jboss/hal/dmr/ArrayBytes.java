@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.nio.ByteBuffer;
+
+/** {@link Bytes} backed by a {@link ByteBuffer}. Used in unit tests where there are no typed arrays. */
+class ArrayBytes implements Bytes {
+
+    private final ByteBuffer buffer;
+
+    ArrayBytes(int length) {
+        this(ByteBuffer.allocate(length));
+    }
+
+    ArrayBytes(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    private ArrayBytes(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    byte[] toArray() {
+        byte[] bytes = new byte[length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(i);
+        }
+        return bytes;
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public byte getInt8(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public int getUint8(int index) {
+        return buffer.get(index) & 0xff;
+    }
+
+    @Override
+    public int getUint16(int index) {
+        return buffer.getShort(index) & 0xffff;
+    }
+
+    @Override
+    public int getInt32(int index) {
+        return buffer.getInt(index);
+    }
+
+    @Override
+    public double getFloat64(int index) {
+        return buffer.getDouble(index);
+    }
+
+    @Override
+    public void setUint8(int index, int value) {
+        buffer.put(index, (byte) value);
+    }
+
+    @Override
+    public void setUint16(int index, int value) {
+        buffer.putShort(index, (short) value);
+    }
+
+    @Override
+    public void setInt32(int index, int value) {
+        buffer.putInt(index, value);
+    }
+
+    @Override
+    public void setFloat64(int index, double value) {
+        buffer.putDouble(index, value);
+    }
+
+    @Override
+    public Bytes slice(int begin, int end) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(begin);
+        duplicate.limit(end);
+        return new ArrayBytes(duplicate.slice());
+    }
+
+    @Override
+    public Bytes grow(int length) {
+        byte[] grown = new byte[length];
+        System.arraycopy(toArray(), 0, grown, 0, length());
+        return new ArrayBytes(grown);
+    }
+}
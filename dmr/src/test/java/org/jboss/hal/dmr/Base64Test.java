@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class Base64Test {
+
+    @Test
+    public void encode() {
+        Random random = new Random(42);
+        for (int length = 0; length < 32; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            assertEquals(java.util.Base64.getEncoder().encodeToString(bytes),
+                    Base64.encodeBytes(new ArrayBytes(bytes)));
+        }
+    }
+
+    @Test
+    public void decode() {
+        Random random = new Random(42);
+        for (int length = 0; length < 32; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String encoded = java.util.Base64.getEncoder().encodeToString(bytes);
+            assertArrayEquals(bytes, decode(encoded));
+        }
+    }
+
+    @Test
+    public void decodeIgnoresWhitespace() {
+        byte[] bytes = new byte[200];
+        new Random(42).nextBytes(bytes);
+        String encoded = java.util.Base64.getMimeEncoder().encodeToString(bytes);
+        assertArrayEquals(bytes, decode(encoded + "\n"));
+        assertArrayEquals(bytes, decode(encoded.replace("\r\n", " \t")));
+    }
+
+    @Test
+    public void decodeWithoutPadding() {
+        assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), decode("YWI"));
+        assertArrayEquals("a".getBytes(StandardCharsets.US_ASCII), decode("YQ"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCharacter() {
+        decode("YW*=");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncated() {
+        decode("YWJjZ");
+    }
+
+    private byte[] decode(String encoded) {
+        return ((ArrayBytes) Base64.decodeBytes(encoded, ArrayBytes::new)).toArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests {@link DataInput} and {@link DataOutput} against the binary format written by JBoss DMR. */
+@SuppressWarnings("HardCodedStringLiteral")
+public class DataInputOutputTest {
+
+    private static final String UNICODE = "café € 日本";
+
+    private byte[] reference;
+
+    @Before
+    public void setUp() throws IOException {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("string").set(UNICODE);
+        node.get("empty").set("");
+        node.get("int").set(-42);
+        node.get("long").set(Long.MIN_VALUE + 1);
+        node.get("double").set(Math.PI);
+        node.get("boolean").set(true);
+        node.get("big-decimal").set(new BigDecimal("1234567890.0987654321"));
+        node.get("bytes").set(new byte[] { 0, 1, -1, 127, -128 });
+        node.get("expression").setExpression("${jboss.home.dir}");
+        node.get("type").set(org.jboss.dmr.ModelType.LIST);
+        node.get("property").set("key", "value");
+        node.get("list").add("a").add(1).add(new org.jboss.dmr.ModelNode().set("nested", true));
+        node.get("undefined");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        node.writeExternal(new DataOutputStream(baos));
+        reference = baos.toByteArray();
+    }
+
+    @Test
+    public void read() {
+        ModelNode node = ModelNode.fromBytes(new ArrayBytes(reference));
+
+        assertEquals(UNICODE, node.get("string").asString());
+        assertEquals("", node.get("empty").asString());
+        assertEquals(-42, node.get("int").asInt());
+        assertEquals(Long.MIN_VALUE + 1, node.get("long").asLong());
+        assertEquals(Math.PI, node.get("double").asDouble(), 0);
+        assertTrue(node.get("boolean").asBoolean());
+        assertEquals(new BigDecimal("1234567890.0987654321"), node.get("big-decimal").asBigDecimal());
+        assertArrayEquals(new byte[] { 0, 1, -1, 127, -128 }, node.get("bytes").asBytes());
+        assertEquals(ModelType.EXPRESSION, node.get("expression").getType());
+        assertEquals(ModelType.LIST, node.get("type").asType());
+        assertEquals("value", node.get("property").asProperty().getValue().asString());
+        assertEquals(3, node.get("list").asList().size());
+        assertTrue(node.get("list").get(2).get("nested").asBoolean());
+        assertEquals(ModelType.UNDEFINED, node.get("undefined").getType());
+    }
+
+    @Test
+    public void readBigInteger() throws IOException {
+        BigInteger value = new BigInteger("-123456789012345678901234567890");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new org.jboss.dmr.ModelNode().set(value).writeExternal(new DataOutputStream(baos));
+
+        assertEquals(value, ModelNode.fromBytes(new ArrayBytes(baos.toByteArray())).asBigInteger());
+    }
+
+    @Test
+    public void write() {
+        ModelNode node = ModelNode.fromBytes(new ArrayBytes(reference));
+
+        // start with a single byte to make the output grow several times
+        assertArrayEquals(reference, ((ArrayBytes) node.toBytes(new ArrayBytes(1))).toArray());
+        assertArrayEquals(reference, ((ArrayBytes) node.toBytes(new ArrayBytes(DataOutput.INITIAL_CAPACITY))).toArray());
+    }
+
+    @Test
+    public void base64() {
+        ModelNode node = ModelNode.fromBytes(new ArrayBytes(reference));
+        String encoded = Base64.encodeBytes(node.toBytes(new ArrayBytes(DataOutput.INITIAL_CAPACITY)));
+        ModelNode decoded = ModelNode.fromBytes(Base64.decodeBytes(encoded, ArrayBytes::new));
+
+        assertEquals(java.util.Base64.getEncoder().encodeToString(reference), encoded);
+        assertEquals(node, decoded);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void truncated() {
+        ModelNode.fromBytes(new ArrayBytes(Arrays.copyOf(reference, reference.length - 1)));
+    }
+}
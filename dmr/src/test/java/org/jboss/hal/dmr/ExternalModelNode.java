@@ -29,7 +29,7 @@ public class ExternalModelNode {
             fromStream.writeExternal(new DataOutputStream(baos));
 
             ModelNode modelNode = new ModelNode();
-            modelNode.readExternal(new DataInput(baos.toByteArray()));
+            modelNode.readExternal(new DataInput(new ArrayBytes(baos.toByteArray())));
             return modelNode;
         } catch (IOException e) {
             throw new RuntimeException("Unable to read DMR from input stream: " + e.getMessage());
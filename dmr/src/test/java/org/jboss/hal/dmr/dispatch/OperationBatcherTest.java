@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class OperationBatcherTest {
+
+    private static final String FAILURE = "not found";
+
+    private FakeExecutor executor;
+    private List<Runnable> scheduled;
+    private OperationBatcher batcher;
+    private Map<String, String> results;
+    private Map<String, String> failures;
+
+    @Before
+    public void setUp() {
+        executor = new FakeExecutor();
+        scheduled = new ArrayList<>();
+        batcher = new OperationBatcher(executor, scheduled::add);
+        results = new HashMap<>();
+        failures = new HashMap<>();
+    }
+
+    @Test
+    public void batchSameTick() {
+        queue("a");
+        queue("b");
+        queue("c");
+        assertEquals(1, scheduled.size());
+        assertEquals(0, executor.composites);
+
+        tick();
+        assertEquals(1, executor.composites);
+        assertEquals(0, executor.singles);
+        assertEquals("a", results.get("a"));
+        assertEquals("b", results.get("b"));
+        assertEquals("c", results.get("c"));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void singleOperation() {
+        queue("a");
+        tick();
+        assertEquals(0, executor.composites);
+        assertEquals(1, executor.singles);
+        assertEquals("a", results.get("a"));
+    }
+
+    @Test
+    public void failingStepIsIsolated() {
+        executor.failing = "b";
+        queue("a");
+        queue("b");
+        queue("c");
+        tick();
+
+        // the composite fails as a whole, then each operation is executed on its own
+        assertEquals(1, executor.composites);
+        assertEquals(3, executor.singles);
+        assertEquals("a", results.get("a"));
+        assertEquals("c", results.get("c"));
+        assertEquals(FAILURE, failures.get("b"));
+        assertEquals(2, results.size());
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void nextTick() {
+        queue("a");
+        tick();
+        queue("b");
+        queue("c");
+        tick();
+        assertEquals(1, executor.singles);
+        assertEquals(1, executor.composites);
+        assertEquals(3, results.size());
+    }
+
+    @Test
+    public void maxBatchSize() {
+        for (int i = 0; i < OperationBatcher.MAX_BATCH_SIZE; i++) {
+            queue("r" + i);
+        }
+        // flushed without waiting for the next tick
+        assertEquals(1, executor.composites);
+        assertEquals(OperationBatcher.MAX_BATCH_SIZE, results.size());
+
+        queue("x");
+        tick();
+        assertEquals(1, executor.composites);
+        assertEquals(1, executor.singles);
+        assertEquals("x", results.get("x"));
+    }
+
+    private void queue(String name) {
+        batcher.queue(read(name), result -> results.put(name, result.asString()),
+                error -> failures.put(name, error));
+    }
+
+    private void tick() {
+        List<Runnable> runnables = new ArrayList<>(scheduled);
+        scheduled.clear();
+        runnables.forEach(Runnable::run);
+    }
+
+    private static Operation read(String name) {
+        return new Operation.Builder(new ResourceAddress().add("subsystem", name), READ_RESOURCE_OPERATION).build();
+    }
+
+    private static String name(Operation operation) {
+        return operation.getAddress().lastValue();
+    }
+
+    /** Mimics the management model: a composite fails as a whole if one of its steps fails. */
+    private static class FakeExecutor implements OperationBatcher.Executor {
+
+        String failing;
+        int composites;
+        int singles;
+
+        @Override
+        public void execute(Composite composite, Consumer<CompositeResult> success, Consumer<String> failure) {
+            composites++;
+            ModelNode steps = new ModelNode();
+            int index = 1;
+            for (Operation operation : composite) {
+                if (name(operation).equals(failing)) {
+                    failure.accept(FAILURE);
+                    return;
+                }
+                ModelNode step = new ModelNode();
+                step.get(OUTCOME).set(SUCCESS);
+                step.get(RESULT).set(name(operation));
+                steps.get("step-" + index++).set(step);
+            }
+            success.accept(new CompositeResult(steps));
+        }
+
+        @Override
+        public void execute(Operation operation, Consumer<ModelNode> success, Consumer<String> failure) {
+            singles++;
+            if (name(operation).equals(failing)) {
+                failure.accept(FAILURE);
+            } else {
+                success.accept(new ModelNode().set(name(operation)));
+            }
+        }
+    }
+}
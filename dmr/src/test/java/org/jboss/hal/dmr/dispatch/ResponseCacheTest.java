@@ -0,0 +1,233 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.START;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ResponseCacheTest {
+
+    private static final int TTL = 500;
+
+    private int timeToLive;
+    private long now;
+    private ResponseCache<Object> cache;
+
+    @Before
+    public void setUp() {
+        timeToLive = TTL;
+        now = 1000;
+        cache = new ResponseCache<>(() -> timeToLive, () -> now);
+    }
+
+    @Test
+    public void coalesce() {
+        Operation operation = read("subsystem=logging");
+        String key = cache.key(operation);
+        Object pending = new Object();
+
+        assertNull(cache.inflight(key));
+        cache.start(key);
+        cache.inflight(key, pending);
+        assertSame(pending, cache.inflight(key));
+        assertSame(pending, cache.inflight(cache.key(read("subsystem=logging"))));
+        assertEquals(1, cache.misses());
+        assertEquals(2, cache.coalesced());
+
+        cache.complete(key, operation, 0, payload("foo"));
+        assertNull(cache.inflight(key));
+    }
+
+    @Test
+    public void failedReadIsNotInFlight() {
+        String key = cache.key(read("subsystem=logging"));
+        int started = cache.start(key);
+        cache.inflight(key, new Object());
+        cache.fail(key, started);
+
+        assertNull(cache.inflight(key));
+        assertNull(cache.cached(key));
+    }
+
+    @Test
+    public void differentOperations() {
+        assertNotEquals(cache.key(read("subsystem=logging")), cache.key(read("subsystem=io")));
+        Operation withName = new Operation.Builder(ResourceAddress.from("subsystem=logging"), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, "foo")
+                .build();
+        Operation withOtherName = new Operation.Builder(ResourceAddress.from("subsystem=logging"), READ_ATTRIBUTE_OPERATION)
+                .param(NAME, "bar")
+                .build();
+        assertNotEquals(cache.key(withName), cache.key(withOtherName));
+    }
+
+    @Test
+    public void cachedCopy() {
+        Operation operation = read("subsystem=logging");
+        String key = execute(operation, payload("foo"));
+
+        ModelNode first = cache.cached(key);
+        assertNotNull(first);
+        first.set("changed");
+        assertEquals(payload("foo"), cache.cached(key));
+        assertEquals(2, cache.hits());
+    }
+
+    @Test
+    public void expire() {
+        String key = execute(read("subsystem=logging"), payload("foo"));
+
+        now += TTL - 1;
+        assertNotNull(cache.cached(key));
+        now += 1;
+        assertNull(cache.cached(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void turnedOff() {
+        timeToLive = 0;
+        String key = execute(read("subsystem=logging"), payload("foo"));
+
+        assertNull(cache.cached(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void skipCachingAfterInvalidation() {
+        Operation operation = read("subsystem=logging");
+        String key = cache.key(operation);
+        int started = cache.start(key);
+        cache.inflight(key, new Object());
+        cache.invalidate(write("subsystem=io"));
+        cache.complete(key, operation, started, payload("foo"));
+
+        assertNull(cache.cached(key));
+        assertNull(cache.inflight(key));
+    }
+
+    @Test
+    public void noJoinAfterInvalidation() {
+        Operation operation = read("subsystem=logging");
+        String key = cache.key(operation);
+        int started = cache.start(key);
+        cache.inflight(key, new Object());
+
+        cache.invalidate(write("subsystem=logging"));
+        // a read after the write must not join the read sent before the write
+        assertNull(cache.inflight(key));
+
+        // the new read is not removed when the previous read completes
+        int restarted = cache.start(key);
+        Object pending = new Object();
+        cache.inflight(key, pending);
+        cache.complete(key, operation, started, payload("before"));
+        assertSame(pending, cache.inflight(key));
+        assertNull(cache.cached(key));
+
+        cache.complete(key, operation, restarted, payload("after"));
+        assertNull(cache.inflight(key));
+    }
+
+    @Test
+    public void noJoinAfterClear() {
+        String key = cache.key(read("subsystem=logging"));
+        int started = cache.start(key);
+        cache.inflight(key, new Object());
+
+        cache.clear();
+        assertNull(cache.inflight(key));
+        cache.fail(key, started);
+        assertNull(cache.inflight(key));
+    }
+
+    @Test
+    public void invalidateRelated() {
+        String parent = execute(read("subsystem=logging"), payload("parent"));
+        String child = execute(read("subsystem=logging/logger=foo"), payload("child"));
+        String unrelated = execute(read("subsystem=io"), payload("unrelated"));
+
+        cache.invalidate(write("subsystem=logging/logger=foo"));
+        assertNull(cache.cached(parent));
+        assertNull(cache.cached(child));
+        assertNotNull(cache.cached(unrelated));
+    }
+
+    @Test
+    public void invalidateComposite() {
+        String logging = execute(read("subsystem=logging"), payload("logging"));
+        String io = execute(read("subsystem=io"), payload("io"));
+        String ee = execute(read("subsystem=ee"), payload("ee"));
+
+        cache.invalidate(new Composite(write("subsystem=logging"),
+                new Operation.Builder(ResourceAddress.from("subsystem=io/worker=foo"), ADD).build()));
+        assertNull(cache.cached(logging));
+        assertNull(cache.cached(io));
+        assertNotNull(cache.cached(ee));
+    }
+
+    @Test
+    public void clearOnOtherOperations() {
+        String server = execute(read("host=primary/server=server-one"), payload("server"));
+        String io = execute(read("subsystem=io"), payload("io"));
+
+        cache.invalidate(new Operation.Builder(ResourceAddress.from("host=primary/server-config=server-one"), START)
+                .build());
+        assertNull(cache.cached(server));
+        assertNull(cache.cached(io));
+    }
+
+    private String execute(Operation operation, ModelNode payload) {
+        String key = cache.key(operation);
+        int started = cache.start(key);
+        cache.inflight(key, new Object());
+        cache.complete(key, operation, started, payload);
+        return key;
+    }
+
+    private Operation read(String address) {
+        return new Operation.Builder(ResourceAddress.from(address), READ_RESOURCE_OPERATION).build();
+    }
+
+    private Operation write(String address) {
+        return new Operation.Builder(ResourceAddress.from(address), WRITE_ATTRIBUTE_OPERATION)
+                .param(NAME, "foo")
+                .param(VALUE, "bar")
+                .build();
+    }
+
+    private ModelNode payload(String value) {
+        return new ModelNode().set(value);
+    }
+}
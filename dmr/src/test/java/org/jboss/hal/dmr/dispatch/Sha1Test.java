@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Sha1Test {
+
+    @Test
+    public void empty() throws Exception {
+        assertArrayEquals(expected(new byte[0]), new Sha1().digest());
+    }
+
+    @Test
+    public void text() throws Exception {
+        byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        Sha1 sha1 = new Sha1();
+        sha1.update(bytes, 0, bytes.length);
+        assertArrayEquals(expected(bytes), sha1.digest());
+    }
+
+    @Test
+    public void chunks() throws Exception {
+        byte[] bytes = new byte[100_003];
+        new Random(42).nextBytes(bytes);
+
+        // chunk sizes which are not aligned to the block size
+        for (int chunkSize : new int[] { 1, 55, 64, 1000, 65_536 }) {
+            Sha1 sha1 = new Sha1();
+            for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+                sha1.update(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+            }
+            assertArrayEquals("chunk size " + chunkSize, expected(bytes), sha1.digest());
+        }
+    }
+
+    @Test
+    public void slices() throws Exception {
+        byte[] bytes = new byte[10_000];
+        new Random(42).nextBytes(bytes);
+        List<Runnable> scheduled = new ArrayList<>();
+        boolean[] done = new boolean[1];
+
+        Sha1 sha1 = new Sha1();
+        sha1.update(bytes, 1000, scheduled::add, () -> done[0] = true);
+        int yields = 0;
+        while (!scheduled.isEmpty()) {
+            scheduled.remove(0).run();
+            yields++;
+        }
+        assertTrue(done[0]);
+        assertEquals(9, yields);
+        assertArrayEquals(expected(bytes), sha1.digest());
+    }
+
+    @Test
+    public void singleSlice() throws Exception {
+        byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        boolean[] done = new boolean[1];
+
+        Sha1 sha1 = new Sha1();
+        sha1.update(bytes, 1000, runnable -> {
+            throw new AssertionError("Unexpected yield");
+        }, () -> done[0] = true);
+        assertTrue(done[0]);
+        assertArrayEquals(expected(bytes), sha1.digest());
+    }
+
+    private byte[] expected(byte[] bytes) throws Exception {
+        return MessageDigest.getInstance("SHA-1").digest(bytes);
+    }
+}
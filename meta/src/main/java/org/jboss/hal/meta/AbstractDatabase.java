@@ -15,12 +15,20 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import elemental2.core.Uint8Array;
+import elemental2.dom.Blob;
+import elemental2.dom.BlobPropertyBag;
 import elemental2.promise.Promise;
 
 import static java.util.function.Function.identity;
@@ -30,48 +38,91 @@ import static java.util.stream.Collectors.toSet;
 /** Abstract database which uses the specified statement context to resolve address templates. */
 public abstract class AbstractDatabase<T> implements Database<T> {
 
-    private final StatementContext statementContext;
+    private static final Logger logger = LoggerFactory.getLogger(AbstractDatabase.class);
+
+    private final ResolutionCache resolutionCache;
     private final String type;
 
     protected AbstractDatabase(StatementContext statementContext, String type) {
-        this.statementContext = statementContext;
+        this.resolutionCache = new ResolutionCache(statementContext);
         this.type = type;
     }
 
     @Override
     public ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+        return resolutionCache.resolve(template);
     }
 
     @Override
     public Map<ResourceAddress, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates) {
-        return templates.stream().collect(toMap(template -> template.resolve(statementContext), identity()));
+        return templates.stream().collect(toMap(resolutionCache::resolve, identity()));
     }
 
     @Override
     public Promise<Map<ResourceAddress, T>> getAll(Set<AddressTemplate> templates) {
         Set<String> ids = templates.stream()
-                .map(template -> template.resolve(statementContext).toString())
+                .map(template -> resolutionCache.resolve(template).toString())
                 .collect(toSet());
-        return database().getAll(ids)
-                .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
-                            this::asMetadata));
-                    return Promise.resolve(metadata);
-                });
+        return database().getAll(ids).then(this::asMetadata);
     }
 
     @Override
     public Promise<Map<ResourceAddress, T>> getRecursive(AddressTemplate template) {
-        String id = template.resolve(statementContext).toString();
-        return database().prefixSearch(id)
-                .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
-                            this::asMetadata));
-                    return Promise.resolve(metadata);
-                });
+        String id = resolutionCache.resolve(template).toString();
+        return database().prefixSearch(id).then(this::asMetadata);
+    }
+
+    /** Creates a document which stores the specified payload as binary attachment. */
+    @Override
+    public Document asDocument(ResourceAddress address, Uint8Array payload) {
+        BlobPropertyBag options = BlobPropertyBag.create();
+        options.setType(PAYLOAD_CONTENT_TYPE);
+        Blob blob = new Blob(new Blob.ConstructorBlobPartsArrayUnionType[] {
+                Blob.ConstructorBlobPartsArrayUnionType.of(payload) }, options);
+        Document document = Document.of(address.toString());
+        document.setAttachment(PAYLOAD, PAYLOAD_CONTENT_TYPE, blob);
+        return document;
+    }
+
+    /**
+     * Reads the binary attachments of the documents and turns them into metadata. Documents which cannot be read or decoded are
+     * treated as missing, so that the related metadata is fetched again.
+     */
+    private Promise<Map<ResourceAddress, T>> asMetadata(List<Document> documents) {
+        return new Promise<>((resolve, reject) -> {
+            Map<ResourceAddress, T> metadata = new HashMap<>();
+            int[] remaining = new int[] { documents.size() };
+            if (remaining[0] == 0) {
+                resolve.onInvoke(metadata);
+            }
+            for (Document document : documents) {
+                Blob blob = document.getAttachment(PAYLOAD);
+                if (blob == null) {
+                    // document w/o binary payload: treat as missing
+                    if (--remaining[0] == 0) {
+                        resolve.onInvoke(metadata);
+                    }
+                } else {
+                    blob.arrayBuffer().then(buffer -> {
+                        try {
+                            metadata.put(ResourceAddress.from(document.getId()), asMetadata(new Uint8Array(buffer)));
+                        } catch (RuntimeException e) {
+                            logger.error("Unable to decode {} {}: {}", type, document.getId(), e.getMessage());
+                        }
+                        if (--remaining[0] == 0) {
+                            resolve.onInvoke(metadata);
+                        }
+                        return null;
+                    }, error -> {
+                        logger.error("Unable to read {} {}: {}", type, document.getId(), error);
+                        if (--remaining[0] == 0) {
+                            resolve.onInvoke(metadata);
+                        }
+                        return null;
+                    });
+                }
+            }
+        });
     }
 
     @Override
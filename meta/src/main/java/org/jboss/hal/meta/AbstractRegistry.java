@@ -20,11 +20,11 @@ import org.jboss.hal.dmr.ResourceAddress;
 /** Abstract registry which uses the specified statement context to resolve the address template. */
 public abstract class AbstractRegistry<T> implements Registry<T> {
 
-    private final StatementContext statementContext;
+    private final ResolutionCache resolutionCache;
     protected final String type;
 
     protected AbstractRegistry(StatementContext statementContext, String type) {
-        this.statementContext = statementContext;
+        this.resolutionCache = new ResolutionCache(statementContext);
         this.type = type;
     }
 
@@ -44,8 +44,9 @@ public abstract class AbstractRegistry<T> implements Registry<T> {
         return metadata;
     }
 
+    /** Resolves the template using a {@link ResolutionCache}. The returned address must not be modified. */
     protected ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+        return resolutionCache.resolve(template);
     }
 
     protected abstract T lookupAddress(ResourceAddress address);
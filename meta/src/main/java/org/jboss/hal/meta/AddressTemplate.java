@@ -405,22 +405,20 @@ public final class AddressTemplate implements Iterable<String> {
         for (Token token : tokens) {
             if (!token.hasKey()) {
                 // a single token, something like "{foo}" of "bar"
-                String value = token.getValue();
                 String[] resolvedValue;
 
-                if (value.startsWith("{")) {
-                    String variable = value.substring(1, value.length() - 1);
-                    value = variable;
+                if (token.valueVariable != null) {
+                    String variable = token.valueVariable;
                     if (!tupleMemory.contains(variable)) {
                         String[] resolvedTuple = context.resolveTuple(variable, this);
                         if (resolvedTuple != null) {
                             tupleMemory.memorize(variable, singletonList(resolvedTuple));
                         }
                     }
-                    resolvedValue = tupleMemory.next(value);
+                    resolvedValue = tupleMemory.next(variable);
                 } else {
-                    assert value.contains(EQUALS) : "Invalid token expression " + value;
-                    resolvedValue = value.split(EQUALS);
+                    assert token.getValue().contains(EQUALS) : "Invalid token expression " + token.getValue();
+                    resolvedValue = token.getValue().split(EQUALS);
                 }
 
                 if (resolvedValue != null) {
@@ -429,11 +427,8 @@ public final class AddressTemplate implements Iterable<String> {
 
             } else {
                 // a key/value token, something like "foo=bar", "foo=*", "{foo}=bar" or "foo={bar}"
-                String keyRef = token.getKey();
-                String valueRef = token.getValue();
-
-                String resolvedKey = resolveSome(context, valueMemory, keyRef);
-                String resolvedValue = resolveSome(context, valueMemory, valueRef);
+                String resolvedKey = resolveSome(context, valueMemory, token.getKey(), token.keyVariable);
+                String resolvedValue = resolveSome(context, valueMemory, token.getValue(), token.valueVariable);
 
                 if (resolvedKey == null) {
                     resolvedKey = BLANK;
@@ -455,16 +450,16 @@ public final class AddressTemplate implements Iterable<String> {
         return new ResourceAddress(model);
     }
 
-    private String resolveSome(StatementContext context, Memory<String> memory, String input) {
+    private String resolveSome(StatementContext context, Memory<String> memory, String input, String variable) {
         String resolved;
-        if (input.startsWith("{")) {
-            input = input.substring(1, input.length() - 1);
-            if (!memory.contains(input)) {
-                if (context.resolve(input, this) != null) {
-                    memory.memorize(input, Lists.newArrayList(context.resolve(input, this)));
+        if (variable != null) {
+            if (!memory.contains(variable)) {
+                String value = context.resolve(variable, this);
+                if (value != null) {
+                    memory.memorize(variable, Lists.newArrayList(value));
                 }
             }
-            resolved = memory.next(input);
+            resolved = memory.next(variable);
         } else {
             resolved = input;
         }
@@ -574,19 +569,32 @@ public final class AddressTemplate implements Iterable<String> {
         }
     }
 
+    /** Segment of an address template. Variables are detected once when the template is parsed. */
     private static class Token {
 
         final String key;
         final String value;
+        /** The variable name w/o curly braces if the key is a variable, null otherwise */
+        final String keyVariable;
+        /** The variable name w/o curly braces if the value is a variable, null otherwise */
+        final String valueVariable;
 
         Token(String key, String value) {
             this.key = key;
             this.value = value;
+            this.keyVariable = variable(key);
+            this.valueVariable = variable(value);
         }
 
         Token(String value) {
-            this.key = null;
-            this.value = value;
+            this(null, value);
+        }
+
+        private static String variable(String input) {
+            if (input != null && input.startsWith("{")) {
+                return input.substring(1, input.length() - 1);
+            }
+            return null;
         }
 
         boolean hasKey() {
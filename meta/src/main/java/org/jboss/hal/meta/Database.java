@@ -21,11 +21,14 @@ import java.util.Set;
 import org.jboss.hal.db.Document;
 import org.jboss.hal.dmr.ResourceAddress;
 
+import elemental2.core.Uint8Array;
 import elemental2.promise.Promise;
 
 public interface Database<T> {
 
+    /** Name of the attachment which holds the metadata in binary DMR format. */
     String PAYLOAD = "payload";
+    String PAYLOAD_CONTENT_TYPE = "application/dmr-encoded";
 
     /** Turns a template into a resource addresses for later lookup. */
     ResourceAddress resolveTemplate(AddressTemplate template);
@@ -39,15 +42,24 @@ public interface Database<T> {
     /** Returns a map with metadata whose address starts with the specified template */
     Promise<Map<ResourceAddress, T>> getRecursive(AddressTemplate template);
 
-    /** Returns metadata for a given document */
-    T asMetadata(Document document);
+    /** Returns metadata for the given payload in binary DMR format */
+    T asMetadata(Uint8Array payload);
 
-    /** Returns a document for a given metadata */
-    Document asDocument(ResourceAddress address, T metadata);
+    /**
+     * Returns a document for the given metadata in binary DMR format. The payload is stored as binary attachment
+     * {@value #PAYLOAD}.
+     */
+    Document asDocument(ResourceAddress address, Uint8Array payload);
 
     /** The type of this database. */
     String type();
 
     /** The databas name */
     String name();
+
+    /**
+     * The name of the database which stored the metadata as base64 encoded string. Its documents are migrated to the database
+     * returned by {@link #name()}.
+     */
+    String legacyName();
 }
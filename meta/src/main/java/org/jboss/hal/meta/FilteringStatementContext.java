@@ -68,6 +68,11 @@ public class FilteringStatementContext implements StatementContext {
         return delegate.selectedServer();
     }
 
+    @Override
+    public int generation() {
+        return delegate.generation();
+    }
+
     /**
      * Allows to modify resource names and placeholders. Methods should return {@code null} if no modification is necessary.
      */
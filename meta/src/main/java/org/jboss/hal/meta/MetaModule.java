@@ -33,6 +33,7 @@ public class MetaModule extends AbstractGinModule {
     @Override
     protected void configure() {
         bind(Capabilities.class).in(Singleton.class);
+        bind(MetadataCache.class).in(Singleton.class);
         bind(MetadataProcessor.class).in(Singleton.class);
         bind(MetadataRegistry.class).in(Singleton.class);
         bind(ResourceDescriptionDatabase.class).in(Singleton.class);
@@ -0,0 +1,212 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jboss.hal.config.Settings.Key.METADATA_CACHE_SIZE;
+
+/**
+ * LRU cache for metadata which is shared by the {@linkplain org.jboss.hal.meta.description.ResourceDescriptionRegistry resource
+ * description} and {@linkplain org.jboss.hal.meta.security.SecurityContextRegistry security context} registries.
+ * <p>
+ * Entries are weighed by the size of their binary DMR encoding. The size is passed in by the caller, which serializes the
+ * metadata once for both this cache and the database. If the total weight exceeds the budget, the least recently used entries
+ * are evicted regardless of their type. The budget can be configured using {@link Settings.Key#METADATA_CACHE_SIZE} (in MB).
+ * <p>
+ * The cache records the number of hits, misses and evictions per type. Use {@link #stats()} to get a snapshot.
+ */
+public class MetadataCache {
+
+    /** Default budget in MB */
+    public static final int DEFAULT_SIZE = 8;
+    private static final long MB = 1024 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(MetadataCache.class);
+
+    private final LongSupplier budget;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Map<String, Counter> counters;
+    private long weight;
+
+    @Inject
+    public MetadataCache(Settings settings) {
+        this(() -> settings.get(METADATA_CACHE_SIZE).asInt(DEFAULT_SIZE) * MB);
+    }
+
+    MetadataCache(LongSupplier budget) {
+        this.budget = budget;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.counters = new TreeMap<>();
+        this.weight = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends ModelNode> T get(String type, ResourceAddress address) {
+        Entry entry = entries.get(new Key(type, address));
+        Counter counter = counter(type);
+        if (entry != null) {
+            counter.hits++;
+            return (T) entry.metadata;
+        }
+        counter.misses++;
+        return null;
+    }
+
+    /** Adds the metadata. The size is the length of its binary DMR encoding. */
+    public <T extends ModelNode> void put(String type, ResourceAddress address, T metadata, int size) {
+        Entry entry = new Entry(metadata, size);
+        Entry previous = entries.put(new Key(type, address), entry);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entry.weight;
+        evict();
+    }
+
+    public Stats stats() {
+        Stats stats = new Stats(budget.getAsLong(), weight);
+        counters.forEach((type, counter) -> stats.types.put(type, new TypeStats(counter)));
+        for (Map.Entry<Key, Entry> entry : entries.entrySet()) {
+            TypeStats typeStats = stats.types.computeIfAbsent(entry.getKey().type, t -> new TypeStats(counter(t)));
+            typeStats.entries++;
+            typeStats.weight += entry.getValue().weight;
+        }
+        return stats;
+    }
+
+    private void evict() {
+        long max = budget.getAsLong();
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        // always keep the most recently added entry, even if it exceeds the budget on its own
+        while (weight > max && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.getValue().weight;
+            counter(eldest.getKey().type).evictions++;
+            logger.debug("Evict {} from {} cache ({} bytes)", eldest.getKey().address, eldest.getKey().type,
+                    eldest.getValue().weight);
+        }
+    }
+
+    private Counter counter(String type) {
+        return counters.computeIfAbsent(type, t -> new Counter());
+    }
+
+    /** Snapshot of the cache statistics */
+    public static class Stats {
+
+        public final long budget;
+        public final long weight;
+        public final Map<String, TypeStats> types;
+
+        Stats(long budget, long weight) {
+            this.budget = budget;
+            this.weight = weight;
+            this.types = new TreeMap<>();
+        }
+
+        @Override
+        public String toString() {
+            return "MetadataCache(" + weight + "/" + budget + " bytes, " + types + ")";
+        }
+    }
+
+    /** Statistics for one type of metadata */
+    public static class TypeStats {
+
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public int entries;
+        public long weight;
+
+        TypeStats(Counter counter) {
+            this.hits = counter.hits;
+            this.misses = counter.misses;
+            this.evictions = counter.evictions;
+        }
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "(entries=" + entries + ", weight=" + weight + ", hits=" + hits + ", misses=" + misses
+                    + ", evictions=" + evictions + ")";
+        }
+    }
+
+    private static class Counter {
+
+        long hits;
+        long misses;
+        long evictions;
+    }
+
+    private static class Entry {
+
+        final ModelNode metadata;
+        final int weight;
+
+        Entry(ModelNode metadata, int weight) {
+            this.metadata = metadata;
+            this.weight = weight;
+        }
+    }
+
+    private static class Key {
+
+        final String type;
+        final ResourceAddress address;
+
+        Key(String type, ResourceAddress address) {
+            this.type = type;
+            this.address = address;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type.equals(key.type) && address.equals(key.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, address);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * Memoizes the resolution of address templates against a statement context. Used by registries and databases which resolve the
+ * same templates over and over again.
+ * <p>
+ * The resolved addresses are {@linkplain ResourceAddress#protect() protected} and shared between callers, so they must only be
+ * used for lookups. The cache is cleared when the {@linkplain StatementContext#generation() generation} of the statement
+ * context changes, i.e. when the selected profile, server group, host or server changes.
+ */
+public class ResolutionCache {
+
+    static final int MAX_SIZE = 500;
+
+    private final StatementContext statementContext;
+    private final Map<AddressTemplate, ResourceAddress> cache;
+    private int generation;
+    private long hits;
+    private long misses;
+
+    public ResolutionCache(StatementContext statementContext) {
+        this.statementContext = statementContext;
+        this.cache = new LinkedHashMap<AddressTemplate, ResourceAddress>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AddressTemplate, ResourceAddress> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+        this.generation = statementContext.generation();
+    }
+
+    public ResourceAddress resolve(AddressTemplate template) {
+        int current = statementContext.generation();
+        if (current != generation) {
+            cache.clear();
+            generation = current;
+        }
+        ResourceAddress address = cache.get(template);
+        if (address == null) {
+            misses++;
+            address = template.resolve(statementContext);
+            address.protect();
+            cache.put(template, address);
+        } else {
+            hits++;
+        }
+        return address;
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionCache(size=" + cache.size() + ", hits=" + hits + ", misses=" + misses + ")";
+    }
+}
@@ -132,4 +132,14 @@ public interface StatementContext {
 
     /** @return the selected server */
     String selectedServer();
+
+    /**
+     * Returns a number which changes whenever a value of this statement context changes. Used by {@link ResolutionCache} to
+     * drop resolved addresses which might be stale.
+     *
+     * @return the current generation of the values of this statement context
+     */
+    default int generation() {
+        return 0;
+    }
 }
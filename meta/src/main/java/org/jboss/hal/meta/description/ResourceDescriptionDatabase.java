@@ -19,17 +19,19 @@ import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
-import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractDatabase;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
 
+import elemental2.core.Uint8Array;
+
 public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescription> {
 
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
+    private static final String PREFIX = "hal-db-rdb";
+    private static final String LEGACY_PREFIX = "hal-db-rd";
 
     private final Environment environment;
     private final Settings settings;
@@ -44,22 +46,24 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
 
     @Override
     public String name() {
-        return Ids.build("hal-db-rd",
-                environment.getHalBuild().name(),
-                settings.get(Settings.Key.LOCALE).value(),
-                environment.getManagementVersion().toString());
+        return name(PREFIX);
     }
 
     @Override
-    public ResourceDescription asMetadata(Document document) {
-        return new ResourceDescription(ModelNode.fromBase64(document.getAsAny(PAYLOAD).asString()));
+    public String legacyName() {
+        return name(LEGACY_PREFIX);
+    }
+
+    private String name(String prefix) {
+        return Ids.build(prefix,
+                environment.getHalBuild().name(),
+                settings.get(Settings.Key.LOCALE).value(),
+                environment.getManagementVersion().toString());
     }
 
     @Override
-    public Document asDocument(ResourceAddress address, ResourceDescription resourceDescription) {
-        Document document = Document.of(address.toString());
-        document.set(PAYLOAD, resourceDescription.toBase64String());
-        return document;
+    public ResourceDescription asMetadata(Uint8Array payload) {
+        return new ResourceDescription(ModelNode.fromBytes(payload));
     }
 
     @Override
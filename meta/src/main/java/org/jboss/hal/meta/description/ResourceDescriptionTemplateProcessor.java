@@ -15,16 +15,14 @@
  */
 package org.jboss.hal.meta.description;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.jboss.hal.meta.AddressTemplate;
 
-import com.google.common.base.Splitter;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
-
 /**
  * Function which takes an address template and replaces specific values with "*". Applied to templates when they're passed to
  * {@link ResourceDescriptionRegistry#lookup(AddressTemplate)}.
@@ -45,38 +43,55 @@ import static java.util.stream.StreamSupport.stream;
  * /server-group=main-server-group &rarr; /server-group=&#42;
  * /subsystem=mail/mail-session=foo/server=bar &rarr; /subsystem=mail/mail-session=foo/server=bar
  * </pre>
+ * <p>
+ * The result only depends on the template, so the modified templates are memoized.
  */
 class ResourceDescriptionTemplateProcessor implements Function<AddressTemplate, AddressTemplate> {
 
+    private static final int MAX_SIZE = 500;
+
+    private final Map<AddressTemplate, AddressTemplate> cache;
+
+    ResourceDescriptionTemplateProcessor() {
+        this.cache = new LinkedHashMap<AddressTemplate, AddressTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AddressTemplate, AddressTemplate> eldest) {
+                return size() > MAX_SIZE;
+            }
+        };
+    }
+
     @Override
     public AddressTemplate apply(AddressTemplate template) {
-        AddressTemplate modified = AddressTemplate.ROOT;
-
-        if (template != null && !AddressTemplate.ROOT.equals(template)) {
-            List<String[]> segments = stream(template.spliterator(), false)
-                    .map(segment -> {
-                        if (segment.contains("=")) {
-                            return Splitter.on('=')
-                                    .omitEmptyStrings()
-                                    .trimResults()
-                                    .limit(2)
-                                    .splitToList(segment)
-                                    .toArray(new String[2]);
-                        }
-                        return new String[] { segment, null };
-                    })
-                    .collect(toList());
+        if (template == null || AddressTemplate.ROOT.equals(template)) {
+            return AddressTemplate.ROOT;
+        }
+        AddressTemplate modified = cache.get(template);
+        if (modified == null) {
+            modified = modify(template);
+            cache.put(template, modified);
+        }
+        return modified;
+    }
 
-            StringBuilder builder = new StringBuilder();
-            SegmentProcessor.process(segments, segment -> {
-                builder.append("/").append(segment[0]);
-                if (segment[1] != null) {
-                    builder.append("=").append(segment[1]);
-                }
-            });
-            modified = AddressTemplate.of(builder.toString());
+    private AddressTemplate modify(AddressTemplate template) {
+        List<String[]> segments = new ArrayList<>(template.size());
+        for (String segment : template) {
+            int index = segment.indexOf('=');
+            if (index != -1) {
+                segments.add(new String[] { segment.substring(0, index).trim(), segment.substring(index + 1).trim() });
+            } else {
+                segments.add(new String[] { segment, null });
+            }
         }
 
-        return modified;
+        StringBuilder builder = new StringBuilder();
+        SegmentProcessor.process(segments, segment -> {
+            builder.append("/").append(segment[0]);
+            if (segment[1] != null) {
+                builder.append("=").append(segment[1]);
+            }
+        });
+        return AddressTemplate.of(builder.toString());
     }
 }
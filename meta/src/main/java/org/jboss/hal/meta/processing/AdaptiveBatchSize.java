@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+/**
+ * Adapts the number of {@code read-resource-description} operations per composite to the measured response time and size. The
+ * batch size grows by one as long as composites are processed fast and return a moderate number of descriptions. It's halved if
+ * a composite takes too long or returns too many descriptions.
+ * <p>
+ * If a fixed batch size has been specified, the measured values are ignored.
+ */
+class AdaptiveBatchSize {
+
+    static final int INITIAL = 3;
+    static final int MIN = 1;
+    static final int MAX = 12;
+    /** Composites which are faster than this (in ms) will increase the batch size. */
+    static final long FAST = 500;
+    /** Composites which are slower than this (in ms) will decrease the batch size. */
+    static final long SLOW = 2_000;
+    /** Composites which return more descriptions than this will decrease the batch size. */
+    static final int LARGE = 250;
+
+    private int size;
+    private int fixed;
+
+    AdaptiveBatchSize() {
+        this.size = INITIAL;
+        this.fixed = 0;
+    }
+
+    /** Uses the specified batch size regardless of the measured values. Use a value &lt;= 0 to adapt the batch size. */
+    void fixed(int fixed) {
+        this.fixed = fixed;
+    }
+
+    int next() {
+        return fixed > 0 ? fixed : size;
+    }
+
+    /**
+     * Records the measured values of one composite.
+     *
+     * @param operations the number of operations of the composite
+     * @param descriptions the number of resource descriptions returned by the composite
+     * @param millis the time it took to execute the composite
+     */
+    void record(int operations, int descriptions, long millis) {
+        if (fixed > 0) {
+            return;
+        }
+        if (millis > SLOW || descriptions > LARGE) {
+            size = Math.max(MIN, size / 2);
+        } else if (millis < FAST && operations >= size) {
+            // only grow if the composite made use of the full batch size
+            size = Math.min(MAX, size + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return fixed > 0 ? "fixed(" + fixed + ")" : "adaptive(" + size + ")";
+    }
+}
@@ -16,9 +16,11 @@
 package org.jboss.hal.meta.processing;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
@@ -26,6 +28,10 @@ import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.security.SecurityContext;
 
+import elemental2.core.Uint8Array;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
+
 class LookupContext extends FlowContext {
 
     final boolean recursive;
@@ -34,6 +40,7 @@ class LookupContext extends FlowContext {
     final Map<ResourceAddress, ResourceDescription> toResourceDescriptionDatabase;
     final Map<ResourceAddress, SecurityContext> toSecurityContextRegistry;
     final Map<ResourceAddress, SecurityContext> toSecurityContextDatabase;
+    private final Map<ModelNode, Uint8Array> payloads;
 
     // for unit testing only!
     LookupContext(LookupResult lookupResult) {
@@ -44,6 +51,7 @@ class LookupContext extends FlowContext {
         this.toResourceDescriptionDatabase = new HashMap<>();
         this.toSecurityContextRegistry = new HashMap<>();
         this.toSecurityContextDatabase = new HashMap<>();
+        this.payloads = new IdentityHashMap<>();
     }
 
     LookupContext(Progress progress, Set<AddressTemplate> template, boolean recursive) {
@@ -54,6 +62,7 @@ class LookupContext extends FlowContext {
         this.toResourceDescriptionDatabase = new HashMap<>();
         this.toSecurityContextRegistry = new HashMap<>();
         this.toSecurityContextDatabase = new HashMap<>();
+        this.payloads = new IdentityHashMap<>();
     }
 
     boolean updateDatabase() {
@@ -63,4 +72,15 @@ class LookupContext extends FlowContext {
     boolean updateRegistry() {
         return !toResourceDescriptionRegistry.isEmpty() || !toSecurityContextRegistry.isEmpty();
     }
+
+    /**
+     * Returns the metadata in binary DMR format. The metadata is marked as (non-)recursive and serialized only once. The
+     * payload is used to weigh the registry entry and is stored in the database.
+     */
+    Uint8Array payload(ModelNode metadata) {
+        return payloads.computeIfAbsent(metadata, m -> {
+            m.get(HAL_RECURSIVE).set(recursive);
+            return m.toBytes();
+        });
+    }
 }
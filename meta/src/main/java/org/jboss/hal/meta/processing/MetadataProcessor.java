@@ -49,6 +49,9 @@ import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toSet;
 
+import static org.jboss.hal.config.Settings.Key.METADATA_BATCH_SIZE;
+import static org.jboss.hal.config.Settings.Key.METADATA_PARALLELISM;
+
 /**
  * Reads resource {@linkplain Metadata metadata} using read-resource-description operations and stores it into the
  * {@link MetadataRegistry}. If you're sure the metadata is present, use the {@link MetadataRegistry} instead.
@@ -58,8 +61,8 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
-    private static final int BATCH_SIZE = 3;
+    /** Number of composite operations executed in parallel unless overridden by {@link Settings.Key#METADATA_PARALLELISM}. */
+    static final int PARALLELISM = 3;
 
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
@@ -74,6 +77,7 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final AdaptiveBatchSize batchSize;
 
     @Inject
     public MetadataProcessor(Environment environment,
@@ -98,6 +102,7 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.batchSize = new AdaptiveBatchSize();
     }
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
@@ -146,9 +151,13 @@ public class MetadataProcessor {
             List<Task<LookupContext>> tasks = new ArrayList<>();
             tasks.add(lookupRegistries);
             if (!ie) {
+                workerChannel.migrate();
                 tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            batchSize.fixed(settings.get(METADATA_BATCH_SIZE).asInt(0));
+            int parallelism = settings.get(METADATA_PARALLELISM).asInt(PARALLELISM);
+            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, batchSize, parallelism,
+                    RRD_DEPTH));
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
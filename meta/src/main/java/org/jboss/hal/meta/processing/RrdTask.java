@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,25 +33,33 @@ import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
+import com.google.common.base.Stopwatch;
 
 import elemental2.promise.Promise;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
-/** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
+/**
+ * Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata.
+ * <p>
+ * The operations are executed as composites using a bounded number of parallel lanes. Each lane takes the next batch of
+ * operations as soon as its previous composite has been processed. The number of operations per composite is taken from
+ * {@link AdaptiveBatchSize} which is adjusted after each composite based on the measured time and number of descriptions.
+ */
 final class RrdTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
     private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final AdaptiveBatchSize batchSize;
+    private final int parallelism;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            AdaptiveBatchSize batchSize, int parallelism, int depth) {
         this.dispatcher = dispatcher;
         this.batchSize = batchSize;
+        this.parallelism = Math.max(1, parallelism);
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -57,44 +67,26 @@ final class RrdTask implements Task<LookupContext> {
     @Override
     public Promise<LookupContext> apply(final LookupContext context) {
         boolean recursive = context.recursive;
-        List<Task<LookupContext>> tasks = new ArrayList<>();
-
-        // create and partition non-optional operations
-        List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
-        List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
-        for (Composite composite : composites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
-                parseRrdAction(context, composite, result);
-                return Promise.resolve(c);
-            }));
-        }
+
+        // non-optional operations are partitioned on demand by the lanes
+        Deque<Operation> operations = new ArrayDeque<>(rrdOps.create(context, recursive, false));
 
         // create optional operations w/o partitioning!
         List<Operation> optionalOperations = rrdOps.create(context, recursive, true);
         // Do not refactor to
         // List<Composite> optionalComposites = optionalOperations.stream().map(Composite::new).collect(toList());
         // the GWT compiler will crash with an ArrayIndexOutOfBoundsException!
-        List<Composite> optionalComposites = new ArrayList<>();
+        Deque<Composite> optionalComposites = new ArrayDeque<>();
         optionalOperations.forEach(operation -> optionalComposites.add(new Composite(operation)));
-        for (Composite composite : optionalComposites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite)
-                    .then(result -> {
-                        parseRrdAction(context, composite, result);
-                        return Promise.resolve(c);
-                    })
-                    .catch_(error -> {
-                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
-                        return Promise.resolve(c);
-                    }));
-        }
 
-        if (!tasks.isEmpty()) {
+        if (!operations.isEmpty() || !optionalComposites.isEmpty()) {
+            int lanes = Math.min(parallelism,
+                    (operations.size() + batchSize.next() - 1) / batchSize.next() + optionalComposites.size());
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
-                String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
-                logger.debug("Composite operations: {}", compositeOps);
+                logger.debug("About to execute {}+{} operations (regular+optional) using {} lane(s) and batch size {}",
+                        operations.size(), optionalComposites.size(), lanes, batchSize);
+                String regularOps = operations.stream().map(Operation::asCli).collect(Collectors.joining(", "));
+                logger.debug("Regular operations: {}", regularOps);
                 if (!optionalComposites.isEmpty()) {
                     String optionalOps = optionalComposites.stream()
                             .map(Composite::asCli)
@@ -102,18 +94,67 @@ final class RrdTask implements Task<LookupContext> {
                     logger.debug("Optional operations: {}", optionalOps);
                 }
             }
-            return Flow.sequential(context, tasks).promise();
+            List<Task<LookupContext>> tasks = new ArrayList<>();
+            for (int i = 0; i < lanes; i++) {
+                tasks.add(c -> lane(c, operations, optionalComposites));
+            }
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            return Flow.parallel(context, tasks).promise().then(c -> {
+                stopwatch.stop();
+                logger.debug("Executed all r-r-d operations in {} ms. Batch size is now {}",
+                        stopwatch.elapsed(MILLISECONDS), batchSize);
+                return Promise.resolve(c);
+            });
         } else {
             logger.debug("No DMR operations necessary");
             return Promise.resolve(context);
         }
     }
 
-    private void parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
+    /** Executes composites until both queues are empty. */
+    private Promise<LookupContext> lane(LookupContext context, Deque<Operation> operations,
+            Deque<Composite> optionalComposites) {
+        if (!operations.isEmpty()) {
+            List<Operation> batch = new ArrayList<>();
+            int size = batchSize.next();
+            while (batch.size() < size && !operations.isEmpty()) {
+                batch.add(operations.poll());
+            }
+            Composite composite = new Composite(batch);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            return dispatcher.execute(composite).then(result -> {
+                int descriptions = parseRrdAction(context, composite, result);
+                stopwatch.stop();
+                long elapsed = stopwatch.elapsed(MILLISECONDS);
+                batchSize.record(batch.size(), descriptions, elapsed);
+                logger.debug("Executed composite with {} operation(s) and {} description(s) in {} ms. Next batch size: {}",
+                        batch.size(), descriptions, elapsed, batchSize.next());
+                return lane(context, operations, optionalComposites);
+            });
+
+        } else if (!optionalComposites.isEmpty()) {
+            Composite composite = optionalComposites.poll();
+            return dispatcher.execute(composite).then(
+                    result -> {
+                        parseRrdAction(context, composite, result);
+                        return lane(context, operations, optionalComposites);
+                    },
+                    error -> {
+                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                        return lane(context, operations, optionalComposites);
+                    });
+
+        } else {
+            return Promise.resolve(context);
+        }
+    }
+
+    private int parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
         RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
         context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
         context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
         context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
         context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+        return rrdResult.resourceDescriptions.size();
     }
 }
@@ -48,17 +48,17 @@ final class UpdateDatabaseTask implements Task<LookupContext> {
                     .entrySet()) {
                 ResourceAddress address = entry.getKey();
                 ResourceDescription resourceDescription = entry.getValue();
-                workerChannel.postResourceDescription(address, resourceDescription,
-                        context.recursive);
+                workerChannel.postResourceDescription(address, context.payload(resourceDescription));
             }
             for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextDatabase
                     .entrySet()) {
                 ResourceAddress address = entry.getKey();
                 SecurityContext securityContext = entry.getValue();
-                workerChannel.postSecurityContext(address, securityContext, context.recursive);
+                workerChannel.postSecurityContext(address, context.payload(securityContext));
             }
+            workerChannel.flush();
             logger.debug(
-                    "Posted {} resource descriptions and {} security contexts to the databases in {} ms",
+                    "Queued {} resource descriptions and {} security contexts to the databases in {} ms",
                     context.toResourceDescriptionDatabase.size(), context.toSecurityContextDatabase.size(),
                     watch.stop().elapsed(MILLISECONDS));
         }
@@ -47,12 +47,14 @@ final class UpdateRegistryTask implements Task<LookupContext> {
             for (Map.Entry<ResourceAddress, ResourceDescription> entry : context.toResourceDescriptionRegistry.entrySet()) {
                 ResourceAddress address = entry.getKey();
                 ResourceDescription resourceDescription = entry.getValue();
-                resourceDescriptionRegistry.add(address, resourceDescription, context.recursive);
+                resourceDescriptionRegistry.add(address, resourceDescription, context.recursive,
+                        context.payload(resourceDescription).length);
             }
             for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextRegistry.entrySet()) {
                 ResourceAddress address = entry.getKey();
                 SecurityContext securityContext = entry.getValue();
-                securityContextRegistry.add(address, securityContext, context.recursive);
+                securityContextRegistry.add(address, securityContext, context.recursive,
+                        context.payload(securityContext).length);
             }
             logger.debug("Added {} resource descriptions and {} security contexts to the registries",
                     context.toResourceDescriptionRegistry.size(), context.toSecurityContextRegistry.size());
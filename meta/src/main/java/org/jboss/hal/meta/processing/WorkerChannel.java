@@ -15,24 +15,42 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.db.Document;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.js.Browser;
-import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.Database;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
-import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import elemental2.core.JsArray;
+import elemental2.core.Uint8Array;
+import elemental2.dom.MessageEvent;
 import elemental2.dom.Worker;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 
+import static elemental2.dom.DomGlobal.window;
 import static jsinterop.annotations.JsPackage.GLOBAL;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 import static org.jboss.hal.resources.UIConstants.OBJECT;
 
+/**
+ * Posts resource descriptions and security contexts to the metadata worker which stores them in the databases.
+ * <p>
+ * Documents are collected per database and posted in batches which the worker writes using one {@code bulkDocs()} call. If the
+ * worker falls behind, no more than {@link #MAX_IN_FLIGHT} batches are posted. Further documents are kept (and deduplicated by
+ * ID) until the worker acknowledges a batch. Pending documents are posted when the page is unloaded.
+ */
 public class WorkerChannel {
 
     // provided by app/src/web/script/index.js
@@ -42,9 +60,19 @@ public class WorkerChannel {
         @JsProperty static Worker metadataChannel;
     }
 
+    /** Maximum number of documents per batch. */
+    static final int BATCH_SIZE = 100;
+    /** Maximum number of batches which have been posted, but not yet acknowledged by the worker. */
+    static final int MAX_IN_FLIGHT = 2;
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkerChannel.class);
+
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final SecurityContextDatabase securityContextDatabase;
     private final Worker worker;
+    private final Map<String, Map<String, Document>> pending;
+    private final Set<String> migrated;
+    private int inFlight;
 
     @Inject
     public WorkerChannel(ResourceDescriptionDatabase resourceDescriptionDatabase,
@@ -52,32 +80,123 @@ public class WorkerChannel {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.securityContextDatabase = securityContextDatabase;
         this.worker = Browser.isIE() ? null : WorkerProvider.metadataChannel;
+        this.pending = new HashMap<>();
+        this.migrated = new HashSet<>();
+        this.inFlight = 0;
+        if (worker != null) {
+            worker.addEventListener("message", event -> {
+                AckMessage ack = (AckMessage) ((MessageEvent<?>) event).data;
+                inFlight = Math.max(0, inFlight - 1);
+                if (ack.failed > 0) {
+                    logger.warn("Unable to write {} documents to {}", ack.failed, ack.database);
+                }
+                flush(false);
+            });
+            window.addEventListener("pagehide", event -> flush(true));
+        }
     }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
+    /** Posts a resource description given in binary DMR format. */
+    void postResourceDescription(ResourceAddress address, Uint8Array payload) {
         if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
+            queue(resourceDescriptionDatabase.name(), resourceDescriptionDatabase.asDocument(address, payload));
         }
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
+    /** Posts a security context given in binary DMR format. */
+    void postSecurityContext(ResourceAddress address, Uint8Array payload) {
         if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
+            queue(securityContextDatabase.name(), securityContextDatabase.asDocument(address, payload));
+        }
+    }
+
+    /** Migrates the legacy databases once per session. */
+    void migrate() {
+        if (worker != null) {
+            migrate(resourceDescriptionDatabase);
+            migrate(securityContextDatabase);
+        }
+    }
+
+    private void migrate(Database<?> database) {
+        if (migrated.add(database.name())) {
+            MigrateMessage message = new MigrateMessage();
+            message.database = database.name();
+            message.legacy = database.legacyName();
+            message.attachment = Database.PAYLOAD;
+            message.contentType = Database.PAYLOAD_CONTENT_TYPE;
             worker.postMessage(message);
         }
     }
 
+    /** Posts the pending documents unless the worker is still busy with previous batches. */
+    void flush() {
+        if (worker != null) {
+            flush(false);
+        }
+    }
+
+    private void queue(String database, Document document) {
+        Map<String, Document> documents = pending.computeIfAbsent(database, __ -> new LinkedHashMap<>());
+        documents.put(document.getId(), document);
+        if (documents.size() >= BATCH_SIZE) {
+            flush(false);
+        }
+    }
+
+    private void flush(boolean force) {
+        for (Iterator<Map.Entry<String, Map<String, Document>>> databases = pending.entrySet().iterator(); databases
+                .hasNext();) {
+            Map.Entry<String, Map<String, Document>> entry = databases.next();
+            Iterator<Document> documents = entry.getValue().values().iterator();
+            while (documents.hasNext()) {
+                if (!force && inFlight >= MAX_IN_FLIGHT) {
+                    logger.debug("Metadata worker is busy. Keep {} pending documents", pendingDocuments());
+                    return;
+                }
+                BulkMessage message = new BulkMessage();
+                message.database = entry.getKey();
+                message.documents = new JsArray<>();
+                while (documents.hasNext() && message.documents.length < BATCH_SIZE) {
+                    message.documents.push(documents.next());
+                    documents.remove();
+                }
+                inFlight++;
+                worker.postMessage(message);
+            }
+            databases.remove();
+        }
+    }
+
+    private int pendingDocuments() {
+        int count = 0;
+        for (Map<String, Document> documents : pending.values()) {
+            count += documents.size();
+        }
+        return count;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class BulkMessage {
+
+        String database;
+        JsArray<Document> documents;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class MigrateMessage {
+
+        String database;
+        String legacy;
+        String attachment;
+        String contentType;
+    }
+
     @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
-    private static class UpdateMessage {
+    private static class AckMessage {
 
         String database;
-        Document document;
+        int written;
+        int failed;
     }
 }
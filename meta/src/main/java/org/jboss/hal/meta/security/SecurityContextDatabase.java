@@ -24,14 +24,14 @@ import org.jboss.hal.config.Role;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.config.Settings.Key;
 import org.jboss.hal.config.User;
-import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractDatabase;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
 
+import elemental2.core.Uint8Array;
+
 import static java.util.stream.Collectors.joining;
 
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
@@ -39,10 +39,13 @@ import static org.jboss.hal.config.AccessControlProvider.RBAC;
 public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
 
     private static final String SECURITY_CONTEXT_TYPE = "security context";
+    private static final String PREFIX = "hal-db-scb";
+    private static final String LEGACY_PREFIX = "hal-db-sc";
 
     private final Environment environment;
     private final Settings settings;
     private String name;
+    private String legacyName;
     private PouchDB database;
 
     @Inject
@@ -55,38 +58,42 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
     @Override
     public String name() {
         if (name == null) {
-            String roles;
-            String provider = environment.getAccessControlProvider().name();
-            if (environment.getAccessControlProvider() == RBAC) {
-                Set<String> runAs = settings.get(Key.RUN_AS).asSet();
-                if (runAs.isEmpty()) {
-                    roles = User.current().getRoles().stream().map(Role::getId).collect(joining("-"));
-                } else {
-                    roles = String.join("-", runAs);
-                }
-            } else {
-                roles = "";
-            }
-            name = Ids.build("hal-db-sc",
-                    provider,
-                    roles,
-                    environment.getHalBuild().name(),
-                    environment.getManagementVersion().toString());
+            name = name(PREFIX);
         }
         return name;
     }
 
     @Override
-    public SecurityContext asMetadata(Document document) {
-        return new SecurityContext(ModelNode.fromBase64(document.getAsAny(PAYLOAD).asString()));
+    public String legacyName() {
+        if (legacyName == null) {
+            legacyName = name(LEGACY_PREFIX);
+        }
+        return legacyName;
     }
 
-    @Override
-    public Document asDocument(ResourceAddress address, SecurityContext securityContext) {
-        Document document = Document.of(address.toString());
-        document.set(PAYLOAD, securityContext.toBase64String());
-        return document;
+    private String name(String prefix) {
+        String roles;
+        String provider = environment.getAccessControlProvider().name();
+        if (environment.getAccessControlProvider() == RBAC) {
+            Set<String> runAs = settings.get(Key.RUN_AS).asSet();
+            if (runAs.isEmpty()) {
+                roles = User.current().getRoles().stream().map(Role::getId).collect(joining("-"));
+            } else {
+                roles = String.join("-", runAs);
+            }
+        } else {
+            roles = "";
+        }
+        return Ids.build(prefix,
+                provider,
+                roles,
+                environment.getHalBuild().name(),
+                environment.getManagementVersion().toString());
+    }
 
+    @Override
+    public SecurityContext asMetadata(Uint8Array payload) {
+        return new SecurityContext(ModelNode.fromBytes(payload));
     }
 
     @Override
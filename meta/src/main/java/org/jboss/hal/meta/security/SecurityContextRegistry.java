@@ -20,43 +20,36 @@ import javax.inject.Inject;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
+import org.jboss.hal.meta.MetadataCache;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
 
-    private static final int CACHE_SIZE = 500;
     private static final String SECURITY_CONTEXT_TYPE = "security context";
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
-    private final Cache<ResourceAddress, SecurityContext> cache;
+    private final MetadataCache cache;
 
     @Inject
-    public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
+    public SecurityContextRegistry(StatementContext statementContext, Environment environment,
+            MetadataCache cache) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
+        this.cache = cache;
     }
 
-    public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
+    /** Adds the metadata. The size is the length of its binary DMR encoding and used to weigh the cache entry. */
+    public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive, int size) {
         securityContext.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, securityContext);
+        cache.put(type, address, securityContext, size);
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
     @Override
     protected SecurityContext lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+        return cache.get(type, address);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class MetadataCacheTest {
+
+    private static final String RD = "resource description";
+    private static final String SC = "security context";
+
+    private MetadataCache cache;
+
+    @Before
+    public void setUp() {
+        // budget of 100 bytes
+        cache = new MetadataCache(() -> 100);
+    }
+
+    @Test
+    public void missAndHit() {
+        assertNull(cache.get(RD, address("a")));
+        cache.put(RD, address("a"), new ModelNode(), 10);
+        assertNotNull(cache.get(RD, address("a")));
+        assertNull(cache.get(SC, address("a")));
+
+        MetadataCache.Stats stats = cache.stats();
+        assertEquals(10, stats.weight);
+        assertEquals(1, stats.types.get(RD).hits);
+        assertEquals(1, stats.types.get(RD).misses);
+        assertEquals(1, stats.types.get(RD).entries);
+        assertEquals(1, stats.types.get(SC).misses);
+        assertEquals(0, stats.types.get(SC).entries);
+    }
+
+    @Test
+    public void replace() {
+        cache.put(RD, address("a"), new ModelNode(), 10);
+        cache.put(RD, address("a"), new ModelNode(), 30);
+        assertEquals(30, cache.stats().weight);
+    }
+
+    @Test
+    public void sharedBudget() {
+        cache.put(RD, address("a"), new ModelNode(), 40);
+        cache.put(SC, address("a"), new ModelNode(), 40);
+        cache.get(RD, address("a")); // a is now more recently used than the security context
+        cache.put(RD, address("b"), new ModelNode(), 40);
+
+        assertNotNull(cache.get(RD, address("a")));
+        assertNotNull(cache.get(RD, address("b")));
+        assertNull(cache.get(SC, address("a")));
+        MetadataCache.Stats stats = cache.stats();
+        assertEquals(80, stats.weight);
+        assertEquals(1, stats.types.get(SC).evictions);
+        assertEquals(0, stats.types.get(RD).evictions);
+    }
+
+    @Test
+    public void oversized() {
+        cache.put(RD, address("a"), new ModelNode(), 10);
+        cache.put(RD, address("big"), new ModelNode(), 500);
+        assertNull(cache.get(RD, address("a")));
+        assertNotNull(cache.get(RD, address("big")));
+    }
+
+    private ResourceAddress address(String name) {
+        return new ResourceAddress().add("subsystem", name);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ResolutionCacheTest {
+
+    private static final AddressTemplate TEMPLATE = AddressTemplate.of("{selected.profile}/subsystem=mail");
+
+    private int generation;
+    private ResolutionCache cache;
+
+    @Before
+    public void setUp() {
+        generation = 0;
+        cache = new ResolutionCache(new TestableStatementContext() {
+            @Override
+            public int generation() {
+                return generation;
+            }
+        });
+    }
+
+    @Test
+    public void resolve() {
+        ResourceAddress address = cache.resolve(TEMPLATE);
+        assertEquals("/profile=full/subsystem=mail", address.toString());
+    }
+
+    @Test
+    public void memoized() {
+        assertSame(cache.resolve(TEMPLATE), cache.resolve(TEMPLATE));
+    }
+
+    @Test
+    public void generationChanged() {
+        ResourceAddress first = cache.resolve(TEMPLATE);
+        generation++;
+        ResourceAddress second = cache.resolve(TEMPLATE);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+}
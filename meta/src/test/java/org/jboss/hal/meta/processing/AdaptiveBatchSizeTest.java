@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.FAST;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.INITIAL;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.LARGE;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.MAX;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.MIN;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.SLOW;
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizeTest {
+
+    private AdaptiveBatchSize batchSize;
+
+    @Before
+    public void setUp() {
+        batchSize = new AdaptiveBatchSize();
+    }
+
+    @Test
+    public void initial() {
+        assertEquals(INITIAL, batchSize.next());
+    }
+
+    @Test
+    public void growFast() {
+        batchSize.record(INITIAL, 10, FAST - 1);
+        assertEquals(INITIAL + 1, batchSize.next());
+    }
+
+    @Test
+    public void noGrowPartialBatch() {
+        batchSize.record(INITIAL - 1, 10, FAST - 1);
+        assertEquals(INITIAL, batchSize.next());
+    }
+
+    @Test
+    public void keepModerate() {
+        batchSize.record(INITIAL, 10, (FAST + SLOW) / 2);
+        assertEquals(INITIAL, batchSize.next());
+    }
+
+    @Test
+    public void shrinkSlow() {
+        batchSize.record(INITIAL, 10, SLOW + 1);
+        assertEquals(INITIAL / 2, batchSize.next());
+    }
+
+    @Test
+    public void shrinkLarge() {
+        batchSize.record(INITIAL, LARGE + 1, FAST - 1);
+        assertEquals(INITIAL / 2, batchSize.next());
+    }
+
+    @Test
+    public void bounds() {
+        for (int i = 0; i < 2 * MAX; i++) {
+            batchSize.record(batchSize.next(), 1, 0);
+        }
+        assertEquals(MAX, batchSize.next());
+        for (int i = 0; i < 2 * MAX; i++) {
+            batchSize.record(batchSize.next(), 1, SLOW + 1);
+        }
+        assertEquals(MIN, batchSize.next());
+    }
+
+    @Test
+    public void fixed() {
+        batchSize.fixed(5);
+        batchSize.record(5, 1, 0);
+        assertEquals(5, batchSize.next());
+        batchSize.fixed(0);
+        assertEquals(INITIAL, batchSize.next());
+    }
+}
@@ -164,6 +164,7 @@ public interface CSS {
     String finderColumn = "finder-column";
     String finderItem = "finder-item";
     String finderPreview = "finder-preview";
+    String fleetMetrics = "fleet-metrics";
     String flexRow = "flex-row";
     String folder = "folder";
     String footer = "footer";
@@ -197,6 +198,10 @@ public interface CSS {
     String hasError = "has-error";
     String headerForm = "header-form";
     String header = "header";
+    String heatCritical = "heat-critical";
+    String heatHigh = "heat-high";
+    String heatLow = "heat-low";
+    String heatMedium = "heat-medium";
     String helpBlock = "help-block";
     String hidden = "hidden";
     String hiddenXs = "hidden-xs";
@@ -405,6 +410,8 @@ public interface CSS {
     String smallLink = "small-link";
     String spinner = "spinner";
     String spinnerLg = "spinner-lg";
+    String spacer = "spacer";
+    String sparkline = "sparkline";
     String srOnly = "sr-only";
     String standalone = "standalone";
     String static_ = "static";
@@ -93,6 +93,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String collapse();
     String commit();
     String committed();
+    String compareContent();
     String completed();
     String completedExecutions();
     String composite();
@@ -187,9 +188,11 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String endpointSelectDescription();
     String endpointSelectTitle();
     String enterAddressMatch();
+    String entries();
     String entry();
     String environment();
     String error();
+    String evictionCount();
     String excludeRole();
     String excludes();
     String excludeUserGroup();
@@ -241,6 +244,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String hiddenColumns();
     String hideSensitive();
     String hitCount();
+    String hitRate();
     String homepageAccessControlSection();
     String homepageAccessControlSsoSubHeader();
     String homepageAccessControlStep1();
@@ -384,6 +388,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String message();
     String messageLarge();
     String messages();
+    String metadataCache();
     String milliseconds();
     String minimum();
     String minute();
@@ -323,6 +323,7 @@ public interface Ids {
     String EXTENSION_STORAGE = "hal-local-storage-extension";
     String EXTENSION_URL_FORM = "extension-url-form";
     String FINDER = "hal-finder";
+    String FLEET_METRICS = "fleet-metrics";
     String FOOTER_CONTAINER = "hal-footer-container";
     String FOOTER_EXTENSIONS = "footer-extensions";
     String FOOTER_EXTENSIONS_DROPDOWN = "footer-extensions-dropdown";
@@ -628,6 +629,7 @@ public interface Ids {
     String NO_MATCH = "no-match";
     String NONE_PROGRESSING_LINK = "none-progressing-link";
     String NATIVE_INTERFACE_ITEM = "native-interface-item";
+    String NAVIGATION_HISTORY_STORAGE = "hal-local-storage-navigation-history";
     String HEADER_CONTAINER = "hal-header-container";
     String NEAR_CACHE_NONE = "near-cache-none";
     String NEAR_CACHE_INVALIDATION = "near-cache-invalidation";
@@ -70,11 +70,13 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml closeConnectionsSuccess();
     SafeHtml closeToLogout();
     SafeHtml commitTransactionSuccess(String transactionId);
+    SafeHtml compareContentDescription(String name);
     SafeHtml configuredMailServer(String servers);
     SafeHtml contentAdded(@PluralCount int size);
     SafeHtml contentAlreadyDeployedToAllServerGroups(String name);
     SafeHtml contentDeployed1(String content);
     SafeHtml contentDeployed2(String serverGroup);
+    SafeHtml contentIdentical(String left, String right);
     SafeHtml contentOpFailed(@PluralCount int size);
     SafeHtml contentReplaced(@PluralCount int size);
     SafeHtml contentReplaceError(String name);
@@ -227,6 +229,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml loadPropertiesRealmSuccess(String name);
     SafeHtml loadProviderDynamicWarning();
     SafeHtml logFileError(String name);
+    SafeHtml logFileSearchNoMatch(String query);
     SafeHtml longRunningManagementOperations();
     SafeHtml macroPlaybackError();
     SafeHtml macroPlaybackSuccessful();
@@ -254,6 +257,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml noContent();
     SafeHtml noContentSelected();
     SafeHtml noContentSelectedInDeployment();
+    SafeHtml noContentToCompare();
     SafeHtml noContextForNormalMode();
     SafeHtml noDeployment();
     SafeHtml noDeploymentPermissions();
@@ -529,6 +533,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml uploadError(String name);
     SafeHtml uploadInProgress(String name);
     SafeHtml uploadSuccessful(String name);
+    SafeHtml uploadThroughput(String size, String duration, String rate);
     SafeHtml verifyRenewError(String alias, String resource, String error);
     SafeHtml verifyRenewSuccess(String alias, String resource);
     SafeHtml writeBehaviour(String current, String switchTo);
@@ -547,6 +552,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String configurationChangesDescription();
     String configurePatchTitle();
     String connectedTo(String url);
+    String contentDiffSummary(int added, int removed, int modified, int sameSize);
     String contentFilterDescription();
     String copyServerTitle();
     String createAccountQuestion(String name);
@@ -602,6 +608,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String kill(String name);
     String logfileColumnFilterDescription();
     String logFileFullStatus(int lines, String lastUpdate);
+    String logFilePageStatus(int lines, int offset, String lastUpdate);
     String logFilePartStatus(int lines, String lastUpdate);
     String logFilePreview(int lines);
     String mailColumnFilterDescription();
@@ -609,6 +616,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String microprofileHealthNoChecks();
     String microprofileHealthPreviewDescription();
     String modifyResourceTitle(String type);
+    String moreContentEntries(int count);
     String moreThanOneCacheStoreDetails();
     String noBootErrors();
     String nonEmptyRequires(String fields);
@@ -623,6 +631,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String pathRequired();
     String profileIncludes(String includes);
     String proxyColumnFilterDescription();
+    String readContentError(String path, String error);
     String readDatasourcePropertiesErrorDomain(String profile);
     String recordedOperations(@PluralCount int count);
     String referenceServer(String server);
@@ -237,6 +237,7 @@ public interface Names {
     String MESSAGE_DRIVEN_BEAN = "Message Driven Bean";
     String MESSAGING = "Messaging";
     String MESSAGING_REMOTE_ACTIVEMQ = "Remote ActiveMQ";
+    String METRICS = "Metrics";
     String MICROPROFILE_CONFIG = "MicroProfile Config";
     String MICROPROFILE_HEALTH = "MicroProfile Health";
     String MICROPROFILE_METRICS = "MicroProfile Metrics";
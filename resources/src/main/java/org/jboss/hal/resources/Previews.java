@@ -327,6 +327,9 @@ public interface Previews extends ClientBundleWithLookup {
     @Source("previews/runtime/management-operations.html")
     ExternalTextResource runtimeManagementOperations();
 
+    @Source("previews/runtime/metrics.html")
+    ExternalTextResource runtimeMetrics();
+
     @Source("previews/runtime/messaging.html")
     ExternalTextResource runtimeMessaging();
 